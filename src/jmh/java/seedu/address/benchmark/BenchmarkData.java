@@ -0,0 +1,36 @@
+package seedu.address.benchmark;
+
+import seedu.address.model.CliTutors;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Builds the data the benchmarks run against.
+ * The data only depends on the requested size, so every run of a benchmark sees the same data.
+ */
+public class BenchmarkData {
+    /** Seed of the generator behind all benchmark data */
+    public static final long SEED = 20201018;
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns a new generator for the benchmark data.
+     */
+    public static SyntheticDataGenerator newGenerator() {
+        return new SyntheticDataGenerator(SEED);
+    }
+
+    /**
+     * Returns a book with {@code size} records from {@code generator}, split evenly between tutors and students.
+     */
+    public static CliTutors cliTutors(SyntheticDataGenerator generator, int size) {
+        return generator.generateCliTutors(size - size / 2, size / 2);
+    }
+
+    /**
+     * Returns a book with {@code size} records, split evenly between tutors and students.
+     */
+    public static CliTutors cliTutors(int size) {
+        return cliTutors(newGenerator(), size);
+    }
+}
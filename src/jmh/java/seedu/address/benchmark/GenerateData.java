@@ -0,0 +1,32 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonCliTutorsStorage;
+
+/**
+ * Writes a synthetic CliTutors JSON data file, streaming the persons to it as they are generated.
+ * Usage: {@code GenerateData <data file> <tutor count> <student count> [seed]}
+ */
+public class GenerateData {
+    private GenerateData() {}
+
+    /**
+     * Generates the data file described by {@code args}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println("Usage: GenerateData <data file> <tutor count> <student count> [seed]");
+            System.exit(1);
+        }
+
+        int tutorCount = Integer.parseInt(args[1]);
+        int studentCount = Integer.parseInt(args[2]);
+        long seed = args.length == 4 ? Long.parseLong(args[3]) : BenchmarkData.SEED;
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        new JsonCliTutorsStorage(Paths.get(args[0]))
+                .saveCliTutors(generator.tutors(tutorCount), generator.students(studentCount));
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUALIFICATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Benchmarks tokenizing the arguments of an add command with a growing number of tags.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ArgumentTokenizerBenchmark {
+    private static final String[] TAGS = {"PM", "PS", "SM", "SP", "SC", "TM", "TP", "TC"};
+
+    @Param({"1", "8", "64"})
+    protected int tagCount;
+
+    private String args;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(" t n/Alex Yeoh p/87438807 g/m q/1 r/Prefers tutoring in the East");
+        for (int i = 0; i < tagCount; i++) {
+            builder.append(" t/").append(TAGS[i % TAGS.length]);
+        }
+        args = builder.toString();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        return ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_PHONE, PREFIX_GENDER, PREFIX_QUALIFICATION,
+                PREFIX_REMARK, PREFIX_TAG);
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUALIFICATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_REMARK;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.EditCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures how many commands per second {@code CliTutorsParser} parses from a script of generated commands,
+ * as when the parser is driven by scripted bulk input.
+ * The script mixes adds of tutors and students with edits and finds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class CliTutorsParserBenchmark {
+    private static final int SCRIPT_SIZE = 1_000;
+
+    private final CliTutorsParser parser = new CliTutorsParser();
+    private String[] script;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = BenchmarkData.newGenerator();
+        script = new String[SCRIPT_SIZE];
+        for (int i = 0; i < SCRIPT_SIZE; i++) {
+            switch (i % 4) {
+            case 0:
+                script[i] = toAddCommand(generator.nextTutor());
+                break;
+            case 1:
+                script[i] = toAddCommand(generator.nextStudent());
+                break;
+            case 2:
+                script[i] = EditCommand.COMMAND_WORD + " t " + (i + 1) + " " + PREFIX_PHONE
+                        + generator.nextTutor().getPhone().value;
+                break;
+            default:
+                Person person = generator.nextStudent();
+                script[i] = FindCommand.COMMAND_WORD + " s " + PREFIX_NAME
+                        + person.getName().fullName.split(" ")[0] + " " + PREFIX_GENDER
+                        + person.getGender().genderSymbol;
+                break;
+            }
+        }
+    }
+
+    private static String toAddCommand(Person person) {
+        StringBuilder builder = new StringBuilder(AddCommand.COMMAND_WORD)
+                .append(person instanceof Tutor ? " t " : " s ")
+                .append(PREFIX_NAME).append(person.getName().fullName).append(' ')
+                .append(PREFIX_PHONE).append(person.getPhone().value).append(' ')
+                .append(PREFIX_GENDER).append(person.getGender().genderSymbol).append(' ');
+        if (person instanceof Tutor) {
+            builder.append(PREFIX_QUALIFICATION).append(((Tutor) person).getQualification().index).append(' ');
+        }
+        if (!person.getRemark().description.isEmpty()) {
+            builder.append(PREFIX_REMARK).append(person.getRemark().description).append(' ');
+        }
+        return builder.append(PREFIX_TAG).append(person.getTags().stream()
+                .map(tag -> tag.tagName)
+                .collect(Collectors.joining(" ")))
+                .toString();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SCRIPT_SIZE)
+    public void parseScript(Blackhole blackhole) throws ParseException {
+        for (String command : script) {
+            blackhole.consume(parser.parseCommand(command));
+        }
+    }
+}
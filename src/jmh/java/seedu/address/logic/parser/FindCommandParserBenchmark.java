@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Benchmarks parsing a find command, and running it, which evaluates its {@code ChainedPredicate} on every tutor.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FindCommandParserBenchmark {
+    private static final String FIND_ARGS = " t n/Tan g/m q/1 t/PM t/PS";
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int bookSize;
+
+    private final FindCommandParser parser = new FindCommandParser();
+    private ModelManager model;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.cliTutors(bookSize), new UserPrefs());
+    }
+
+    @Benchmark
+    public FindCommand parse() throws ParseException {
+        return parser.parse(FIND_ARGS);
+    }
+
+    @Benchmark
+    public CommandResult parseAndExecute() throws ParseException, CommandException {
+        return parser.parse(FIND_ARGS).execute(model);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks the phone uniqueness check that every add and edit goes through.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CliTutorsBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int bookSize;
+
+    private CliTutors cliTutors;
+    private Phone studentPhone;
+    private Phone absentPhone;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = BenchmarkData.newGenerator();
+        cliTutors = BenchmarkData.cliTutors(generator, bookSize);
+        studentPhone = cliTutors.getStudentList().get(bookSize / 4).getPhone();
+        absentPhone = generator.nextTutor().getPhone();
+    }
+
+    /**
+     * Looks up a student's phone, which is only found after the tutors have been checked.
+     */
+    @Benchmark
+    public boolean hasPersonWithSamePhonePresent() {
+        return cliTutors.hasPersonWithSamePhone(studentPhone);
+    }
+
+    @Benchmark
+    public boolean hasPersonWithSamePhoneAbsent() {
+        return cliTutors.hasPersonWithSamePhone(absentPhone);
+    }
+}
@@ -0,0 +1,194 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.logic.parser.FindQueryParser;
+import seedu.address.logic.parser.PersonType;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.ChainedPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.GenderContainsGenderPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Qualification;
+import seedu.address.model.person.QualificationContainsQualificationPredicate;
+import seedu.address.model.person.QueryPredicate;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.TagsContainTagPredicate;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks matching tutors to a student, the way the match command does, and finding tutors by name and by
+ * attributes or with a boolean query, the way the find command does.
+ * Ranking the matched tutors, which used to be done by sorting the whole matched list, happens as part of the match.
+ *
+ * The rows found for the last few searches are cached, so each find benchmark goes round {@link #VARIANTS} different
+ * searches, more than the cache holds, so that every search is worked out afresh as a new search of the user's would
+ * be.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModelManagerBenchmark {
+    /** Number of different searches each find benchmark goes round, more than the searches whose rows are cached */
+    static final int VARIANTS = 64;
+    private static final String[] SUBJECTS = {"PE", "PM", "PS", "SB", "SC", "SE", "SG", "SH"};
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int bookSize;
+
+    private ModelManager model;
+    private Student student;
+    private List<Tag> studentTags;
+    private TagsContainTagPredicate predicate;
+    private final List<ChainedPredicate> namePredicates = new ArrayList<>();
+    private final List<ChainedPredicate> fuzzyNamePredicates = new ArrayList<>();
+    private final List<ChainedPredicate> attributePredicates = new ArrayList<>();
+    private final List<QueryPredicate> queryPredicates = new ArrayList<>();
+    private int nextVariant;
+
+    @Setup
+    public void setUp() throws ParseException {
+        model = new ModelManager(BenchmarkData.cliTutors(bookSize), new UserPrefs());
+        student = model.getFilteredStudentList().get(0);
+        studentTags = List.copyOf(student.getTags());
+        predicate = new TagsContainTagPredicate(studentTags);
+        FindQueryParser queryParser = new FindQueryParser(PersonType.TUTOR);
+        for (String name : namesOfTutors()) {
+            namePredicates.add(new ChainedPredicate.Builder()
+                    .addClause(new NameContainsKeywordsPredicate(List.of(name)))
+                    .build());
+            // a typo in the middle of the name, so that the trie is searched past the first mismatch
+            String misspeltName = name.substring(0, name.length() / 2) + "x" + name.substring(name.length() / 2 + 1);
+            fuzzyNamePredicates.add(new ChainedPredicate.Builder()
+                    .addClause(new FuzzyNamePredicate(misspeltName))
+                    .setNameFuzzy(true)
+                    .build());
+        }
+        for (int i = 0; i < VARIANTS; i++) {
+            String gender = i % 2 == 0 ? "F" : "M";
+            String qualification = String.valueOf(i / 2 % 4);
+            attributePredicates.add(new ChainedPredicate.Builder()
+                    .addClause(new GenderContainsGenderPredicate(List.of(new Gender(gender))))
+                    .addClause(new QualificationContainsQualificationPredicate(
+                            List.of(new Qualification(qualification))))
+                    .addClause(new TagsContainTagPredicate(List.of(Tag.of(SUBJECTS[i / 8 % SUBJECTS.length]))))
+                    .build());
+            queryPredicates.add(queryParser.parse("(" + SUBJECTS[i % SUBJECTS.length] + " or "
+                    + SUBJECTS[i / SUBJECTS.length % SUBJECTS.length] + ") and not q/" + qualification
+                    + " and g/" + gender));
+        }
+        // the indexes are built by the first searches, which is not what is measured
+        findTutorsByName();
+        findTutorsByAttributes();
+    }
+
+    /**
+     * Returns {@link #VARIANTS} different words of the names of the tutors, or as many as there are.
+     */
+    private List<String> namesOfTutors() {
+        Set<String> names = new LinkedHashSet<>();
+        for (Tutor tutor : model.getFilteredTutorList()) {
+            for (String word : tutor.getName().getCaseFoldedWords()) {
+                if (names.size() < VARIANTS && word.length() > 1) {
+                    names.add(word);
+                }
+            }
+            if (names.size() == VARIANTS) {
+                break;
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    private <T> T nextVariant(List<T> variants) {
+        nextVariant = (nextVariant + 1) % VARIANTS;
+        return variants.get(nextVariant % variants.size());
+    }
+
+    /**
+     * Matches tutors and shows the first page of them, which is what the user sees after a match command.
+     */
+    @Benchmark
+    public int updateMatchedTutorFirstPage() {
+        model.updateMatchedTutor(predicate, studentTags, student);
+        int shown = model.getMatchedTutorList().size();
+        model.clearMatchedTutor();
+        return shown;
+    }
+
+    /**
+     * Matches tutors and then shows every one of them in ranked order.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int updateMatchedTutorAllPages() {
+        model.updateMatchedTutor(predicate, studentTags, student);
+        model.filterMatchedTutor(person -> true);
+        int shown = model.getMatchedTutorList().size();
+        model.clearMatchedTutor();
+        return shown;
+    }
+
+    /**
+     * Finds the tutors with a name, as {@code find t n/NAME} does, and then lists all tutors again.
+     */
+    @Benchmark
+    public int findTutorsByName() {
+        model.updateFilteredTutorList(nextVariant(namePredicates));
+        int found = model.getFilteredTutorList().size();
+        model.updateFilteredTutorList(Model.PREDICATE_SHOW_ALL_TUTORS);
+        return found;
+    }
+
+    /**
+     * Finds and ranks the tutors with a name like a misspelt name, as {@code find t n/NAME~} does, and then lists
+     * all tutors again.
+     */
+    @Benchmark
+    public int findTutorsByFuzzyName() {
+        model.updateFilteredTutorList(nextVariant(fuzzyNamePredicates));
+        int found = model.getFilteredTutorList().size();
+        model.updateFilteredTutorList(Model.PREDICATE_SHOW_ALL_TUTORS);
+        return found;
+    }
+
+    /**
+     * Finds the tutors with a gender, a qualification and a tag, as {@code find t g/GENDER q/QUALIFICATION t/TAG}
+     * does, and then lists all tutors again.
+     */
+    @Benchmark
+    public int findTutorsByAttributes() {
+        model.updateFilteredTutorList(nextVariant(attributePredicates));
+        int found = model.getFilteredTutorList().size();
+        model.updateFilteredTutorList(Model.PREDICATE_SHOW_ALL_TUTORS);
+        return found;
+    }
+
+    /**
+     * Finds the tutors a boolean query is true for, as {@code find t (PM or SC) and not q/0 and g/F} does, and then
+     * lists all tutors again.
+     */
+    @Benchmark
+    public int findTutorsByQuery() {
+        model.updateFilteredTutorList(nextVariant(queryPredicates));
+        int found = model.getFilteredTutorList().size();
+        model.updateFilteredTutorList(Model.PREDICATE_SHOW_ALL_TUTORS);
+        return found;
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks replacing the students of a {@code UniqueStudentList}, whose check for duplicates should keep the time
+ * linear in {@code bookSize}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UniqueStudentListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int bookSize;
+
+    private List<Student> students;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = BenchmarkData.newGenerator();
+        students = generator.students(bookSize).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public UniqueStudentList setStudents() {
+        UniqueStudentList replacement = new UniqueStudentList();
+        replacement.setStudents(students);
+        return replacement;
+    }
+}
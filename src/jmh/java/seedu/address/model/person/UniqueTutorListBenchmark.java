@@ -0,0 +1,73 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Benchmarks adding, looking up and replacing tutors in a {@code UniqueTutorList}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueTutorListBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int bookSize;
+
+    private List<Tutor> tutors;
+    private UniqueTutorList uniqueTutorList;
+    private Tutor presentTutor;
+    private Tutor absentTutor;
+
+    @Setup
+    public void setUp() {
+        SyntheticDataGenerator generator = BenchmarkData.newGenerator();
+        tutors = generator.tutors(bookSize).collect(Collectors.toList());
+        uniqueTutorList = new UniqueTutorList();
+        uniqueTutorList.setTutors(tutors);
+        presentTutor = tutors.get(bookSize / 2);
+        absentTutor = generator.nextTutor();
+    }
+
+    /**
+     * Adds a tutor to the full list. The tutor is removed again, so every invocation sees the same list.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        uniqueTutorList.add(absentTutor);
+        uniqueTutorList.remove(absentTutor);
+    }
+
+    @Benchmark
+    public boolean containsPresent() {
+        return uniqueTutorList.contains(presentTutor);
+    }
+
+    @Benchmark
+    public boolean containsAbsent() {
+        return uniqueTutorList.contains(absentTutor);
+    }
+
+    /**
+     * Replaces the tutors of a new list, whose check for duplicates should keep the time linear in {@code bookSize}.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniqueTutorList setTutors() {
+        UniqueTutorList replacement = new UniqueTutorList();
+        replacement.setTutors(tutors);
+        return replacement;
+    }
+}
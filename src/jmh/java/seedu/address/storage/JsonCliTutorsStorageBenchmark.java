@@ -0,0 +1,64 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.CliTutors;
+import seedu.address.model.ReadOnlyCliTutors;
+
+/**
+ * Benchmarks reading and saving the whole JSON data file.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonCliTutorsStorageBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    protected int bookSize;
+
+    private Path folder;
+    private Path readFilePath;
+    private Path saveFilePath;
+    private CliTutors cliTutors;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("clitutors-benchmark");
+        readFilePath = folder.resolve("read.json");
+        saveFilePath = folder.resolve("save.json");
+        cliTutors = BenchmarkData.cliTutors(bookSize);
+        new JsonCliTutorsStorage(readFilePath).saveCliTutors(cliTutors);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readFilePath);
+        Files.deleteIfExists(saveFilePath);
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyCliTutors> read() throws DataConversionException {
+        return new JsonCliTutorsStorage(readFilePath).readCliTutors();
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        new JsonCliTutorsStorage(saveFilePath).saveCliTutors(cliTutors);
+    }
+}
@@ -0,0 +1,147 @@
+package seedu.address.ui;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.Collectors;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import seedu.address.benchmark.BenchmarkData;
+import seedu.address.model.person.Tutor;
+
+/**
+ * Measures how smoothly a {@code PersonListPanel} scrolls through a large list of tutors.
+ * Usage: {@code PersonListScrollBenchmark [tutor count] [frame count] [rows per frame]}
+ *
+ * The list is scrolled by the same number of rows in every frame, with the application's stylesheets applied.
+ * For each frame, the time from the start of the frame to the end of its layout is how long the list took to show
+ * the new rows, and the time since the previous frame gives the frame rate. Needs a display to run on.
+ */
+public class PersonListScrollBenchmark {
+    private static final int DEFAULT_TUTOR_COUNT = 50_000;
+    private static final int DEFAULT_FRAME_COUNT = 1_000;
+    private static final int DEFAULT_ROWS_PER_FRAME = 3;
+    /** Frames scrolled before measuring, while the cells are created and the code is compiled */
+    private static final int WARMUP_FRAMES = 200;
+    private static final double WIDTH = 450;
+    private static final double HEIGHT = 800;
+    private static final String[] STYLESHEETS = {"Fonts.css", "DarkTheme.css", "Extensions.css"};
+    private static final double NANOS_PER_MILLI = 1_000_000;
+
+    private final int rowsPerFrame;
+    private final long[] updateTimes;
+    private final long[] frameIntervals;
+    private final CountDownLatch finished = new CountDownLatch(1);
+
+    private Stage stage;
+    private ListView<?> listView;
+    private AnimationTimer timer;
+    private int frame = -WARMUP_FRAMES;
+    private int topRow;
+    private long frameStart;
+    private long previousFrameStart;
+    private boolean isInFrame;
+
+    private PersonListScrollBenchmark(int frameCount, int rowsPerFrame) {
+        this.rowsPerFrame = rowsPerFrame;
+        updateTimes = new long[frameCount];
+        frameIntervals = new long[frameCount];
+    }
+
+    /**
+     * Runs the benchmark described by {@code args} and prints its results.
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int tutorCount = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_TUTOR_COUNT;
+        int frameCount = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_FRAME_COUNT;
+        int rowsPerFrame = args.length > 2 ? Integer.parseInt(args[2]) : DEFAULT_ROWS_PER_FRAME;
+
+        ObservableList<Tutor> tutors = FXCollections.observableArrayList(
+                BenchmarkData.newGenerator().tutors(tutorCount).collect(Collectors.toList()));
+        PersonListScrollBenchmark benchmark = new PersonListScrollBenchmark(frameCount, rowsPerFrame);
+        Platform.startup(() -> benchmark.start(tutors));
+        benchmark.finished.await();
+        Platform.exit();
+
+        System.out.printf("Scrolled %d tutors by %d rows per frame for %d frames%n", tutorCount, rowsPerFrame,
+                frameCount);
+        System.out.printf("Frames per second: %.1f%n",
+                frameCount * 1000 / (Arrays.stream(benchmark.frameIntervals).sum() / NANOS_PER_MILLI));
+        printPercentiles("List update time", benchmark.updateTimes);
+        printPercentiles("Frame interval", benchmark.frameIntervals);
+    }
+
+    private void start(ObservableList<Tutor> tutors) {
+        PersonListPanel<Tutor> panel = new PersonListPanel<>(tutors);
+        Scene scene = new Scene(panel.getRoot(), WIDTH, HEIGHT);
+        for (String stylesheet : STYLESHEETS) {
+            scene.getStylesheets().add(
+                    UiPart.class.getResource(UiPart.FXML_FILE_FOLDER + stylesheet).toExternalForm());
+        }
+        listView = (ListView<?>) scene.lookup("#personListView");
+        scene.addPostLayoutPulseListener(this::endFrame);
+
+        stage = new Stage();
+        stage.setScene(scene);
+        stage.show();
+
+        timer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                startFrame();
+            }
+        };
+        timer.start();
+    }
+
+    /**
+     * Scrolls the list at the start of a frame, before its layout.
+     */
+    private void startFrame() {
+        topRow = (topRow + rowsPerFrame) % listView.getItems().size();
+        frameStart = System.nanoTime();
+        listView.scrollTo(topRow);
+        isInFrame = true;
+    }
+
+    /**
+     * Records the frame once its layout, and so the update of the list, is done.
+     */
+    private void endFrame() {
+        if (!isInFrame) {
+            return;
+        }
+        isInFrame = false;
+
+        if (frame >= 0) {
+            updateTimes[frame] = System.nanoTime() - frameStart;
+            frameIntervals[frame] = frameStart - previousFrameStart;
+        }
+        previousFrameStart = frameStart;
+        frame++;
+
+        if (frame == updateTimes.length) {
+            timer.stop();
+            stage.close();
+            finished.countDown();
+        }
+    }
+
+    private static void printPercentiles(String title, long[] nanos) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        System.out.printf("%s (ms): mean %.2f, p50 %.2f, p95 %.2f, p99 %.2f, max %.2f%n", title,
+                Arrays.stream(sorted).average().orElse(0) / NANOS_PER_MILLI,
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                sorted[sorted.length - 1] / NANOS_PER_MILLI);
+    }
+
+    private static double percentile(long[] sorted, double fraction) {
+        return sorted[(int) Math.ceil(fraction * sorted.length) - 1] / NANOS_PER_MILLI;
+    }
+}
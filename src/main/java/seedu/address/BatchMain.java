@@ -0,0 +1,121 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchRunner;
+import seedu.address.logic.BatchRunner.BatchReport;
+import seedu.address.model.CliTutors;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * The entry point for executing a script of commands without starting the UI, e.g. for nightly syncs.
+ * Usage: {@code BatchMain [--config <config file>] [--checkpoint <commands between saves>] [<script file>]}
+ *
+ * The script has one command per line, and is read from standard input if no script file is given. The commands
+ * are executed against the data file the application uses with the same config. The changes are saved every
+ * {@code --checkpoint} commands, or only at the end if it is not given.
+ * Exits with status 1 if any command failed, and with status 2 if the script could not be run at all.
+ */
+public class BatchMain {
+    private static final String USAGE =
+            "Usage: BatchMain [--config <config file>] [--checkpoint <commands between saves>] [<script file>]";
+    private static final String OPTION_CONFIG = "--config";
+    private static final String OPTION_CHECKPOINT = "--checkpoint";
+    private static final String STANDARD_INPUT = "-";
+    private static final int EXIT_COMMANDS_FAILED = 1;
+    private static final int EXIT_ERROR = 2;
+
+    private Path configPath;
+    private Path scriptPath;
+    private int checkpointInterval;
+
+    private BatchMain() {}
+
+    /**
+     * Runs the script described by {@code args} and exits with its status.
+     */
+    public static void main(String[] args) {
+        BatchMain batchMain = new BatchMain();
+        if (!batchMain.parseArgs(args)) {
+            System.err.println(USAGE);
+            System.exit(EXIT_ERROR);
+        }
+        System.exit(batchMain.run());
+    }
+
+    /**
+     * Reads the options and the script file from {@code args}. Returns false if they are not valid.
+     */
+    private boolean parseArgs(String[] args) {
+        try {
+            for (int i = 0; i < args.length; i++) {
+                if (args[i].equals(OPTION_CONFIG) && i + 1 < args.length && FileUtil.isValidPath(args[i + 1])) {
+                    configPath = Paths.get(args[++i]);
+                } else if (args[i].equals(OPTION_CHECKPOINT) && i + 1 < args.length) {
+                    checkpointInterval = Integer.parseInt(args[++i]);
+                } else if (scriptPath == null && !args[i].startsWith("--") && FileUtil.isValidPath(args[i])) {
+                    scriptPath = args[i].equals(STANDARD_INPUT) ? null : Paths.get(args[i]);
+                } else {
+                    return false;
+                }
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return checkpointInterval >= 0;
+    }
+
+    private int run() {
+        Config config = MainApp.initConfig(configPath);
+        LogsCenter.init(config);
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = MainApp.initPrefs(userPrefsStorage);
+        Storage storage = new StorageManager(MainApp.initCliTutorsStorage(userPrefs), userPrefsStorage);
+
+        // unlike the application, refuse to run rather than overwrite a data file that cannot be read
+        ReadOnlyCliTutors initialData;
+        try {
+            initialData = storage.readCliTutors().orElseGet(CliTutors::new);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not read data file " + storage.getCliTutorsFilePath() + ": "
+                    + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        }
+        Model model = new ModelManager(initialData, userPrefs);
+
+        try (BufferedReader script = openScript()) {
+            BatchReport report = new BatchRunner(model, storage, checkpointInterval).run(script);
+            storage.compactCliTutors(model.getCliTutors());
+            report.getFailures().forEach(System.out::println);
+            System.out.println(report.getSummary());
+            return report.getFailures().isEmpty() ? 0 : EXIT_COMMANDS_FAILED;
+        } catch (IOException e) {
+            System.err.println("Could not run script: " + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        }
+    }
+
+    private BufferedReader openScript() throws IOException {
+        return scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptPath, StandardCharsets.UTF_8);
+    }
+}
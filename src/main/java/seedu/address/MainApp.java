@@ -1,27 +1,32 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.CliTutors;
+import seedu.address.model.DataFileFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyCliTutors;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryCliTutorsStorage;
 import seedu.address.storage.CliTutorsStorage;
 import seedu.address.storage.JsonCliTutorsStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
@@ -55,18 +60,73 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        CliTutorsStorage cliTutorsStorage = new JsonCliTutorsStorage(userPrefs.getCliTutorsFilePath());
-        storage = new StorageManager(cliTutorsStorage, userPrefsStorage);
+        CliTutorsStorage cliTutorsStorage = initCliTutorsStorage(userPrefs);
+        storage = new StorageManager(cliTutorsStorage, userPrefsStorage, true);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Platform::runLater);
 
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns a {@code CliTutorsStorage} for the data file in {@code userPrefs}, in the format chosen there. <br>
+     * The binary format keeps its snapshot in a file of its own, next to the JSON data file, which is left as it is.
+     * If the binary format is chosen but there is no snapshot yet, the JSON data file is converted into one. If the
+     * JSON format is chosen but a snapshot was left by the binary format, the snapshot holds the latest data, so it is
+     * converted back into the JSON data file and then deleted. The storage of the format the latest data is in will
+     * be used instead if a conversion fails, so that it is not overwritten with older data.
+     */
+    static CliTutorsStorage initCliTutorsStorage(ReadOnlyUserPrefs userPrefs) {
+        Path cliTutorsFilePath = userPrefs.getCliTutorsFilePath();
+        Path snapshotFilePath = BinaryCliTutorsStorage.getSnapshotFilePath(cliTutorsFilePath);
+        try {
+            // a snapshot may have been written over the JSON data file by an older version
+            if (FileUtil.isFileExists(cliTutorsFilePath) && BinaryCliTutorsStorage.isBinarySnapshot(cliTutorsFilePath)
+                    && !FileUtil.isFileExists(snapshotFilePath)) {
+                logger.info("Moving binary snapshot " + cliTutorsFilePath + " to " + snapshotFilePath);
+                FileUtil.moveFile(cliTutorsFilePath, snapshotFilePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to move binary snapshot, will keep using it : " + StringUtil.getDetails(e));
+            return new BinaryCliTutorsStorage(cliTutorsFilePath);
+        }
+
+        if (userPrefs.getCliTutorsFileFormat() == DataFileFormat.JSON) {
+            return initJsonCliTutorsStorage(cliTutorsFilePath, snapshotFilePath);
+        }
+
+        try {
+            if (!FileUtil.isFileExists(snapshotFilePath) && FileUtil.isFileExists(cliTutorsFilePath)) {
+                logger.info("Converting data file " + cliTutorsFilePath + " from JSON to binary");
+                BinaryCliTutorsStorage.convertFromJson(cliTutorsFilePath, snapshotFilePath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert data file to binary, will keep using JSON : "
+                    + StringUtil.getDetails(e));
+            return new JsonCliTutorsStorage(cliTutorsFilePath);
+        }
+        return new BinaryCliTutorsStorage(snapshotFilePath);
+    }
+
+    private static CliTutorsStorage initJsonCliTutorsStorage(Path cliTutorsFilePath, Path snapshotFilePath) {
+        try {
+            if (FileUtil.isFileExists(snapshotFilePath)) {
+                logger.info("Converting binary snapshot " + snapshotFilePath + " back to JSON");
+                BinaryCliTutorsStorage.convertToJson(snapshotFilePath, cliTutorsFilePath);
+                Files.delete(snapshotFilePath);
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert binary snapshot to JSON, will keep using binary : "
+                    + StringUtil.getDetails(e));
+            return new BinaryCliTutorsStorage(snapshotFilePath);
+        }
+        return new JsonCliTutorsStorage(cliTutorsFilePath);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -101,7 +161,7 @@ public class MainApp extends Application {
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
      * if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
+    protected static Config initConfig(Path configFilePath) {
         Config initializedConfig;
         Path configFilePathUsed;
 
@@ -137,7 +197,7 @@ public class MainApp extends Application {
      * or a new {@code UserPrefs} with default configuration if errors occur when
      * reading from the file.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+    protected static UserPrefs initPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using prefs file : " + prefsFilePath);
 
@@ -173,10 +233,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
+        logic.shutdown();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.compactCliTutors(model.getCliTutors());
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
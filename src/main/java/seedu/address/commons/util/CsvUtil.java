@@ -0,0 +1,132 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes records of comma-separated values, one record at a time, as described in RFC 4180.
+ * A field that contains a comma, a double quote or a line break is enclosed in double quotes, with any double quote
+ * in it doubled.
+ */
+public class CsvUtil {
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quoted field is not closed before the end of the file";
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final String LINE_SEPARATOR = "\r\n";
+
+    private CsvUtil() {}
+
+    /**
+     * Reads the next record from {@code reader}, or returns null if there are no more.
+     * A blank line is read as a record with one empty field.
+     *
+     * @throws IOException if {@code reader} cannot be read, or ends inside a quoted field.
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        if (line.indexOf(QUOTE) == -1) {
+            // the common case, with no quoted fields to unescape
+            int start = 0;
+            for (int end = line.indexOf(SEPARATOR); end != -1; end = line.indexOf(SEPARATOR, start)) {
+                fields.add(line.substring(start, end));
+                start = end + 1;
+            }
+            fields.add(line.substring(start));
+            return fields;
+        }
+
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        int i = 0;
+        while (true) {
+            if (i == line.length()) {
+                if (!isQuoted) {
+                    break;
+                }
+                // the quoted field goes on to the next line
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IOException(MESSAGE_UNCLOSED_QUOTE);
+                }
+                field.append('\n');
+                i = 0;
+                continue;
+            }
+
+            char c = line.charAt(i++);
+            if (isQuoted && c == QUOTE) {
+                if (i < line.length() && line.charAt(i) == QUOTE) {
+                    field.append(QUOTE);
+                    i++;
+                } else {
+                    isQuoted = false;
+                }
+            } else if (isQuoted) {
+                field.append(c);
+            } else if (c == QUOTE) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Writes {@code fields} as one record to {@code writer}, quoting the fields that need it.
+     */
+    public static void writeRecord(Writer writer, List<String> fields) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writeField(writer, fields.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private static void writeField(Writer writer, String field) throws IOException {
+        if (!needsQuotes(field)) {
+            writer.write(field);
+            return;
+        }
+
+        writer.write(QUOTE);
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == QUOTE) {
+                writer.write(QUOTE);
+            }
+            writer.write(c);
+        }
+        writer.write(QUOTE);
+    }
+
+    private static boolean needsQuotes(String field) {
+        for (int i = 0; i < field.length(); i++) {
+            char c = field.charAt(i);
+            if (c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -39,6 +39,58 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the fewest characters that have to be inserted, deleted or substituted in {@code word} to turn it into
+     * the start of {@code text}, that is, the least edit distance between {@code word} and any prefix of {@code text}.
+     * Case is not ignored.
+     *   <br>examples:<pre>
+     *       prefixEditDistance("charl", "charlotte") == 0
+     *       prefixEditDistance("charlote", "charlotte") == 1
+     *       prefixEditDistance("chrl", "charlotte") == 1
+     *       prefixEditDistance("carol", "charlotte") == 2
+     *       </pre>
+     */
+    public static int prefixEditDistance(String word, String text) {
+        requireNonNull(word);
+        requireNonNull(text);
+        int[] row = firstEditDistanceRow(word);
+        int distance = row[word.length()];
+        for (int i = 0; i < text.length() && distance > 0; i++) {
+            row = nextEditDistanceRow(word, row, text.charAt(i));
+            distance = Math.min(distance, row[word.length()]);
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the row of the edit distance table of {@code word} against an empty text.
+     * Element {@code i} of a row is the edit distance between the first {@code i} characters of {@code word} and the
+     * text, so the last element is the edit distance between the whole of {@code word} and the text.
+     */
+    public static int[] firstEditDistanceRow(String word) {
+        int[] row = new int[word.length() + 1];
+        for (int i = 0; i < row.length; i++) {
+            row[i] = i;
+        }
+        return row;
+    }
+
+    /**
+     * Returns the row of the edit distance table of {@code word} against a text that is one character {@code c}
+     * longer than the text of {@code row}.
+     *
+     * @see #firstEditDistanceRow(String)
+     */
+    public static int[] nextEditDistanceRow(String word, int[] row, char c) {
+        int[] nextRow = new int[row.length];
+        nextRow[0] = row[0] + 1;
+        for (int i = 1; i < row.length; i++) {
+            int substitutionCost = word.charAt(i - 1) == c ? 0 : 1;
+            nextRow[i] = Math.min(Math.min(nextRow[i - 1], row[i]) + 1, row[i - 1] + substitutionCost);
+        }
+        return nextRow;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
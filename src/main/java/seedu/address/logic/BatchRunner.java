@@ -0,0 +1,187 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.CliTutorsParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CliTutorsChange;
+import seedu.address.model.Model;
+import seedu.address.storage.Storage;
+
+/**
+ * Executes a script of commands, one per line, without a UI.
+ * Unlike {@link LogicManager#execute(String)}, the changes are not saved after every command, but every
+ * {@code checkpointInterval} commands and once at the end, so that long scripts are not held up by saving.
+ * Blank lines and lines starting with {@value #COMMENT_START} are skipped.
+ */
+public class BatchRunner {
+    public static final String COMMENT_START = "#";
+
+    private final Logger logger = LogsCenter.getLogger(BatchRunner.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final CliTutorsParser cliTutorsParser = new CliTutorsParser();
+    /** Number of commands between saves, or 0 to only save at the end */
+    private final int checkpointInterval;
+
+    /**
+     * Creates a {@code BatchRunner} that executes commands against {@code model} and saves them to {@code storage}
+     * every {@code checkpointInterval} commands, or only at the end if it is 0.
+     */
+    public BatchRunner(Model model, Storage storage, int checkpointInterval) {
+        checkArgument(checkpointInterval >= 0);
+        this.model = model;
+        this.storage = storage;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Executes the commands read from {@code script} until it ends or an exit command is executed, and saves them.
+     * A command that fails is recorded in the returned report, and the commands after it are still executed.
+     *
+     * @throws IOException if the script cannot be read or the changes cannot be saved. The changes of the commands
+     *     executed before the last successful save are kept in storage.
+     */
+    public BatchReport run(BufferedReader script) throws IOException {
+        long startTime = System.nanoTime();
+        List<LineFailure> failures = new ArrayList<>();
+        int commandCount = 0;
+        int commandsSinceSave = 0;
+        int lineNumber = 0;
+
+        String line;
+        while ((line = script.readLine()) != null) {
+            lineNumber++;
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            commandCount++;
+            commandsSinceSave++;
+            try {
+                CommandResult commandResult = cliTutorsParser.parseCommand(commandText).execute(model);
+                if (commandResult.isExit()) {
+                    break;
+                }
+            } catch (CommandException | ParseException e) {
+                failures.add(new LineFailure(lineNumber, commandText, e.getMessage()));
+            }
+
+            if (commandsSinceSave == checkpointInterval) {
+                save();
+                commandsSinceSave = 0;
+            }
+        }
+        save();
+
+        BatchReport report = new BatchReport(commandCount, failures, System.nanoTime() - startTime);
+        logger.info(report.getSummary());
+        return report;
+    }
+
+    private void save() throws IOException {
+        List<CliTutorsChange> unsavedChanges = model.getUnsavedChanges();
+        if (unsavedChanges.isEmpty()) {
+            return;
+        }
+        storage.saveCliTutorsChanges(model.getCliTutors(), unsavedChanges);
+        model.markCliTutorsSaved();
+    }
+
+    /**
+     * The outcome of running a script: how many commands were executed, which of them failed, and how long it took.
+     */
+    public static class BatchReport {
+        public static final String MESSAGE_SUMMARY =
+                "Executed %d commands (%d succeeded, %d failed) in %.2f s, %.0f commands/s";
+
+        private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+        private final int commandCount;
+        private final List<LineFailure> failures;
+        private final long elapsedNanos;
+
+        BatchReport(int commandCount, List<LineFailure> failures, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.failures = Collections.unmodifiableList(failures);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public int getSuccessCount() {
+            return commandCount - failures.size();
+        }
+
+        public List<LineFailure> getFailures() {
+            return failures;
+        }
+
+        public long getElapsedNanos() {
+            return elapsedNanos;
+        }
+
+        /**
+         * Returns the number of commands executed per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount * NANOS_PER_SECOND / elapsedNanos;
+        }
+
+        /**
+         * Returns a one-line summary of the run, for the user.
+         */
+        public String getSummary() {
+            return String.format(MESSAGE_SUMMARY, commandCount, getSuccessCount(), failures.size(),
+                    elapsedNanos / NANOS_PER_SECOND, getThroughput());
+        }
+    }
+
+    /**
+     * A command in a script that failed, with the message it failed with.
+     */
+    public static class LineFailure {
+        public static final String MESSAGE_LINE_FAILED = "Line %d: %s%n  %s";
+
+        private final int lineNumber;
+        private final String commandText;
+        private final String message;
+
+        LineFailure(int lineNumber, String commandText, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        public int getLineNumber() {
+            return lineNumber;
+        }
+
+        public String getCommandText() {
+            return commandText;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(MESSAGE_LINE_FAILED, lineNumber, commandText, message);
+        }
+    }
+}
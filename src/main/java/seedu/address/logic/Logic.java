@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -24,6 +26,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command like {@link #execute(String)}, but without waiting for it to finish if this Logic
+     * executes commands in the background.
+     * The returned future is completed with the result, or with the {@code CommandException} or
+     * {@code ParseException} of a failed command, on the thread the UI runs on, once the lists returned by this
+     * Logic show the changes made by the command.
+     * Cancelling the future cancels the command if it has not started changing anything yet. Once it has, the future
+     * cannot be cancelled, and is completed with the result of the command as usual.
+     */
+    CompletableFuture<CommandResult> executeInBackground(String commandText);
+
     /**
      * Returns the CliTutors.
      *
@@ -54,4 +67,15 @@ public interface Logic {
      * Set the user prefs' GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets the handler to be given the error message of a save that failed after its command had returned.
+     * The handler may be called from a thread other than the JavaFX application thread.
+     */
+    void setSaveErrorHandler(Consumer<String> saveErrorHandler);
+
+    /**
+     * Stops executing commands, after waiting for the command being executed in the background, if any, to finish.
+     */
+    void shutdown();
 }
@@ -2,6 +2,14 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -12,6 +20,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.CliTutorsParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyCliTutors;
 import seedu.address.model.person.Student;
@@ -23,33 +32,146 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_COMMAND_CANCELLED = "Command cancelled";
+    private static final String COMMAND_THREAD_NAME = "CliTutors command";
+    /** How long to wait for the command being executed in the background to finish when shutting down */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final CliTutorsParser cliTutorsParser;
+    /** Thread the commands are executed on in the background, or null if they are executed on the caller's thread */
+    private final ExecutorService commandExecutor;
+    /** Runs the code that updates the UI, on the thread the UI runs on */
+    private final Executor uiExecutor;
+    private final MirroredList<Tutor> filteredTutors;
+    private final MirroredList<Student> filteredStudents;
+    private final MirroredList<Tutor> matchedTutors;
+    /** The result of the command being executed in the background, which tells whether it has been cancelled */
+    private BackgroundCommand commandInBackground;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage},
+     * which executes commands on the caller's thread.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
         this.storage = storage;
         cliTutorsParser = new CliTutorsParser();
+        commandExecutor = null;
+        uiExecutor = Runnable::run;
+        filteredTutors = null;
+        filteredStudents = null;
+        matchedTutors = null;
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which executes commands
+     * in the background on a thread of its own and updates the UI with {@code uiExecutor},
+     * e.g. {@code Platform::runLater}.
+     * From then on, the model may only be changed through this {@code LogicManager}.
+     */
+    public LogicManager(Model model, Storage storage, Executor uiExecutor) {
+        this.model = model;
+        this.storage = storage;
+        this.uiExecutor = uiExecutor;
+        cliTutorsParser = new CliTutorsParser();
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, COMMAND_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        filteredTutors = new MirroredList<>(model.getFilteredTutorList());
+        filteredStudents = new MirroredList<>(model.getFilteredStudentList());
+        matchedTutors = new MirroredList<>(model.getMatchedTutorList());
+    }
+
+    private boolean isInBackground() {
+        return commandExecutor != null;
     }
 
+    /**
+     * {@inheritDoc}
+     * If this Logic executes commands in the background, the lists it returns show the changes made by the command
+     * only once {@code uiExecutor} has run the updates.
+     */
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeCommand(commandText);
+        } finally {
+            if (isInBackground()) {
+                filteredTutors.publish(uiExecutor);
+                filteredStudents.publish(uiExecutor);
+                matchedTutors.publish(uiExecutor);
+            }
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeInBackground(String commandText) {
+        BackgroundCommand result = new BackgroundCommand();
+        if (!isInBackground()) {
+            completeWithResult(result, commandText);
+            return result;
+        }
+
+        // the updates of the lists are queued in uiExecutor before the result, so the result is seen after them
+        Future<?> task = commandExecutor.submit(() -> {
+            CompletableFuture<CommandResult> commandResult = new CompletableFuture<>();
+            synchronized (this) {
+                commandInBackground = result;
+                completeWithResult(commandResult, commandText);
+                commandInBackground = null;
+            }
+            uiExecutor.execute(() -> commandResult.whenComplete((value, error) -> {
+                if (error == null) {
+                    result.complete(value);
+                } else {
+                    result.completeExceptionally(error);
+                }
+            }));
+        });
+        result.whenComplete((unused1, unused2) -> {
+            // a command that has started is not interrupted, as that could also interrupt the saving of its changes
+            if (result.isCancelled()) {
+                task.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    private void completeWithResult(CompletableFuture<CommandResult> result, String commandText) {
+        try {
+            result.complete(execute(commandText));
+        } catch (CommandException | ParseException | RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = cliTutorsParser.parseCommand(commandText);
+        // the last chance to cancel the command, as it cannot be stopped once it starts changing the model
+        if (commandInBackground != null && !commandInBackground.start()) {
+            logger.info("Cancelled command: " + commandText);
+            throw new CommandException(MESSAGE_COMMAND_CANCELLED);
+        }
         commandResult = command.execute(model);
 
-        try {
-            storage.saveCliTutors(model.getCliTutors());
-        } catch (IOException ioe) {
-            throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+        // read-only commands leave nothing to save
+        List<CliTutorsChange> unsavedChanges = model.getUnsavedChanges();
+        if (!unsavedChanges.isEmpty()) {
+            try {
+                storage.saveCliTutorsChanges(model.getCliTutors(), unsavedChanges);
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+            model.markCliTutorsSaved();
         }
 
         return commandResult;
@@ -62,17 +184,17 @@ public class LogicManager implements Logic {
 
     @Override
     public ObservableList<Tutor> getFilteredTutorList() {
-        return model.getFilteredTutorList();
+        return isInBackground() ? filteredTutors.asUnmodifiableObservableList() : model.getFilteredTutorList();
     }
 
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return model.getFilteredStudentList();
+        return isInBackground() ? filteredStudents.asUnmodifiableObservableList() : model.getFilteredStudentList();
     }
 
     @Override
     public ObservableList<Tutor> getMatchedTutorList() {
-        return model.getMatchedTutorList();
+        return isInBackground() ? matchedTutors.asUnmodifiableObservableList() : model.getMatchedTutorList();
     }
 
     @Override
@@ -89,4 +211,52 @@ public class LogicManager implements Logic {
     public void setGuiSettings(GuiSettings guiSettings) {
         model.setGuiSettings(guiSettings);
     }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> saveErrorHandler) {
+        storage.setSaveErrorHandler(ioe -> saveErrorHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe));
+    }
+
+    @Override
+    public void shutdown() {
+        if (!isInBackground()) {
+            return;
+        }
+
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Gave up waiting for the command being executed to finish");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * The result of a command executed in the background, which can only be cancelled before the command starts
+     * changing the model, so that a cancelled command is never one whose changes are kept.
+     */
+    private static class BackgroundCommand extends CompletableFuture<CommandResult> {
+        private boolean hasStarted;
+
+        /**
+         * Marks the command as started, unless it has been cancelled. Returns false if it has been cancelled.
+         */
+        synchronized boolean start() {
+            if (isCancelled()) {
+                return false;
+            }
+            hasStarted = true;
+            return true;
+        }
+
+        /**
+         * Cancels the command, unless it has started, in which case it is left to finish and false is returned.
+         */
+        @Override
+        public synchronized boolean cancel(boolean mayInterruptIfRunning) {
+            return !hasStarted && super.cancel(mayInterruptIfRunning);
+        }
+    }
 }
@@ -0,0 +1,109 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a model list for the UI, for when the model is changed on a thread other than the one the UI runs on.
+ * The copy is only ever changed on the UI's thread, by publishing the changes made to the model list after a command.
+ *
+ * The changes are recorded as they are made, each with a copy of the persons it added, so that a command that
+ * changes a few persons only changes those persons in the copy. Once the persons added by the recorded changes
+ * outnumber the persons in the source, the source is copied whole instead.
+ */
+class MirroredList<T> {
+    private final ObservableList<T> source;
+    private final ObservableList<T> mirror;
+    private final ObservableList<T> unmodifiableMirror;
+    /** The changes made to the source since it was last published. Only used on the thread that changes it. */
+    private List<Edit<T>> pendingEdits = new ArrayList<>();
+    /** Number of persons added by the {@code pendingEdits} */
+    private int pendingAddedCount;
+    /** Whether the source is to be copied whole when next published, instead of publishing its changes */
+    private boolean isReset;
+
+    /**
+     * Creates a copy of {@code source}, which has to be created before the UI starts showing the copy.
+     */
+    MirroredList(ObservableList<T> source) {
+        this.source = source;
+        mirror = FXCollections.observableArrayList(source);
+        unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+        source.addListener((ListChangeListener<T>) this::record);
+    }
+
+    /**
+     * Returns an unmodifiable view of the copy, which the UI can show.
+     */
+    ObservableList<T> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Brings the copy up to date with the source as it is now, by having {@code uiExecutor} make the changes made to
+     * the source since it was last published in the copy. Does nothing if the source has not changed since then.
+     * Has to be called on the thread that changes the source.
+     */
+    void publish(Executor uiExecutor) {
+        if (isReset) {
+            List<T> snapshot = new ArrayList<>(source);
+            uiExecutor.execute(() -> mirror.setAll(snapshot));
+        } else if (!pendingEdits.isEmpty()) {
+            List<Edit<T>> edits = pendingEdits;
+            uiExecutor.execute(() -> edits.forEach(edit -> edit.applyTo(mirror)));
+        }
+        pendingEdits = new ArrayList<>();
+        pendingAddedCount = 0;
+        isReset = false;
+    }
+
+    /**
+     * Records the parts of {@code change}, in order, so that they can be made in the copy in the same order.
+     */
+    private void record(ListChangeListener.Change<? extends T> change) {
+        while (!isReset && change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated() || change.wasUpdated()) {
+                int to = change.getTo();
+                pendingEdits.add(new Edit<>(from, to - from, new ArrayList<>(change.getList().subList(from, to))));
+            } else {
+                pendingEdits.add(new Edit<>(from, change.getRemovedSize(), new ArrayList<>(change.getAddedSubList())));
+            }
+            pendingAddedCount += change.getTo() - from;
+            if (pendingAddedCount > source.size()) {
+                pendingEdits.clear();
+                isReset = true;
+            }
+        }
+    }
+
+    /**
+     * A change to a range of the list: the persons removed from {@code from} replaced by the persons added there.
+     * A single person replaced by another is set in place, so that the UI is told of one replacement.
+     */
+    private static class Edit<T> {
+        private final int from;
+        private final int removedSize;
+        private final List<T> added;
+
+        Edit(int from, int removedSize, List<T> added) {
+            this.from = from;
+            this.removedSize = removedSize;
+            this.added = added;
+        }
+
+        void applyTo(ObservableList<T> list) {
+            if (removedSize == 1 && added.size() == 1) {
+                list.set(from, added.get(0));
+                return;
+            }
+            list.remove(from, from + removedSize);
+            list.addAll(from, added);
+        }
+    }
+}
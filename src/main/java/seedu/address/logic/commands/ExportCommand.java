@@ -0,0 +1,81 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvFormat;
+import seedu.address.logic.parser.PersonType;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the tutors or students currently listed to a CSV file, which {@link ImportCommand} can read back.
+ * The rows are written to the file as they are converted, without building the whole file in memory first.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes the tutors or students currently listed to a CSV file\n"
+            + "Parameters: t/s FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " s data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d %2$ss to %3$s";
+    public static final String MESSAGE_WRITE_ERROR = "Could not write %1$s: %2$s";
+
+    private final PersonType personType;
+    private final Path filePath;
+
+    /**
+     * Creates an ExportCommand to write the listed {@code PersonType} to the CSV file at {@code filePath}.
+     */
+    public ExportCommand(PersonType personType, Path filePath) {
+        requireNonNull(personType);
+        requireNonNull(filePath);
+        this.personType = personType;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<? extends Person> persons = personType == PersonType.TUTOR
+                ? model.getFilteredTutorList()
+                : model.getFilteredStudentList();
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                CsvUtil.writeRecord(writer, PersonCsvFormat.getColumns(personType));
+                for (Person person : persons) {
+                    CsvUtil.writeRecord(writer, PersonCsvFormat.toRecord(person));
+                }
+                writer.flush();
+            });
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_WRITE_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), personType.toString().toLowerCase(),
+                filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExportCommand // instanceof handles nulls
+                && personType.equals(((ExportCommand) other).personType)
+                && filePath.equals(((ExportCommand) other).filePath));
+    }
+}
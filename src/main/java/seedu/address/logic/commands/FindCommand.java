@@ -26,18 +26,26 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
     public static final String COMMAND_ALIAS = "f";
 
+    /** Ends a name to find names that start like it, typos and all, instead of names with the same words */
+    public static final String FUZZY_NAME_MARKER = "~";
+
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all student/tutor whose names contain "
             + "the specified keyword (case-insensitive) and displays them as a list with index numbers.\n"
+            + "End the name with " + FUZZY_NAME_MARKER + " to also find names with words starting like it, "
+            + "allowing for typos, closest first.\n"
             + "Parameters: <t "
-            + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_NAME + "NAME[" + FUZZY_NAME_MARKER + "]] "
             + "[" + PREFIX_GENDER + "GENDER] "
             + "[" + PREFIX_QUALIFICATION + "QUALIFICATION] "
             + "[" + PREFIX_TAG + "TAG...]>\n"
             + "or <s "
-            + "[" + PREFIX_NAME + "NAME] "
+            + "[" + PREFIX_NAME + "NAME[" + FUZZY_NAME_MARKER + "]] "
             + "[" + PREFIX_GENDER + "GENDER] "
             + "[" + PREFIX_TAG + "TAG...]>\n"
-            + "Example: " + COMMAND_WORD + " t n/charlie";
+            + "The parameters can also be combined with and, or, not and parentheses, with a bare TAG for "
+            + PREFIX_TAG + "TAG and names of several words in quotes.\n"
+            + "Example: " + COMMAND_WORD + " t n/charlie, " + COMMAND_WORD + " t n/charlote" + FUZZY_NAME_MARKER
+            + ", " + COMMAND_WORD + " t (SM or SP) and not " + PREFIX_QUALIFICATION + "0 and " + PREFIX_GENDER + "F";
 
     private final Predicate<Person> predicate;
     private final PersonType personType;
@@ -0,0 +1,198 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvFormat;
+import seedu.address.logic.parser.PersonType;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+
+/**
+ * Adds the tutors or students in a CSV file to CLITutors.
+ *
+ * The rows are read from the file a batch at a time, and the rows of a batch are validated in parallel. Nothing is
+ * added if any row is invalid. A row with the phone of a person in CLITutors, or of an earlier row, is skipped.
+ * The persons are then all added in one batch update, so the lists shown are only changed once.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Adds the tutors or students in a CSV file, which has a header row naming its columns\n"
+            + "Columns of tutors: " + String.join(", ", PersonCsvFormat.getColumns(PersonType.TUTOR)) + "\n"
+            + "Columns of students: " + String.join(", ", PersonCsvFormat.getColumns(PersonType.STUDENT)) + "\n"
+            + "Parameters: t/s FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " t data/tutors.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d %2$ss from %3$s";
+    public static final String MESSAGE_SKIPPED_ROWS = "\nSkipped %1$d rows with phone numbers already taken";
+    public static final String MESSAGE_INVALID_ROWS = "Nothing was imported, as %1$d rows are invalid:";
+    public static final String MESSAGE_INVALID_ROW = "\nRow %1$d: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "The CSV file has no header row";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+
+    /** Number of invalid rows described in the error message, so that a bad file does not flood the display */
+    static final int MAX_REPORTED_INVALID_ROWS = 5;
+    private static final int BATCH_SIZE = 8192;
+    /** Batches with fewer rows than this are validated on the calling thread only */
+    private static final int MIN_PARALLEL_ROWS = 256;
+    /** Row number of the first row of persons, counting the header as row 1 as spreadsheets do */
+    private static final int FIRST_ROW_NUMBER = 2;
+
+    private final PersonType personType;
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the {@code PersonType} in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(PersonType personType, Path filePath) {
+        requireNonNull(personType);
+        requireNonNull(filePath);
+        this.personType = personType;
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        List<Person> persons = new ArrayList<>();
+        Set<Phone> phones = new HashSet<>();
+        List<String> invalidRows = new ArrayList<>();
+        int invalidRowCount = 0;
+        int skippedRowCount = 0;
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> header = CsvUtil.readRecord(reader);
+            if (header == null) {
+                throw new CommandException(MESSAGE_EMPTY_FILE);
+            }
+            PersonCsvFormat format = new PersonCsvFormat(personType, header);
+
+            int rowNumber = FIRST_ROW_NUMBER;
+            List<List<String>> batch;
+            while (!(batch = readBatch(reader)).isEmpty()) {
+                RowResult[] converted = toPersons(format, batch);
+                for (int i = 0; i < converted.length; i++, rowNumber++) {
+                    if (converted[i] == null) {
+                        continue; // a blank row
+                    }
+                    if (converted[i].error != null) {
+                        invalidRowCount++;
+                        if (invalidRows.size() < MAX_REPORTED_INVALID_ROWS) {
+                            invalidRows.add(String.format(MESSAGE_INVALID_ROW, rowNumber, converted[i].error));
+                        }
+                        continue;
+                    }
+
+                    Person person = converted[i].person;
+                    if (!phones.add(person.getPhone()) || model.hasPersonWithSamePhone(person.getPhone())) {
+                        skippedRowCount++;
+                        continue;
+                    }
+                    persons.add(person);
+                }
+            }
+        } catch (ParseException pe) {
+            throw new CommandException(pe.getMessage(), pe);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        if (invalidRowCount > 0) {
+            throw new CommandException(String.format(MESSAGE_INVALID_ROWS, invalidRowCount)
+                    + String.join("", invalidRows));
+        }
+
+        model.batchUpdate(() -> {
+            for (Person person : persons) {
+                if (personType == PersonType.TUTOR) {
+                    model.addTutor((Tutor) person);
+                } else {
+                    model.addStudent((Student) person);
+                }
+            }
+        });
+
+        String message = String.format(MESSAGE_SUCCESS, persons.size(), personType.toString().toLowerCase(),
+                filePath);
+        return new CommandResult(skippedRowCount == 0
+                ? message
+                : message + String.format(MESSAGE_SKIPPED_ROWS, skippedRowCount));
+    }
+
+    /**
+     * Reads up to {@code BATCH_SIZE} rows from {@code reader}, with blank rows as null.
+     */
+    private static List<List<String>> readBatch(BufferedReader reader) throws IOException {
+        List<List<String>> batch = new ArrayList<>();
+        List<String> record;
+        while (batch.size() < BATCH_SIZE && (record = CsvUtil.readRecord(reader)) != null) {
+            boolean isBlank = record.size() == 1 && record.get(0).trim().isEmpty();
+            batch.add(isBlank ? null : record);
+        }
+        return batch;
+    }
+
+    /**
+     * Converts the rows of {@code batch} in parallel, into the person of each row, or the message of why the row
+     * is invalid. Blank rows are left as null.
+     */
+    private static RowResult[] toPersons(PersonCsvFormat format, List<List<String>> batch) {
+        RowResult[] converted = new RowResult[batch.size()];
+        IntStream indices = IntStream.range(0, batch.size());
+        if (batch.size() >= MIN_PARALLEL_ROWS) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            if (batch.get(i) == null) {
+                return;
+            }
+            try {
+                converted[i] = new RowResult(format.toPerson(batch.get(i)), null);
+            } catch (ParseException pe) {
+                converted[i] = new RowResult(null, pe.getMessage());
+            }
+        });
+        return converted;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ImportCommand // instanceof handles nulls
+                && personType.equals(((ImportCommand) other).personType)
+                && filePath.equals(((ImportCommand) other).filePath));
+    }
+
+    /**
+     * The person converted from a row, or the message of why the row is invalid.
+     */
+    private static class RowResult {
+        private final Person person;
+        private final String error;
+
+        RowResult(Person person, String error) {
+            this.person = person;
+            this.error = error;
+        }
+    }
+}
@@ -31,6 +31,8 @@ public class MatchCommand extends Command {
 
     public static final String MESSAGE_MATCHED_SUCCESS = "Successfully matched %1$s";
     public static final String MESSAGE_MATCHED_FAILED = "Failed to match %1$s";
+    public static final String MESSAGE_SHOWING_MATCHED_TUTORS = "Showing %1$d of %2$d matched tutors. Enter "
+            + MoreCommand.COMMAND_WORD + " to show more.";
 
     private final Index index;
 
@@ -75,7 +77,12 @@ public class MatchCommand extends Command {
             throw new CommandException(String.format(MESSAGE_MATCHED_FAILED, studentToMatch.getName()));
         }
 
-        return new CommandResult(String.format(MESSAGE_MATCHED_SUCCESS, studentToMatch.getName()));
+        String message = String.format(MESSAGE_MATCHED_SUCCESS, studentToMatch.getName());
+        if (model.hasMoreMatchedTutors()) {
+            message += "\n" + String.format(MESSAGE_SHOWING_MATCHED_TUTORS, model.getMatchedTutorList().size(),
+                    model.getMatchedTutorCount());
+        }
+        return new CommandResult(message);
     }
 
     @Override
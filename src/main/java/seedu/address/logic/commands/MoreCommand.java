@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CliTutors;
+import seedu.address.model.Model;
+
+/**
+ * Shows the next page of tutors matched to a student, after the ones already in the match list.
+ */
+public class MoreCommand extends Command {
+
+    public static final String COMMAND_WORD = "more";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the next " + CliTutors.MATCHED_TUTOR_PAGE_SIZE
+            + " matched tutors in the match list\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Showing %1$d of %2$d matched tutors";
+    public static final String MESSAGE_NO_MORE_MATCHED_TUTORS = "All %1$d matched tutors are already shown";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasMoreMatchedTutors()) {
+            throw new CommandException(String.format(MESSAGE_NO_MORE_MATCHED_TUTORS, model.getMatchedTutorCount()));
+        }
+
+        model.showMoreMatchedTutors();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getMatchedTutorList().size(),
+                model.getMatchedTutorCount()));
+    }
+}
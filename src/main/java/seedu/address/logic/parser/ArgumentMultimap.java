@@ -1,9 +1,8 @@
 package seedu.address.logic.parser;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -14,8 +13,18 @@ import java.util.Optional;
  * can be inserted multiple times for the same prefix.
  */
 public class ArgumentMultimap {
-    /** Prefixes mapped to their respective arguments**/
-    private final Map<Prefix, List<String>> argMultimap = new HashMap<>();
+    /** Prefix the preamble is stored under */
+    static final Prefix PREAMBLE_PREFIX = new Prefix("");
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * Prefixes of the arguments in the order they were put, with each value at the same index in {@code argValues}.
+     * Commands have a handful of arguments, so looking through the arrays beats hashing the prefixes.
+     */
+    private Prefix[] argPrefixes = new Prefix[INITIAL_CAPACITY];
+    private String[] argValues = new String[INITIAL_CAPACITY];
+    private int size;
 
     /**
      * Associates the specified argument value with {@code prefix} key in this map.
@@ -25,17 +34,25 @@ public class ArgumentMultimap {
      * @param argValue Argument value to be associated with the specified prefix key
      */
     public void put(Prefix prefix, String argValue) {
-        List<String> argValues = getAllValues(prefix);
-        argValues.add(argValue);
-        argMultimap.put(prefix, argValues);
+        if (size == argPrefixes.length) {
+            argPrefixes = Arrays.copyOf(argPrefixes, size * 2);
+            argValues = Arrays.copyOf(argValues, size * 2);
+        }
+        argPrefixes[size] = prefix;
+        argValues[size] = argValue;
+        size++;
     }
 
     /**
      * Returns the last value of {@code prefix}.
      */
     public Optional<String> getValue(Prefix prefix) {
-        List<String> values = getAllValues(prefix);
-        return values.isEmpty() ? Optional.empty() : Optional.of(values.get(values.size() - 1));
+        for (int i = size - 1; i >= 0; i--) {
+            if (argPrefixes[i].equals(prefix)) {
+                return Optional.of(argValues[i]);
+            }
+        }
+        return Optional.empty();
     }
 
     /**
@@ -44,17 +61,20 @@ public class ArgumentMultimap {
      * Modifying the returned list will not affect the underlying data structure of the ArgumentMultimap.
      */
     public List<String> getAllValues(Prefix prefix) {
-        if (!argMultimap.containsKey(prefix)) {
-            return new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            if (argPrefixes[i].equals(prefix)) {
+                values.add(argValues[i]);
+            }
         }
-        return new ArrayList<>(argMultimap.get(prefix));
+        return values;
     }
 
     /**
      * Returns the preamble (text before the first valid prefix). Trims any leading/trailing spaces.
      */
     public String getPreamble() {
-        return getValue(new Prefix("")).orElse("");
+        return getValue(PREAMBLE_PREFIX).orElse("");
     }
 
     /**
@@ -63,6 +83,16 @@ public class ArgumentMultimap {
      * @param prefix Prefix key with which the specified argument value is to be associated
      */
     public void delete(Prefix prefix) {
-        argMultimap.remove(prefix);
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (!argPrefixes[i].equals(prefix)) {
+                argPrefixes[kept] = argPrefixes[i];
+                argValues[kept] = argValues[i];
+                kept++;
+            }
+        }
+        Arrays.fill(argPrefixes, kept, size, null);
+        Arrays.fill(argValues, kept, size, null);
+        size = kept;
     }
 }
@@ -2,11 +2,6 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -21,148 +16,91 @@ public class ArgumentTokenizer {
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
+     * A prefix is only recognized right after a space, e.g. {@code p/} is found in {@code "e/hi p/900"} but not in
+     * {@code "e/hip/900"}.
      *
      * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
      * @param prefixes   Prefixes to tokenize the arguments string with
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
-    }
-
-    /**
-     * Finds all zero-based prefix positions in the given arguments string.
-     *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
-     */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
+        ArgumentMultimap argMultimap = new ArgumentMultimap();
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE_PREFIX;
+        int valueStart = 0;
+
+        // all the prefixes are looked for together, in one pass over the spaces in the arguments string
+        for (int space = argsString.indexOf(' '); space != -1; space = argsString.indexOf(' ', space + 1)) {
+            int prefixStart = space + 1;
+            if (prefixStart < valueStart) {
+                continue; // the space is part of the previous prefix
+            }
 
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
+            Prefix prefix = findPrefixAt(argsString, prefixStart, prefixes);
+            if (prefix != null) {
+                putArgument(argMultimap, currentPrefix, argsString, valueStart, prefixStart);
+                currentPrefix = prefix;
+                valueStart = prefixStart + prefix.getPrefix().length();
+            }
         }
+        putArgument(argMultimap, currentPrefix, argsString, valueStart, argsString.length());
 
-        return positions;
-    }
-
-    /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
-     *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
+        return argMultimap;
     }
 
     /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * Returns the longest of {@code prefixes} that starts at {@code position} of {@code argsString}, or null if there
+     * is none.
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
-        ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            // Check if we are handling Tag Prefix
-            if (argPrefix.equals(PREFIX_TAG)) {
-                handleTags(argMultimap, argValue);
-            } else {
-                argMultimap.put(argPrefix, argValue);
+    private static Prefix findPrefixAt(String argsString, int position, Prefix... prefixes) {
+        Prefix found = null;
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            if (argsString.startsWith(prefixString, position)
+                    && (found == null || prefixString.length() > found.getPrefix().length())) {
+                found = prefix;
             }
         }
-
-        return argMultimap;
+        return found;
     }
 
     /**
-     * Handles the Tag arguments in the argument string specified by {@code argValue}.
+     * Puts the trimmed value of {@code prefix}, between {@code valueStart} and {@code valueEnd} of
+     * {@code argsString}, in {@code argMultimap}.
      */
-    private static void handleTags(ArgumentMultimap argMultimap, String argValue) {
-        // If user specifies two t/ Prefixes, take the latest occurrence
-        if (!argMultimap.getAllValues(PREFIX_TAG).isEmpty()) {
-            argMultimap.delete(PREFIX_TAG);
+    private static void putArgument(ArgumentMultimap argMultimap, Prefix prefix, String argsString,
+                                    int valueStart, int valueEnd) {
+        int start = valueStart;
+        int end = valueEnd;
+        // trimmed like String#trim, but without copying the untrimmed value first
+        while (start < end && argsString.charAt(start) <= ' ') {
+            start++;
         }
-        String[] tagList = argValue.split(" ");
-        for (String s: tagList) {
-            argMultimap.put(PREFIX_TAG, s);
+        while (end > start && argsString.charAt(end - 1) <= ' ') {
+            end--;
         }
-    }
-
-    /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
-     */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
 
-        return value.trim();
+        if (prefix.equals(PREFIX_TAG)) {
+            putTags(argMultimap, argsString, start, end);
+        } else {
+            argMultimap.put(prefix, argsString.substring(start, end));
+        }
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Puts each of the space-separated tags between {@code start} and {@code end} of {@code argsString} in
+     * {@code argMultimap}, replacing the tags of any earlier tag prefix.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+    private static void putTags(ArgumentMultimap argMultimap, String argsString, int start, int end) {
+        // If user specifies two t/ Prefixes, take the latest occurrence
+        argMultimap.delete(PREFIX_TAG);
+
+        int tagStart = start;
+        int space = argsString.indexOf(' ', tagStart);
+        while (space != -1 && space < end) {
+            argMultimap.put(PREFIX_TAG, argsString.substring(tagStart, space));
+            tagStart = space + 1;
+            space = argsString.indexOf(' ', tagStart);
         }
+        argMultimap.put(PREFIX_TAG, argsString.substring(tagStart, end));
     }
 }
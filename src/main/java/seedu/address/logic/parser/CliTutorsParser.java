@@ -12,11 +12,14 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
@@ -74,8 +77,14 @@ public class CliTutorsParser {
             // Fallthrough
         case MatchCommand.COMMAND_WORD:
             return new MatchCommandParser().parse(arguments);
+        case MoreCommand.COMMAND_WORD:
+            return new MoreCommand();
         case FilterCommand.COMMAND_WORD:
             return new FilterCommandParser().parse(arguments);
+        case ImportCommand.COMMAND_WORD:
+            return new ImportCommandParser().parse(arguments);
+        case ExportCommand.COMMAND_WORD:
+            return new ExportCommandParser().parse(arguments);
         default:
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
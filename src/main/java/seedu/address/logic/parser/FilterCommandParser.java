@@ -43,7 +43,6 @@ public class FilterCommandParser implements Parser<FilterCommand> {
      * @return The Predicate used to filter the match list
      */
     private Predicate<Person> generatePredicate(String args) throws ParseException {
-        Predicate<Person> predicate = x -> true;
         ChainedPredicate.Builder builder = new ChainedPredicate.Builder();
         int prefixCount = 0;
 
@@ -56,50 +55,43 @@ public class FilterCommandParser implements Parser<FilterCommand> {
 
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             prefixCount += 1;
-            predicate = handleName(predicate, builder, argMultimap);
+            handleName(builder, argMultimap);
         }
         if (argMultimap.getValue(PREFIX_GENDER).isPresent()) {
             prefixCount += 1;
-            predicate = handleGender(predicate, builder, argMultimap);
+            handleGender(builder, argMultimap);
         }
         if (argMultimap.getValue(PREFIX_QUALIFICATION).isPresent()) {
             prefixCount += 1;
-            predicate = handleQualification(predicate, builder, argMultimap);
+            handleQualification(builder, argMultimap);
         }
         if (prefixCount == 0) { // Checks if user entered any parameter
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
-        return builder.setPredicate(predicate).build();
+        return builder.build();
     }
 
-    private Predicate<Person> handleQualification(Predicate<Person> predicate, ChainedPredicate.Builder builder,
-                                                  ArgumentMultimap argMultimap) throws ParseException {
+    private void handleQualification(ChainedPredicate.Builder builder, ArgumentMultimap argMultimap)
+            throws ParseException {
         Qualification qualification =
                 ParserUtil.parseQualification(argMultimap.getValue(PREFIX_QUALIFICATION).get());
         Qualification[] qualificationList = new Qualification[] {qualification};
-        Predicate<Person> updatedPredicate = predicate
-                .and(new QualificationContainsQualificationPredicate(Arrays.asList(qualificationList)));
+        builder.addClause(new QualificationContainsQualificationPredicate(Arrays.asList(qualificationList)));
         builder.setQualification(qualification);
-        return updatedPredicate;
     }
 
-    private Predicate<Person> handleGender(Predicate<Person> predicate, ChainedPredicate.Builder builder,
-                                           ArgumentMultimap argMultimap) throws ParseException {
+    private void handleGender(ChainedPredicate.Builder builder, ArgumentMultimap argMultimap) throws ParseException {
         Gender gender = ParserUtil.parseGender(argMultimap.getValue(PREFIX_GENDER).get());
         Gender[] genderList = new Gender[] {gender};
-        Predicate<Person> updatedPredicate = predicate
-                .and(new GenderContainsGenderPredicate(Arrays.asList(genderList)));
+        builder.addClause(new GenderContainsGenderPredicate(Arrays.asList(genderList)));
         builder.setGender(gender);
-        return updatedPredicate;
     }
 
-    private Predicate<Person> handleName(Predicate<Person> predicate, ChainedPredicate.Builder builder,
-                                         ArgumentMultimap argMultimap) throws ParseException {
+    private void handleName(ChainedPredicate.Builder builder, ArgumentMultimap argMultimap) throws ParseException {
         Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
         String[] nameList = new String[] {name.toString()};
-        Predicate<Person> updatedPredicate = predicate.and(new NameContainsKeywordsPredicate(Arrays.asList(nameList)));
+        builder.addClause(new NameContainsKeywordsPredicate(Arrays.asList(nameList)));
         builder.setName(name);
-        return updatedPredicate;
     }
 }
@@ -20,6 +20,7 @@ import java.util.function.Predicate;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ChainedPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.GenderContainsGenderPredicate;
 import seedu.address.model.person.Name;
@@ -58,16 +59,37 @@ public class FindCommandParser implements Parser<FindCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE), pe);
         }
 
+        String[] personTypeAndQuery = trimmedArgs.split("\\s+", 2);
+        if (personTypeAndQuery.length > 1 && FindQueryParser.isQuery(personTypeAndQuery[1])) {
+            return new FindCommand(parseQuery(personTypeAndQuery[1], trimmedArgs, personType), personType);
+        }
         return new FindCommand(generatePredicate(trimmedArgs, personType), personType);
     }
 
+    /**
+     * Parses {@code query} as a boolean query, or, if it is not a valid one, {@code args} as a plain find command, so
+     * that a name with the word "and" in it can still be found without quotes.
+     *
+     * @throws ParseException if {@code args} is neither, with the reason the query is invalid.
+     */
+    private Predicate<Person> parseQuery(String query, String args, PersonType personType) throws ParseException {
+        try {
+            return new FindQueryParser(personType).parse(query);
+        } catch (ParseException queryException) {
+            try {
+                return generatePredicate(args, personType);
+            } catch (ParseException unused) {
+                throw queryException;
+            }
+        }
+    }
+
     /**
      * Generates the predicate to be used in FindCommand.
      *
      * @return The Predicate used to filter the student/tutor list
      */
     private Predicate<Person> generatePredicate(String args, PersonType personType) throws ParseException {
-        Predicate<Person> predicate = x -> true;
         ChainedPredicate.Builder builder = new ChainedPredicate.Builder();
         int prefixCount = 0;
 
@@ -80,39 +102,36 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
         if (argMultimap.getValue(PREFIX_NAME).isPresent()) {
             prefixCount += 1;
-            predicate = handleName(predicate, builder, argMultimap);
+            handleName(builder, argMultimap);
         }
         if (argMultimap.getValue(PREFIX_GENDER).isPresent()) {
             prefixCount += 1;
-            predicate = handleGender(predicate, builder, argMultimap);
+            handleGender(builder, argMultimap);
         }
         if (argMultimap.getValue(PREFIX_QUALIFICATION).isPresent()) {
             prefixCount += 1;
-            predicate = handleQualification(personType, predicate, builder, argMultimap);
+            handleQualification(personType, builder, argMultimap);
         }
         if (parseTags(argMultimap.getAllValues(PREFIX_TAG)).isPresent()) {
             prefixCount += 1;
-            predicate = handleTags(predicate, builder, argMultimap);
+            handleTags(builder, argMultimap);
         }
         if (prefixCount == 0) { // Checks if user entered any parameter
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
         }
 
-        return builder.setPredicate(predicate).build();
+        return builder.build();
     }
 
-    private Predicate<Person> handleTags(Predicate<Person> predicate, ChainedPredicate.Builder builder,
-                                         ArgumentMultimap argMultimap) throws ParseException {
+    private void handleTags(ChainedPredicate.Builder builder, ArgumentMultimap argMultimap) throws ParseException {
         Set<Tag> tags = ParserUtil.parseTags(argMultimap.getAllValues(PREFIX_TAG));
         List<Tag> parsedTags = new ArrayList<>(tags);
-        Predicate<Person> updatedPredicate = predicate.and(new TagsContainTagPredicate(parsedTags));
+        builder.addClause(new TagsContainTagPredicate(parsedTags));
         builder.setTags(parsedTags);
-        return updatedPredicate;
     }
 
-    private Predicate<Person> handleQualification(PersonType personType, Predicate<Person> predicate,
-                                                  ChainedPredicate.Builder builder,
-                                                  ArgumentMultimap argMultimap) throws ParseException {
+    private void handleQualification(PersonType personType, ChainedPredicate.Builder builder,
+                                     ArgumentMultimap argMultimap) throws ParseException {
         // Guard clause in case user searches student using qualification
         if (personType == PersonType.STUDENT) {
             throw new ParseException(MESSAGE_INVALID_INPUT_STUDENT_WITH_QUALIFICATION);
@@ -121,30 +140,33 @@ public class FindCommandParser implements Parser<FindCommand> {
         Qualification qualification =
                 ParserUtil.parseQualification(argMultimap.getValue(PREFIX_QUALIFICATION).get());
         Qualification[] qualificationList = new Qualification[] {qualification};
-        Predicate<Person> updatedPredicate = predicate
-                .and(new QualificationContainsQualificationPredicate(Arrays.asList(qualificationList)));
+        builder.addClause(new QualificationContainsQualificationPredicate(Arrays.asList(qualificationList)));
         builder.setQualification(qualification);
-        return updatedPredicate;
     }
 
-    private Predicate<Person> handleGender(Predicate<Person> predicate, ChainedPredicate.Builder builder,
-                                           ArgumentMultimap argMultimap) throws ParseException {
+    private void handleGender(ChainedPredicate.Builder builder, ArgumentMultimap argMultimap) throws ParseException {
         Gender gender = ParserUtil.parseGender(argMultimap.getValue(PREFIX_GENDER).get());
         Gender[] genderList = new Gender[] {gender};
-        Predicate<Person> updatedPredicate = predicate
-                .and(new GenderContainsGenderPredicate(Arrays.asList(genderList)));
+        builder.addClause(new GenderContainsGenderPredicate(Arrays.asList(genderList)));
         builder.setGender(gender);
-        return updatedPredicate;
     }
 
-    private Predicate<Person> handleName(Predicate<Person> predicate, ChainedPredicate.Builder builder,
-                                         ArgumentMultimap argMultimap) throws ParseException {
-        Name name = ParserUtil.parseName(argMultimap.getValue(PREFIX_NAME).get());
-        String[] nameList = new String[] {name.toString()};
-        Predicate<Person> updatedPredicate = predicate
-                .and(new NameContainsKeywordsPredicate(Arrays.asList(nameList)));
+    private void handleName(ChainedPredicate.Builder builder, ArgumentMultimap argMultimap) throws ParseException {
+        String nameValue = argMultimap.getValue(PREFIX_NAME).get().trim();
+        boolean isFuzzy = nameValue.endsWith(FindCommand.FUZZY_NAME_MARKER);
+        if (isFuzzy) {
+            nameValue = nameValue.substring(0, nameValue.length() - FindCommand.FUZZY_NAME_MARKER.length());
+        }
+
+        Name name = ParserUtil.parseName(nameValue);
+        if (isFuzzy) {
+            builder.addClause(new FuzzyNamePredicate(name.fullName));
+        } else {
+            String[] nameList = new String[] {name.toString()};
+            builder.addClause(new NameContainsKeywordsPredicate(Arrays.asList(nameList)));
+        }
         builder.setName(name);
-        return updatedPredicate;
+        builder.setNameFuzzy(isFuzzy);
     }
 
     /**
@@ -0,0 +1,241 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_INPUT_STUDENT_WITH_QUALIFICATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GENDER;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_QUALIFICATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FuzzyNamePredicate;
+import seedu.address.model.person.GenderContainsGenderPredicate;
+import seedu.address.model.person.IndexablePredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.QualificationContainsQualificationPredicate;
+import seedu.address.model.person.QueryPredicate;
+import seedu.address.model.person.TagsContainTagPredicate;
+import seedu.address.model.tag.LevelSubjectCode;
+
+/**
+ * Parses the boolean query of a find command, such as {@code (SM or SP) and not q/0 and g/F}, into a
+ * {@code QueryPredicate}.
+ *
+ * The grammar of a query, with {@code not} binding tightest and {@code or} loosest, and {@code and} optional between
+ * two terms:
+ * <pre>
+ *     query   := and { "or" and }
+ *     and     := unary { ["and"] unary }
+ *     unary   := "not" unary | primary
+ *     primary := "(" query ")" | term
+ *     term    := n/NAME[~] | g/GENDER | q/QUALIFICATION | t/TAG | TAG
+ * </pre>
+ * Keywords are case-insensitive. A value with spaces, such as a name of several words, is written in double quotes,
+ * e.g. {@code n/"Alice Pauline"}.
+ */
+public class FindQueryParser {
+    public static final String MESSAGE_UNKNOWN_TERM = "Unknown term in query: %1$s";
+    public static final String MESSAGE_UNEXPECTED_TOKEN = "Unexpected %1$s in query";
+    public static final String MESSAGE_UNEXPECTED_END = "The query ends too early";
+    public static final String MESSAGE_UNCLOSED_PARENTHESIS = "A parenthesis in the query is not closed";
+    public static final String MESSAGE_UNCLOSED_QUOTE = "A quote in the query is not closed";
+
+    private static final String AND = "and";
+    private static final String OR = "or";
+    private static final String NOT = "not";
+    private static final String OPEN = "(";
+    private static final String CLOSE = ")";
+    private static final char QUOTE = '"';
+
+    private final PersonType personType;
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a parser of queries on the {@code PersonType} given.
+     */
+    public FindQueryParser(PersonType personType) {
+        requireNonNull(personType);
+        this.personType = personType;
+    }
+
+    /**
+     * Returns true if {@code query} uses parentheses, quotes or the keywords {@code and}, {@code or} or {@code not},
+     * so that it is to be parsed as a query rather than as the prefixes of a plain find command.
+     */
+    public static boolean isQuery(String query) {
+        requireNonNull(query);
+        if (query.indexOf('(') >= 0 || query.indexOf(')') >= 0 || query.indexOf(QUOTE) >= 0) {
+            return true;
+        }
+        for (String word : query.trim().split("\\s+")) {
+            if (isKeyword(word, AND) || isKeyword(word, OR) || isKeyword(word, NOT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses {@code query} into a {@code QueryPredicate}.
+     *
+     * @throws ParseException if {@code query} does not follow the grammar, or has an invalid value.
+     */
+    public QueryPredicate parse(String query) throws ParseException {
+        requireNonNull(query);
+        tokens = tokenize(query);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw new ParseException(MESSAGE_UNEXPECTED_END);
+        }
+
+        QueryPredicate predicate = parseOr();
+        if (position < tokens.size()) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, tokens.get(position)));
+        }
+        return predicate;
+    }
+
+    /**
+     * Splits {@code query} into tokens at spaces and around parentheses. Quoted text is kept in one token, quotes and
+     * all, so that a quoted keyword is not taken for a keyword.
+     */
+    private static List<String> tokenize(String query) throws ParseException {
+        List<String> tokens = new ArrayList<>();
+        StringBuilder token = new StringBuilder();
+        boolean isQuoted = false;
+        for (char c : query.toCharArray()) {
+            if (c == QUOTE) {
+                isQuoted = !isQuoted;
+                token.append(c);
+            } else if (isQuoted) {
+                token.append(c);
+            } else if (Character.isWhitespace(c) || c == '(' || c == ')') {
+                addToken(tokens, token);
+                if (!Character.isWhitespace(c)) {
+                    tokens.add(String.valueOf(c));
+                }
+            } else {
+                token.append(c);
+            }
+        }
+        if (isQuoted) {
+            throw new ParseException(MESSAGE_UNCLOSED_QUOTE);
+        }
+        addToken(tokens, token);
+        return tokens;
+    }
+
+    private static void addToken(List<String> tokens, StringBuilder token) {
+        if (token.length() > 0) {
+            tokens.add(token.toString());
+            token.setLength(0);
+        }
+    }
+
+    private QueryPredicate parseOr() throws ParseException {
+        List<QueryPredicate> operands = new ArrayList<>();
+        operands.add(parseAnd());
+        while (isNext(OR)) {
+            position++;
+            operands.add(parseAnd());
+        }
+        return QueryPredicate.or(operands);
+    }
+
+    private QueryPredicate parseAnd() throws ParseException {
+        List<QueryPredicate> operands = new ArrayList<>();
+        operands.add(parseUnary());
+        while (position < tokens.size() && !isNext(OR) && !isNext(CLOSE)) {
+            if (isNext(AND)) {
+                position++;
+            }
+            operands.add(parseUnary());
+        }
+        return QueryPredicate.and(operands);
+    }
+
+    private QueryPredicate parseUnary() throws ParseException {
+        if (isNext(NOT)) {
+            position++;
+            return QueryPredicate.not(parseUnary());
+        }
+        return parsePrimary();
+    }
+
+    private QueryPredicate parsePrimary() throws ParseException {
+        if (position >= tokens.size()) {
+            throw new ParseException(MESSAGE_UNEXPECTED_END);
+        }
+        String token = tokens.get(position++);
+        if (token.equals(OPEN)) {
+            QueryPredicate predicate = parseOr();
+            if (!isNext(CLOSE)) {
+                throw new ParseException(MESSAGE_UNCLOSED_PARENTHESIS);
+            }
+            position++;
+            return predicate;
+        }
+        if (token.equals(CLOSE) || isKeyword(token, AND) || isKeyword(token, OR)) {
+            throw new ParseException(String.format(MESSAGE_UNEXPECTED_TOKEN, token));
+        }
+        return parseTerm(token);
+    }
+
+    /**
+     * Parses a term, which is a prefix and its value, or a bare tag.
+     */
+    private QueryPredicate parseTerm(String token) throws ParseException {
+        String value = token.replace(String.valueOf(QUOTE), "");
+        if (token.startsWith(PREFIX_NAME.getPrefix())) {
+            return QueryPredicate.term(parseName(value.substring(PREFIX_NAME.getPrefix().length())));
+        }
+        if (token.startsWith(PREFIX_GENDER.getPrefix())) {
+            return QueryPredicate.term(new GenderContainsGenderPredicate(
+                    List.of(ParserUtil.parseGender(value.substring(PREFIX_GENDER.getPrefix().length())))));
+        }
+        if (token.startsWith(PREFIX_QUALIFICATION.getPrefix())) {
+            if (personType == PersonType.STUDENT) {
+                throw new ParseException(MESSAGE_INVALID_INPUT_STUDENT_WITH_QUALIFICATION);
+            }
+            return QueryPredicate.term(new QualificationContainsQualificationPredicate(List.of(
+                    ParserUtil.parseQualification(value.substring(PREFIX_QUALIFICATION.getPrefix().length())))));
+        }
+        if (token.startsWith(PREFIX_TAG.getPrefix())) {
+            return QueryPredicate.term(new TagsContainTagPredicate(
+                    List.of(ParserUtil.parseTag(value.substring(PREFIX_TAG.getPrefix().length())))));
+        }
+        if (token.indexOf(QUOTE) < 0 && LevelSubjectCode.isValidTag(token)) {
+            return QueryPredicate.term(new TagsContainTagPredicate(List.of(ParserUtil.parseTag(token))));
+        }
+        throw new ParseException(String.format(MESSAGE_UNKNOWN_TERM, token));
+    }
+
+    private static IndexablePredicate parseName(String value) throws ParseException {
+        boolean isFuzzy = value.endsWith(FindCommand.FUZZY_NAME_MARKER);
+        if (isFuzzy) {
+            value = value.substring(0, value.length() - FindCommand.FUZZY_NAME_MARKER.length());
+        }
+        Name name = ParserUtil.parseName(value);
+        return isFuzzy
+                ? new FuzzyNamePredicate(name.fullName)
+                : new NameContainsKeywordsPredicate(List.of(name.fullName));
+    }
+
+    private boolean isNext(String keyword) {
+        if (position >= tokens.size()) {
+            return false;
+        }
+        String token = tokens.get(position);
+        return keyword.equals(OPEN) || keyword.equals(CLOSE) ? token.equals(keyword) : isKeyword(token, keyword);
+    }
+
+    private static boolean isKeyword(String token, String keyword) {
+        return token.equalsIgnoreCase(keyword);
+    }
+}
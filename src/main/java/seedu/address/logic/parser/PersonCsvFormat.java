@@ -0,0 +1,165 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * The columns of tutors or students in a CSV file, and the conversion of persons to and from its records.
+ * The tags of a person are kept in one field, separated by spaces as in the {@code t/} argument of commands.
+ * The fields of a record are validated like the arguments of an add command, with {@code ParserUtil}.
+ *
+ * A {@code PersonCsvFormat} only holds the positions of its columns, so records can be converted from many threads.
+ */
+public class PersonCsvFormat {
+    public static final String COLUMN_NAME = "Name";
+    public static final String COLUMN_PHONE = "Phone";
+    public static final String COLUMN_GENDER = "Gender";
+    public static final String COLUMN_QUALIFICATION = "Qualification";
+    public static final String COLUMN_REMARK = "Remark";
+    public static final String COLUMN_TAGS = "Tags";
+
+    public static final String MESSAGE_MISSING_COLUMN = "The CSV file has no %s column";
+    public static final String MESSAGE_UNKNOWN_COLUMN = "The CSV file has a column %s, which is not one of: %s";
+    public static final String MESSAGE_REPEATED_COLUMN = "The CSV file has more than one %s column";
+
+    private static final List<String> TUTOR_COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_GENDER,
+            COLUMN_QUALIFICATION, COLUMN_REMARK, COLUMN_TAGS);
+    private static final List<String> STUDENT_COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_GENDER,
+            COLUMN_REMARK, COLUMN_TAGS);
+    private static final String TAG_SEPARATOR = " ";
+    private static final Pattern TAG_SEPARATOR_PATTERN = Pattern.compile("\\s+");
+    private static final int ABSENT = -1;
+    /** Written by spreadsheets at the start of a UTF-8 CSV file, before the first column name */
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+
+    private final PersonType personType;
+    private final int nameColumn;
+    private final int phoneColumn;
+    private final int genderColumn;
+    private final int qualificationColumn;
+    private final int remarkColumn;
+    private final int tagsColumn;
+
+    /**
+     * Creates a {@code PersonCsvFormat} for records of {@code personType} with the columns named in {@code header},
+     * in any order and case. Only the remark column may be left out.
+     *
+     * @throws ParseException if a column is missing, repeated or not one of the columns of {@code personType}.
+     */
+    public PersonCsvFormat(PersonType personType, List<String> header) throws ParseException {
+        requireNonNull(personType);
+        requireNonNull(header);
+        this.personType = personType;
+
+        List<String> columns = getColumns(personType);
+        int[] positions = new int[columns.size()];
+        Arrays.fill(positions, ABSENT);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim();
+            if (i == 0 && name.startsWith(BYTE_ORDER_MARK)) {
+                name = name.substring(BYTE_ORDER_MARK.length()).trim();
+            }
+            int column = indexOfIgnoreCase(columns, name);
+            if (column == ABSENT) {
+                throw new ParseException(String.format(MESSAGE_UNKNOWN_COLUMN, name, String.join(", ", columns)));
+            }
+            if (positions[column] != ABSENT) {
+                throw new ParseException(String.format(MESSAGE_REPEATED_COLUMN, columns.get(column)));
+            }
+            positions[column] = i;
+        }
+
+        nameColumn = getRequiredPosition(positions, columns, COLUMN_NAME);
+        phoneColumn = getRequiredPosition(positions, columns, COLUMN_PHONE);
+        genderColumn = getRequiredPosition(positions, columns, COLUMN_GENDER);
+        qualificationColumn = personType == PersonType.TUTOR
+                ? getRequiredPosition(positions, columns, COLUMN_QUALIFICATION)
+                : ABSENT;
+        remarkColumn = positions[columns.indexOf(COLUMN_REMARK)];
+        tagsColumn = getRequiredPosition(positions, columns, COLUMN_TAGS);
+    }
+
+    /**
+     * Returns the names of the columns of {@code personType}, in the order they are written.
+     */
+    public static List<String> getColumns(PersonType personType) {
+        return personType == PersonType.TUTOR ? TUTOR_COLUMNS : STUDENT_COLUMNS;
+    }
+
+    /**
+     * Returns the fields of {@code person}, in the order of {@link #getColumns(PersonType)}.
+     */
+    public static List<String> toRecord(Person person) {
+        List<String> record = new ArrayList<>(TUTOR_COLUMNS.size());
+        record.add(person.getName().fullName);
+        record.add(person.getPhone().value);
+        record.add(person.getGender().genderSymbol);
+        if (person instanceof Tutor) {
+            record.add(((Tutor) person).getQualification().index);
+        }
+        record.add(person.getRemark().description);
+        record.add(person.getTags().stream().map(tag -> tag.tagName).collect(Collectors.joining(TAG_SEPARATOR)));
+        return record;
+    }
+
+    /**
+     * Returns the person described by {@code record}: a {@code Tutor} or a {@code Student} depending on the
+     * person type of this format. Missing fields at the end of the record are taken to be empty.
+     *
+     * @throws ParseException if a field is not valid.
+     */
+    public Person toPerson(List<String> record) throws ParseException {
+        Name name = ParserUtil.parseName(getField(record, nameColumn));
+        Phone phone = ParserUtil.parsePhone(getField(record, phoneColumn));
+        Gender gender = ParserUtil.parseGender(getField(record, genderColumn));
+        String remarkField = getField(record, remarkColumn).trim();
+        Remark remark = remarkField.isEmpty() ? new Remark() : ParserUtil.parseRemark(remarkField);
+        Set<Tag> tags = ParserUtil.parseTags(Arrays.asList(
+                TAG_SEPARATOR_PATTERN.split(getField(record, tagsColumn).trim())));
+
+        if (personType == PersonType.TUTOR) {
+            return new Tutor(name, phone, gender, ParserUtil.parseQualification(getField(record, qualificationColumn)),
+                    remark, tags);
+        }
+        return new Student(name, phone, gender, remark, tags);
+    }
+
+    private static String getField(List<String> record, int position) {
+        return position == ABSENT || position >= record.size() ? "" : record.get(position);
+    }
+
+    private static int getRequiredPosition(int[] positions, List<String> columns, String column) throws ParseException {
+        int position = positions[columns.indexOf(column)];
+        if (position == ABSENT) {
+            throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, column));
+        }
+        return position;
+    }
+
+    private static int indexOfIgnoreCase(List<String> columns, String name) {
+        String lowerCaseName = name.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < columns.size(); i++) {
+            if (columns.get(i).toLowerCase(Locale.ROOT).equals(lowerCaseName)) {
+                return i;
+            }
+        }
+        return ABSENT;
+    }
+}
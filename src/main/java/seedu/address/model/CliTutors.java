@@ -3,29 +3,60 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
-import java.util.Hashtable;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
-import java.util.Set;
+import java.util.Optional;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.IndexablePredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIndexes;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
+import seedu.address.model.person.TutorRanking;
+import seedu.address.model.person.TutorSubjectIndex;
 import seedu.address.model.person.UniqueStudentList;
 import seedu.address.model.person.UniqueTutorList;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ * Phone numbers are looked up through the phone indexes of the tutor and student lists, which together act as a
+ * single phone registry partitioned by person type.
+ * Tutors are also indexed by the subjects they teach, so that matching only visits the tutors who teach the requested
+ * subjects. The matched tutors are ranked by the number of requested subjects they teach, and handed out to the
+ * matched tutor list a page at a time; the rest wait in a {@code TutorRanking}. Both are kept up to date as tutors
+ * are added, edited and removed: a tutor that ranks among the shown tutors is shown at its rank, and one that ranks
+ * after them waits with the rest, so the matched tutor list is always the best ranked of the matched tutors.
+ * The tutor and student lists each index the words of their names and their attributes as well, so that searches
+ * are lookups and operations on bitmaps.
+ *
+ * Every change to the tutor and student lists is recorded until it is marked as saved, so that storage only has to
+ * write what has changed. Replacing whole lists, or making a great many changes, is recorded as a single reset.
+ *
+ * Many changes can be made in one {@link #batchUpdate(Runnable)}, so that the observable lists are only updated,
+ * and their listeners only notified, once for all of them.
  */
 public class CliTutors implements ReadOnlyCliTutors {
+    /** Number of matched tutors shown at a time */
+    public static final int MATCHED_TUTOR_PAGE_SIZE = 50;
+
+    /** Number of unsaved changes beyond which they are recorded as a single reset */
+    public static final int MAX_UNSAVED_CHANGES = 1000;
+
     private final UniqueTutorList tutors;
     private final UniqueStudentList students;
     private final UniqueTutorList matchedTutors;
-    private final Hashtable<Person, Phone> uniquePhoneNumbers;
+    private final TutorSubjectIndex tutorSubjectIndex;
+    private TagSet matchedSubjects;
+    private TutorRanking unshownMatchedTutors;
+    private final List<CliTutorsChange> unsavedChanges = new ArrayList<>();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -38,17 +69,21 @@ public class CliTutors implements ReadOnlyCliTutors {
         tutors = new UniqueTutorList();
         students = new UniqueStudentList();
         matchedTutors = new UniqueTutorList();
-        uniquePhoneNumbers = new Hashtable<>();
+        tutorSubjectIndex = new TutorSubjectIndex();
+        matchedSubjects = TagSet.EMPTY;
+        unshownMatchedTutors = tutorSubjectIndex.rankTutorsTeaching(matchedSubjects);
     }
 
     public CliTutors() {}
 
     /**
      * Creates an CliTutors using the Persons in the {@code toBeCopied}
+     * The copy starts out with no unsaved changes.
      */
     public CliTutors(ReadOnlyCliTutors toBeCopied) {
         this();
         resetData(toBeCopied);
+        markSaved();
     }
 
     //// list overwrite operations
@@ -59,8 +94,9 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public void setTutors(List<Tutor> tutors) {
         this.tutors.setTutors(tutors);
-        this.matchedTutors.setTutors(tutors);
-        tutors.stream().forEach(tutor -> uniquePhoneNumbers.put(tutor, tutor.getPhone()));
+        tutorSubjectIndex.setTutors(tutors);
+        rankMatchedTutors();
+        recordChange(CliTutorsChange.reset());
     }
 
     /**
@@ -69,7 +105,7 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public void setStudents(List<Student> students) {
         this.students.setStudents(students);
-        students.stream().forEach(student -> uniquePhoneNumbers.put(student, student.getPhone()));
+        recordChange(CliTutorsChange.reset());
     }
 
     /**
@@ -78,7 +114,6 @@ public class CliTutors implements ReadOnlyCliTutors {
     public void resetData(ReadOnlyCliTutors newData) {
         requireNonNull(newData);
 
-        uniquePhoneNumbers.clear();
         setTutors(newData.getTutorList());
         setStudents(newData.getStudentList());
     }
@@ -89,21 +124,7 @@ public class CliTutors implements ReadOnlyCliTutors {
     public void resetTutorData(ReadOnlyCliTutors newData) {
         requireNonNull(newData);
 
-        List<Tutor> tutorList = newData.getTutorList();
-        //@@author zihaooo9-reused
-        //Reused from https://www.baeldung.com/java-concurrentmodificationexception
-        // with minor modifications
-        List<Tutor> toRemove = new ArrayList<>();
-        Set<Person> personSet = uniquePhoneNumbers.keySet();
-        for (Person person : personSet) {
-            if (person instanceof Tutor) {
-                toRemove.add((Tutor) person);
-            }
-        }
-        for (Tutor tutor : toRemove) {
-            uniquePhoneNumbers.remove(tutor);
-        }
-        setTutors(tutorList);
+        setTutors(newData.getTutorList());
     }
 
     /**
@@ -112,20 +133,6 @@ public class CliTutors implements ReadOnlyCliTutors {
     public void resetStudentData(ReadOnlyCliTutors newData) {
         requireNonNull(newData);
 
-        List<Student> studentList = newData.getStudentList();
-        //@@author zihaooo9-reused
-        //Reused from https://www.baeldung.com/java-concurrentmodificationexception
-        // with minor modifications
-        List<Student> toRemove = new ArrayList<>();
-        Set<Person> personSet = uniquePhoneNumbers.keySet();
-        for (Person person : personSet) {
-            if (person instanceof Student) {
-                toRemove.add((Student) person);
-            }
-        }
-        for (Student student : toRemove) {
-            uniquePhoneNumbers.remove(student);
-        }
         setStudents(newData.getStudentList());
     }
 
@@ -153,8 +160,11 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public void addTutor(Tutor tutor) {
         tutors.add(tutor);
-        matchedTutors.add(tutor);
-        uniquePhoneNumbers.put(tutor, tutor.getPhone());
+        tutorSubjectIndex.add(tutor);
+        if (teachesMatchedSubject(tutor)) {
+            addMatchedTutor(tutor);
+        }
+        recordChange(CliTutorsChange.add(tutor));
     }
 
     /**
@@ -163,7 +173,7 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public void addStudent(Student student) {
         students.add(student);
-        uniquePhoneNumbers.put(student, student.getPhone());
+        recordChange(CliTutorsChange.add(student));
     }
 
     /**
@@ -175,9 +185,21 @@ public class CliTutors implements ReadOnlyCliTutors {
         requireNonNull(editedTutor);
 
         tutors.setTutor(target, editedTutor);
-        matchedTutors.setTutor(target, editedTutor);
-        uniquePhoneNumbers.remove(target);
-        uniquePhoneNumbers.put(editedTutor, editedTutor.getPhone());
+        tutorSubjectIndex.replace(target, editedTutor);
+
+        boolean wasShown = matchedTutors.contains(target);
+        boolean isMatched = teachesMatchedSubject(editedTutor);
+        if (wasShown && isMatched) {
+            rerankShownMatchedTutor(target, editedTutor);
+        } else if (wasShown) {
+            matchedTutors.remove(target);
+        } else {
+            unshownMatchedTutors.remove(target);
+            if (isMatched) {
+                addMatchedTutor(editedTutor);
+            }
+        }
+        recordChange(CliTutorsChange.edit(target, editedTutor));
     }
 
     /**
@@ -190,8 +212,7 @@ public class CliTutors implements ReadOnlyCliTutors {
         requireNonNull(editedStudent);
 
         students.setStudent(target, editedStudent);
-        uniquePhoneNumbers.remove(target);
-        uniquePhoneNumbers.put(editedStudent, editedStudent.getPhone());
+        recordChange(CliTutorsChange.edit(target, editedStudent));
     }
 
     /**
@@ -200,8 +221,13 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public void removeTutor(Tutor tutor) {
         tutors.remove(tutor);
-        matchedTutors.remove(tutor);
-        uniquePhoneNumbers.remove(tutor);
+        tutorSubjectIndex.remove(tutor);
+        if (matchedTutors.contains(tutor)) {
+            matchedTutors.remove(tutor);
+        } else {
+            unshownMatchedTutors.remove(tutor);
+        }
+        recordChange(CliTutorsChange.delete(tutor));
     }
 
     /**
@@ -210,16 +236,251 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public void removeStudent(Student student) {
         students.remove(student);
-        uniquePhoneNumbers.remove(student);
+        recordChange(CliTutorsChange.delete(student));
+    }
+
+    /**
+     * Returns the tutor with the given phone number, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Tutor> getTutor(Phone phone) {
+        return tutors.get(phone);
+    }
+
+    /**
+     * Returns the student with the given phone number, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Student> getStudent(Phone phone) {
+        return students.get(phone);
+    }
+
+    /**
+     * Returns a predicate that is true for the same tutors of this {@code CliTutors} as {@code predicate}, but that
+     * looks them up in the indexes kept of them where {@code predicate} allows it.
+     */
+    public Predicate<Person> withTutorIndexes(Predicate<Person> predicate) {
+        return withIndex(predicate, tutors.getIndexes());
+    }
+
+    /**
+     * Returns a predicate that is true for the same students of this {@code CliTutors} as {@code predicate}, but that
+     * looks them up in the indexes kept of them where {@code predicate} allows it.
+     */
+    public Predicate<Person> withStudentIndexes(Predicate<Person> predicate) {
+        return withIndex(predicate, students.getIndexes());
+    }
+
+    /**
+     * Returns a predicate that is true for the same matched tutors of this {@code CliTutors} as {@code predicate}, but
+     * that looks them up in the indexes kept of the matched tutor list where {@code predicate} allows it.
+     */
+    public Predicate<Person> withMatchedTutorIndexes(Predicate<Person> predicate) {
+        return withIndex(predicate, matchedTutors.getIndexes());
+    }
+
+    /**
+     * Returns the order in which {@code predicate} ranks the tutors of this {@code CliTutors} it is true for, or null
+     * if it does not rank them.
+     */
+    public Comparator<Person> rankTutorsWithIndexes(Predicate<Person> predicate) {
+        return rankWithIndex(predicate, tutors.getIndexes());
+    }
+
+    /**
+     * Returns the order in which {@code predicate} ranks the students of this {@code CliTutors} it is true for, or
+     * null if it does not rank them.
+     */
+    public Comparator<Person> rankStudentsWithIndexes(Predicate<Person> predicate) {
+        return rankWithIndex(predicate, students.getIndexes());
+    }
+
+    private static Comparator<Person> rankWithIndex(Predicate<Person> predicate, PersonIndexes indexes) {
+        requireNonNull(predicate);
+        return predicate instanceof IndexablePredicate
+                ? ((IndexablePredicate) predicate).rankWithIndex(indexes)
+                : null;
+    }
+
+    private static Predicate<Person> withIndex(Predicate<Person> predicate, PersonIndexes indexes) {
+        requireNonNull(predicate);
+        return predicate instanceof IndexablePredicate
+                ? ((IndexablePredicate) predicate).withIndex(indexes)
+                : predicate;
+    }
+
+    /**
+     * Makes the changes {@code changes} makes to this {@code CliTutors} as one batch.
+     * The tutor, student and matched tutor lists returned by this {@code CliTutors} show the changes when
+     * {@code changes} returns, each as a single change to the list, and not before. Everything else, such as
+     * {@link #hasTutor(Tutor)} and the recorded unsaved changes, sees each change as soon as it is made.
+     * If {@code changes} throws an exception, the changes it made before are kept and shown all the same.
+     */
+    public void batchUpdate(Runnable changes) {
+        requireNonNull(changes);
+        tutors.beginBatch();
+        students.beginBatch();
+        matchedTutors.beginBatch();
+        try {
+            changes.run();
+        } finally {
+            matchedTutors.endBatch();
+            students.endBatch();
+            tutors.endBatch();
+        }
+    }
+
+    //// change tracking
+
+    /**
+     * Returns the changes made since this {@code CliTutors} was last marked as saved, oldest first.
+     */
+    public List<CliTutorsChange> getUnsavedChanges() {
+        return new ArrayList<>(unsavedChanges);
+    }
+
+    /**
+     * Marks all the changes made so far as saved.
+     */
+    public void markSaved() {
+        unsavedChanges.clear();
+    }
+
+    /**
+     * Records {@code change} as unsaved. Once a reset is pending, the whole data has to be saved anyway, so
+     * further changes are not recorded.
+     */
+    private void recordChange(CliTutorsChange change) {
+        boolean isResetPending = !unsavedChanges.isEmpty()
+                && unsavedChanges.get(0).getType() == CliTutorsChange.Type.RESET;
+        if (isResetPending) {
+            return;
+        }
+
+        if (change.getType() == CliTutorsChange.Type.RESET || unsavedChanges.size() >= MAX_UNSAVED_CHANGES) {
+            unsavedChanges.clear();
+            unsavedChanges.add(CliTutorsChange.reset());
+        } else {
+            unsavedChanges.add(change);
+        }
+    }
+
+    /**
+     * Matches the tutors who teach at least one of {@code subjects}, ranked by the number of {@code subjects} they
+     * teach, and replaces the matched tutor list with the first page of them.
+     * Only the tutors filed under {@code subjects} in the subject index are visited.
+     */
+    public void matchTutors(Collection<Tag> subjects) {
+        requireNonNull(subjects);
+        matchedSubjects = TagSet.of(subjects);
+        rankMatchedTutors();
+    }
+
+    /**
+     * Returns true if there are matched tutors that are not in the matched tutor list yet.
+     */
+    public boolean hasMoreMatchedTutors() {
+        return unshownMatchedTutors.hasNext();
+    }
+
+    /**
+     * Returns the number of matched tutors, whether they are in the matched tutor list yet or not.
+     */
+    public int getMatchedTutorCount() {
+        return matchedTutors.size() + unshownMatchedTutors.size();
+    }
+
+    /**
+     * Appends the next page of matched tutors to the matched tutor list.
+     */
+    public void showMoreMatchedTutors() {
+        unshownMatchedTutors.nextPage(MATCHED_TUTOR_PAGE_SIZE).forEach(matchedTutors::add);
+    }
+
+    /**
+     * Appends all the remaining matched tutors to the matched tutor list.
+     */
+    public void showAllMatchedTutors() {
+        unshownMatchedTutors.nextPage(unshownMatchedTutors.size()).forEach(matchedTutors::add);
+    }
+
+    /**
+     * Empties the matched tutor list.
+     */
+    public void clearMatchedTutors() {
+        matchedSubjects = TagSet.EMPTY;
+        rankMatchedTutors();
+    }
+
+    /**
+     * Ranks the tutors who teach the subjects currently being matched, and shows the first page of them.
+     */
+    private void rankMatchedTutors() {
+        unshownMatchedTutors = tutorSubjectIndex.rankTutorsTeaching(matchedSubjects);
+        matchedTutors.setTutors(unshownMatchedTutors.nextPage(MATCHED_TUTOR_PAGE_SIZE));
+    }
+
+    /**
+     * Adds {@code tutor}, who teaches a subject currently being matched, to the matched tutors.
+     * It is shown at its rank if it ranks before a shown matched tutor, or if all the other matched tutors are
+     * already shown, and ranked with the unshown matched tutors otherwise.
+     */
+    private void addMatchedTutor(Tutor tutor) {
+        int rank = countShownRankedBefore(tutor, null);
+        if (rank == matchedTutors.size() && unshownMatchedTutors.hasNext()) {
+            unshownMatchedTutors.add(tutor);
+        } else {
+            matchedTutors.add(rank, tutor);
+        }
+    }
+
+    /**
+     * Replaces the shown matched tutor {@code target} with {@code editedTutor}, who still teaches a subject currently
+     * being matched, at the rank of {@code editedTutor}. It is replaced in place if its rank among the shown matched
+     * tutors is unchanged. If it now ranks after all the other shown matched tutors while there are unshown ones, it
+     * is ranked with them, and the best of them takes its place at the end of the matched tutor list.
+     */
+    private void rerankShownMatchedTutor(Tutor target, Tutor editedTutor) {
+        int oldRank = 0;
+        for (Tutor shownTutor : matchedTutors) {
+            if (shownTutor.isSamePerson(target)) {
+                break;
+            }
+            oldRank++;
+        }
+        int rank = countShownRankedBefore(editedTutor, target);
+        if (rank == oldRank && (rank < matchedTutors.size() - 1 || !unshownMatchedTutors.hasNext())) {
+            matchedTutors.setTutor(target, editedTutor);
+            return;
+        }
+
+        matchedTutors.remove(target);
+        if (rank == matchedTutors.size() && unshownMatchedTutors.hasNext()) {
+            unshownMatchedTutors.add(editedTutor);
+            unshownMatchedTutors.nextPage(1).forEach(matchedTutors::add);
+        } else {
+            matchedTutors.add(rank, editedTutor);
+        }
+    }
+
+    /**
+     * Returns the number of shown matched tutors, other than {@code excluded}, that rank before {@code tutor}.
+     * Only the shown matched tutors are compared, which are a page or a few at a time.
+     */
+    private int countShownRankedBefore(Tutor tutor, Tutor excluded) {
+        int count = 0;
+        for (Tutor shownTutor : matchedTutors) {
+            boolean isExcluded = excluded != null && shownTutor.isSamePerson(excluded);
+            if (!isExcluded && unshownMatchedTutors.compare(shownTutor, tutor) < 0) {
+                count++;
+            }
+        }
+        return count;
     }
 
     /**
-     * Sorts tutors based on number of matching tags with ls in descending order.
-     * @param studentTagList List of Tags used to compare with each tutor.
+     * Returns true if {@code tutor} teaches any of the subjects currently being matched.
      */
-    public void sortMatchedTutorList(List<Tag> studentTagList) {
-        requireNonNull(studentTagList);
-        matchedTutors.sortTutors(studentTagList);
+    private boolean teachesMatchedSubject(Tutor tutor) {
+        return tutor.getTags().containsAny(matchedSubjects);
     }
 
     //// util methods
@@ -251,8 +512,7 @@ public class CliTutors implements ReadOnlyCliTutors {
                 || (other instanceof CliTutors // instanceof handles nulls
                 && tutors.equals(((CliTutors) other).tutors)
                 && students.equals(((CliTutors) other).students))
-                && matchedTutors.equals(((CliTutors) other).matchedTutors)
-                && uniquePhoneNumbers.equals(((CliTutors) other).uniquePhoneNumbers);
+                && matchedTutors.equals(((CliTutors) other).matchedTutors);
     }
 
     @Override
@@ -268,6 +528,6 @@ public class CliTutors implements ReadOnlyCliTutors {
      */
     public boolean hasPersonWithSamePhone(Phone p) {
         requireNonNull(p);
-        return uniquePhoneNumbers.containsValue(p);
+        return tutors.containsPhone(p) || students.containsPhone(p);
     }
 }
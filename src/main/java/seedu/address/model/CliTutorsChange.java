@@ -0,0 +1,147 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+
+/**
+ * A change made to the data in {@code CliTutors}.
+ * Changes are recorded so that storage can save just what has changed since the last save.
+ */
+public class CliTutorsChange {
+    /**
+     * The kinds of change that can be made.
+     */
+    public enum Type {
+        /** A person was added */
+        ADD,
+        /** A person was replaced with an edited person */
+        EDIT,
+        /** A person was deleted */
+        DELETE,
+        /** Whole lists were replaced, so the data can only be saved in full */
+        RESET
+    }
+
+    private static final CliTutorsChange RESET = new CliTutorsChange(Type.RESET, null, null);
+
+    private final Type type;
+    private final Person target;
+    private final Person editedPerson;
+
+    private CliTutorsChange(Type type, Person target, Person editedPerson) {
+        this.type = type;
+        this.target = target;
+        this.editedPerson = editedPerson;
+    }
+
+    /**
+     * Returns the change that adds {@code person}.
+     */
+    public static CliTutorsChange add(Person person) {
+        requireNonNull(person);
+        return new CliTutorsChange(Type.ADD, null, person);
+    }
+
+    /**
+     * Returns the change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static CliTutorsChange edit(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        return new CliTutorsChange(Type.EDIT, target, editedPerson);
+    }
+
+    /**
+     * Returns the change that deletes {@code target}.
+     */
+    public static CliTutorsChange delete(Person target) {
+        requireNonNull(target);
+        return new CliTutorsChange(Type.DELETE, target, null);
+    }
+
+    /**
+     * Returns the change that replaces whole lists.
+     */
+    public static CliTutorsChange reset() {
+        return RESET;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person that was edited or deleted, or null for other changes.
+     */
+    public Person getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person that was added, or that the target was edited into, or null for other changes.
+     */
+    public Person getEditedPerson() {
+        return editedPerson;
+    }
+
+    /**
+     * Makes this change to {@code cliTutors}, which must be the data it was made to, as it was before the change.
+     * A reset cannot be made again, as it does not carry the lists it replaced the old ones with.
+     */
+    public void applyTo(CliTutors cliTutors) {
+        requireNonNull(cliTutors);
+        assert type != Type.RESET : "A reset cannot be applied";
+        Person person = target != null ? target : editedPerson;
+        if (person instanceof Tutor) {
+            applyToTutors(cliTutors);
+        } else {
+            applyToStudents(cliTutors);
+        }
+    }
+
+    private void applyToTutors(CliTutors cliTutors) {
+        if (type == Type.ADD) {
+            cliTutors.addTutor((Tutor) editedPerson);
+        } else if (type == Type.EDIT) {
+            cliTutors.setTutor((Tutor) target, (Tutor) editedPerson);
+        } else {
+            cliTutors.removeTutor((Tutor) target);
+        }
+    }
+
+    private void applyToStudents(CliTutors cliTutors) {
+        if (type == Type.ADD) {
+            cliTutors.addStudent((Student) editedPerson);
+        } else if (type == Type.EDIT) {
+            cliTutors.setStudent((Student) target, (Student) editedPerson);
+        } else {
+            cliTutors.removeStudent((Student) target);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CliTutorsChange)) {
+            return false;
+        }
+
+        CliTutorsChange otherChange = (CliTutorsChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(editedPerson, otherChange.editedPerson);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, editedPerson);
+    }
+}
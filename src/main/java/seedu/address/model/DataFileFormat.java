@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * Formats the CliTutors data file can be stored in.
+ */
+public enum DataFileFormat {
+    /** Pretty-printed JSON, which can be read and edited by hand */
+    JSON,
+    /** A compact binary snapshot, which is much faster to read and write */
+    BINARY
+}
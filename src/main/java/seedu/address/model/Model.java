@@ -74,6 +74,25 @@ public interface Model {
     /** Returns the CliTutors */
     ReadOnlyCliTutors getCliTutors();
 
+    /**
+     * Returns the changes made to the CliTutors data since it was last marked as saved, oldest first.
+     * Read-only commands leave this empty.
+     */
+    List<CliTutorsChange> getUnsavedChanges();
+
+    /**
+     * Marks all the changes made to the CliTutors data so far as saved.
+     */
+    void markCliTutorsSaved();
+
+    /**
+     * Makes the changes {@code changes} makes to the address book as one batch, for when there are many of them.
+     * The tutor, student and matched tutor lists show all the changes at once when {@code changes} returns, with a
+     * single change to each list, instead of one change per tutor or student.
+     * Until then, the lists still show the tutors and students as they were before the batch.
+     */
+    void batchUpdate(Runnable changes);
+
     /**
      * Returns true if a tutor with the same identity as {@code tutor} exists in the address book.
      */
@@ -131,12 +150,14 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered tutor list to filter by the given {@code predicate}.
+     * If {@code predicate} ranks the tutors it is true for, the list is sorted by that ranking.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredTutorList(Predicate<Person> predicate);
 
     /**
      * Updates the filter of the filtered student list to filter by the given {@code predicate}.
+     * If {@code predicate} ranks the students it is true for, the list is sorted by that ranking.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredStudentList(Predicate<Person> predicate);
@@ -158,6 +179,22 @@ public interface Model {
      */
     void filterMatchedTutor(Predicate<Person> predicate);
 
+    /**
+     * Returns true if there are matched tutors that are not in the matched tutor list yet.
+     * Matched tutors are added to the matched tutor list a page at a time, best matches first.
+     */
+    boolean hasMoreMatchedTutors();
+
+    /**
+     * Adds the next page of matched tutors to the end of the matched tutor list.
+     */
+    void showMoreMatchedTutors();
+
+    /**
+     * Returns the number of matched tutors, including the ones not in the matched tutor list yet.
+     */
+    int getMatchedTutorCount();
+
     /** Returns an unmodifiable view of the matched tutor list */
     ObservableList<Tutor> getMatchedTutorList();
 
@@ -10,11 +10,13 @@ import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.ChainedPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.QueryPredicate;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.TagsContainTagPredicate;
 import seedu.address.model.person.Tutor;
@@ -30,7 +32,12 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Tutor> filteredTutors;
     private final FilteredList<Student> filteredStudents;
+    private final SortedList<Tutor> sortedTutors;
+    private final SortedList<Student> sortedStudents;
     private final FilteredList<Tutor> matchedTutors;
+    /** The filters the tutors and students are shown by, as queries, which unlike chains are equal by their clauses */
+    private QueryPredicate tutorFilter;
+    private QueryPredicate studentFilter;
 
     private Student matchedStudent;
 
@@ -47,6 +54,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredTutors = new FilteredList<>(this.cliTutors.getTutorList());
         filteredStudents = new FilteredList<>(this.cliTutors.getStudentList());
+        sortedTutors = new SortedList<>(filteredTutors);
+        sortedStudents = new SortedList<>(filteredStudents);
         matchedTutors = new FilteredList<>(this.cliTutors.getMatchedTutorList());
         matchedTutors.setPredicate(PREDICATE_SHOW_NO_PERSON);
         matchedStudent = null;
@@ -113,6 +122,22 @@ public class ModelManager implements Model {
         return cliTutors;
     }
 
+    @Override
+    public List<CliTutorsChange> getUnsavedChanges() {
+        return cliTutors.getUnsavedChanges();
+    }
+
+    @Override
+    public void markCliTutorsSaved() {
+        cliTutors.markSaved();
+    }
+
+    @Override
+    public void batchUpdate(Runnable changes) {
+        requireNonNull(changes);
+        cliTutors.batchUpdate(changes);
+    }
+
     @Override
     public boolean hasTutor(Tutor tutor) {
         requireNonNull(tutor);
@@ -171,32 +196,53 @@ public class ModelManager implements Model {
 
     /**
      * Returns an unmodifiable view of the list of tutors backed by the internal list of
-     * {@code versionedCliTutors}
+     * {@code versionedCliTutors}, in the order the current filter ranks them in, if it does.
      */
     @Override
     public ObservableList<Tutor> getFilteredTutorList() {
-        return filteredTutors;
+        return sortedTutors;
     }
 
     /**
      * Returns an unmodifiable view of the list of students backed by the internal list of
-     * {@code versionedCliTutors}
+     * {@code versionedCliTutors}, in the order the current filter ranks them in, if it does.
      */
     @Override
     public ObservableList<Student> getFilteredStudentList() {
-        return filteredStudents;
+        return sortedStudents;
     }
 
+    /**
+     * {@inheritDoc}
+     * The filtered list follows every change to the tutors, so a filter equal to the one the tutors are already shown
+     * by is kept as it is, rather than testing every tutor again.
+     */
     @Override
     public void updateFilteredTutorList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredTutors.setPredicate(predicate);
+        QueryPredicate filter = QueryPredicate.term(predicate);
+        if (filter.equals(tutorFilter)) {
+            return;
+        }
+        tutorFilter = filter;
+        filteredTutors.setPredicate(cliTutors.withTutorIndexes(predicate));
+        sortedTutors.setComparator(cliTutors.rankTutorsWithIndexes(predicate));
     }
 
+    /**
+     * {@inheritDoc}
+     * A filter equal to the one the students are already shown by is kept as it is, like the tutors'.
+     */
     @Override
     public void updateFilteredStudentList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredStudents.setPredicate(predicate);
+        QueryPredicate filter = QueryPredicate.term(predicate);
+        if (filter.equals(studentFilter)) {
+            return;
+        }
+        studentFilter = filter;
+        filteredStudents.setPredicate(cliTutors.withStudentIndexes(predicate));
+        sortedStudents.setComparator(cliTutors.rankStudentsWithIndexes(predicate));
     }
 
     //=========== Matched Tutor List Accessors =============================================================
@@ -204,19 +250,19 @@ public class ModelManager implements Model {
     @Override
     public void updateMatchedTutor(TagsContainTagPredicate predicate, List<Tag> studentTagList, Student student) {
         requireAllNonNull(predicate, studentTagList);
+        assert(!studentTagList.isEmpty()) : "studentTagList should not be empty at this point.";
+        cliTutors.matchTutors(studentTagList);
         matchedTutors.setPredicate(predicate);
         matchedStudent = student;
 
         if (matchedTutors.isEmpty()) {
             clearMatchedTutor();
-        } else {
-            assert(!studentTagList.isEmpty()) : "studentTagList should not be empty at this point.";
-            cliTutors.sortMatchedTutorList(studentTagList);
         }
     }
 
     @Override
     public void clearMatchedTutor() {
+        cliTutors.clearMatchedTutors();
         matchedTutors.setPredicate(PREDICATE_SHOW_NO_PERSON);
         matchedStudent = null;
     }
@@ -224,18 +270,37 @@ public class ModelManager implements Model {
     @Override
     public void filterMatchedTutor(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        // the filter has to see every matched tutor, not just the pages shown so far
+        cliTutors.showAllMatchedTutors();
 
         @SuppressWarnings("unchecked")
         Predicate<Person> matchingPredicate = (Predicate<Person>) matchedTutors.getPredicate();
-        Predicate<Person> resultingPredicate = predicate.and(matchingPredicate);
-        ChainedPredicate.Builder builder = new ChainedPredicate.Builder();
-        matchedTutors.setPredicate(builder.setPredicate(resultingPredicate).build());
+        ChainedPredicate resultingPredicate = new ChainedPredicate.Builder()
+                .addClause(predicate)
+                .addClause(matchingPredicate)
+                .build();
+        matchedTutors.setPredicate(cliTutors.withMatchedTutorIndexes(resultingPredicate));
 
         if (matchedTutors.isEmpty()) {
             matchedStudent = null;
         }
     }
 
+    @Override
+    public boolean hasMoreMatchedTutors() {
+        return cliTutors.hasMoreMatchedTutors();
+    }
+
+    @Override
+    public void showMoreMatchedTutors() {
+        cliTutors.showMoreMatchedTutors();
+    }
+
+    @Override
+    public int getMatchedTutorCount() {
+        return cliTutors.getMatchedTutorCount();
+    }
+
     @Override
     public ObservableList<Tutor> getMatchedTutorList() {
         return matchedTutors;
@@ -262,8 +327,8 @@ public class ModelManager implements Model {
         ModelManager other = (ModelManager) obj;
         return cliTutors.equals(other.cliTutors)
                 && userPrefs.equals(other.userPrefs)
-                && filteredTutors.equals(other.filteredTutors)
-                && filteredStudents.equals(other.filteredStudents)
+                && sortedTutors.equals(other.sortedTutors)
+                && sortedStudents.equals(other.sortedStudents)
                 && matchedTutors.equals(other.matchedTutors)
                 && (matchedStudent == null
                         ? other.matchedStudent == null : matchedStudent.equals(other.matchedStudent));
@@ -15,6 +15,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path cliTutorsFilePath = Paths.get("data" , "clitutors.json");
+    private DataFileFormat cliTutorsFileFormat = DataFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +37,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setCliTutorsFilePath(newUserPrefs.getCliTutorsFilePath());
+        setCliTutorsFileFormat(newUserPrefs.getCliTutorsFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +58,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.cliTutorsFilePath = cliTutorsFilePath;
     }
 
+    public DataFileFormat getCliTutorsFileFormat() {
+        return cliTutorsFileFormat;
+    }
+
+    public void setCliTutorsFileFormat(DataFileFormat cliTutorsFileFormat) {
+        requireNonNull(cliTutorsFileFormat);
+        this.cliTutorsFileFormat = cliTutorsFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +79,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return guiSettings.equals(o.guiSettings)
-                && cliTutorsFilePath.equals(o.cliTutorsFilePath);
+                && cliTutorsFilePath.equals(o.cliTutorsFilePath)
+                && cliTutorsFileFormat == o.cliTutorsFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, cliTutorsFilePath);
+        return Objects.hash(guiSettings, cliTutorsFilePath, cliTutorsFileFormat);
     }
 
     @Override
@@ -81,6 +93,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + cliTutorsFilePath);
+        sb.append("\nLocal data file format : " + cliTutorsFileFormat);
         return sb.toString();
     }
 }
@@ -0,0 +1,316 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import seedu.address.model.tag.LevelSubjectCode;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the genders, qualifications and tags of a list of persons, as one bitmap per {@code Gender}, per
+ * {@code Qualification} and per {@code LevelSubjectCode}. Bit {@code i} of a bitmap is set if the person in row
+ * {@code i} of the list has that gender, qualification or tag. Persons are found in their rows by identity, which is
+ * cheaper than hashing their phone numbers when every person of the list is looked up, so the persons the index is
+ * told of and asked about have to be the very objects in the list. Rows can also be found by phone number, for
+ * turning the phones found in other indexes into rows.
+ *
+ * A search on any of these attributes is then an OR of the bitmaps of the values searched for, and a search on several
+ * of them an AND of those, a word of 64 rows at a time, instead of a test of every person.
+ *
+ * Persons are only ever added at the end of the list, replaced in their rows or removed, so the index follows the list
+ * by appending rows, rewriting a row, or leaving the row of a removed person empty. The rows of the persons left keep
+ * their numbers, so they are in the same order as the list but not at the same positions once persons are removed.
+ * Once more than half of the rows are empty, the rows are numbered afresh, which moves rows found before then.
+ * Like {@code NameTokenIndex}, it is built from the persons it is given when it is first looked up in, and kept up to
+ * date from then on.
+ */
+public class AttributeIndex {
+    private final Iterable<? extends Person> persons;
+    /** The person in each row, or null for the rows of removed persons */
+    private final List<Person> personsByRow = new ArrayList<>();
+    private final BitSet filledRows = new BitSet();
+    private final Map<Person, Integer> rowsByPerson = new IdentityHashMap<>();
+    private final Map<Phone, Integer> rowsByPhone = new HashMap<>();
+    private final Map<Gender, BitSet> rowsByGender = new HashMap<>();
+    private final Map<Qualification, BitSet> rowsByQualification = new HashMap<>();
+    private final Map<LevelSubjectCode, BitSet> rowsByTag = new EnumMap<>(LevelSubjectCode.class);
+    private boolean isBuilt;
+    /** Number of times the index has changed, so that rows found in it can tell when they are out of date */
+    private long version;
+    /**
+     * Version of the last change that was not an append or a removal, before which rows found in it cannot be
+     * patched
+     */
+    private long rewriteVersion;
+
+    /**
+     * Creates an index of {@code persons}, in the order they are iterated in, which is to be told of every change to
+     * them.
+     */
+    public AttributeIndex(Iterable<? extends Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Adds {@code toAdd} in a new row after the last one.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        if (isBuilt) {
+            addRow(toAdd);
+        }
+        version++;
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}, in the row of {@code target}.
+     * {@code target} must exist in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        rewriteVersion = ++version;
+        if (!isBuilt) {
+            return;
+        }
+        int row = rowsByPerson.remove(target);
+        rowsByPhone.remove(target.getPhone());
+        setAttributes(target, row, false);
+        personsByRow.set(row, editedPerson);
+        rowsByPerson.put(editedPerson, row);
+        rowsByPhone.put(editedPerson.getPhone(), row);
+        setAttributes(editedPerson, row, true);
+    }
+
+    /**
+     * Removes {@code toRemove}, leaving its row empty, or numbers the rows afresh if more than half of them are then
+     * empty.
+     * {@code toRemove} must exist in the index.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        version++;
+        if (!isBuilt) {
+            return;
+        }
+        int row = rowsByPerson.remove(toRemove);
+        rowsByPhone.remove(toRemove.getPhone());
+        setAttributes(toRemove, row, false);
+        personsByRow.set(row, null);
+        filledRows.clear(row);
+        if (rowsByPerson.size() * 2 < personsByRow.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Discards the index, for when the persons have all been replaced. It is built again when next looked up in.
+     */
+    public void reset() {
+        isBuilt = false;
+        personsByRow.clear();
+        filledRows.clear();
+        rowsByPerson.clear();
+        rowsByPhone.clear();
+        rowsByGender.clear();
+        rowsByQualification.clear();
+        rowsByTag.clear();
+        rewriteVersion = ++version;
+    }
+
+    /**
+     * Returns a number that increases with every change to the persons of this index.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the version of the last change to the persons of this index that was not an addition or a removal.
+     * Rows found at this version or later are still right for the rows they were found in, so they only have to be
+     * patched with the rows added since, and have the rows emptied since cleared.
+     */
+    public long getRewriteVersion() {
+        return rewriteVersion;
+    }
+
+    /**
+     * Returns the number of persons in the index.
+     */
+    public int size() {
+        build();
+        return rowsByPerson.size();
+    }
+
+    /**
+     * Returns the number of rows in the index, including the empty rows of removed persons.
+     */
+    public int getRowCount() {
+        build();
+        return personsByRow.size();
+    }
+
+    /**
+     * Returns the person in {@code row}, or null if the row is empty.
+     */
+    public Person getPerson(int row) {
+        build();
+        return personsByRow.get(row);
+    }
+
+    /**
+     * Returns the rows of every person in the index.
+     */
+    public BitSet findAllRows() {
+        build();
+        return (BitSet) filledRows.clone();
+    }
+
+    /**
+     * Returns the rows of the persons with {@code phones}. Phones of persons not in the index are left out.
+     */
+    public BitSet findRowsOfPhones(Collection<Phone> phones) {
+        requireAllNonNull(phones);
+        build();
+        BitSet rows = new BitSet();
+        for (Phone phone : phones) {
+            Integer row = rowsByPhone.get(phone);
+            if (row != null) {
+                rows.set(row);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the rows of the persons with any of {@code genders}.
+     */
+    public BitSet findRowsWithGender(Collection<Gender> genders) {
+        requireAllNonNull(genders);
+        build();
+        return unionOf(rowsByGender, genders);
+    }
+
+    /**
+     * Returns the rows of the tutors with any of {@code qualifications}.
+     */
+    public BitSet findRowsWithQualification(Collection<Qualification> qualifications) {
+        requireAllNonNull(qualifications);
+        build();
+        return unionOf(rowsByQualification, qualifications);
+    }
+
+    /**
+     * Returns the rows of the persons with any of {@code tags}.
+     */
+    public BitSet findRowsWithAnyTag(Collection<Tag> tags) {
+        requireAllNonNull(tags);
+        build();
+        BitSet rows = new BitSet();
+        for (Tag tag : tags) {
+            BitSet tagRows = rowsByTag.get(tag.getLevelSubjectCode());
+            if (tagRows != null) {
+                rows.or(tagRows);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the rows of this index {@code findRows} finds.
+     * The rows are found again whenever the index has changed since they were last found, so the predicate stays
+     * correct as persons are added, edited and removed.
+     */
+    public Predicate<Person> inRows(Supplier<BitSet> findRows) {
+        requireNonNull(findRows);
+        return new RowsPredicate(findRows);
+    }
+
+    private void build() {
+        if (isBuilt) {
+            return;
+        }
+        isBuilt = true;
+        persons.forEach(this::addRow);
+        version++;
+    }
+
+    /**
+     * Numbers the rows of the persons afresh, in the same order, without the empty rows between them.
+     */
+    private void compact() {
+        List<Person> indexedPersons = new ArrayList<>(rowsByPerson.size());
+        for (int row = filledRows.nextSetBit(0); row >= 0; row = filledRows.nextSetBit(row + 1)) {
+            indexedPersons.add(personsByRow.get(row));
+        }
+        reset();
+        isBuilt = true;
+        indexedPersons.forEach(this::addRow);
+    }
+
+    private void addRow(Person person) {
+        int row = personsByRow.size();
+        personsByRow.add(person);
+        filledRows.set(row);
+        rowsByPerson.put(person, row);
+        rowsByPhone.put(person.getPhone(), row);
+        setAttributes(person, row, true);
+    }
+
+    private void setAttributes(Person person, int row, boolean value) {
+        rowsByGender.computeIfAbsent(person.getGender(), unused -> new BitSet()).set(row, value);
+        if (person instanceof Tutor) {
+            rowsByQualification.computeIfAbsent(((Tutor) person).getQualification(), unused -> new BitSet())
+                    .set(row, value);
+        }
+        for (Tag tag : person.getTags()) {
+            rowsByTag.computeIfAbsent(tag.getLevelSubjectCode(), unused -> new BitSet()).set(row, value);
+        }
+    }
+
+    private static <T> BitSet unionOf(Map<T, BitSet> rowsByValue, Collection<T> values) {
+        BitSet rows = new BitSet();
+        for (T value : values) {
+            BitSet valueRows = rowsByValue.get(value);
+            if (valueRows != null) {
+                rows.or(valueRows);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * A predicate on the rows found in this index, which finds them again when the index changes.
+     */
+    private class RowsPredicate implements Predicate<Person> {
+        private final Supplier<BitSet> findRows;
+        private BitSet rows;
+        private long rowsVersion;
+
+        RowsPredicate(Supplier<BitSet> findRows) {
+            this.findRows = findRows;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            build();
+            if (rows == null || rowsVersion != version) {
+                rows = findRows.get();
+                rowsVersion = version;
+            }
+            Integer row = rowsByPerson.get(person);
+            return row != null && rows.get(row);
+        }
+    }
+}
@@ -1,34 +1,72 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents a chained predicate to be used in FindCommand.
+ * A person has to satisfy every clause of the chain. The chain is an AND {@code QueryPredicate} of its clauses, so
+ * when it is tested {@link #withIndex(PersonIndexes) with indexes}, the clauses that can find their rows in them are
+ * intersected, smallest first, and only the persons in the rows left are tested on the rest.
  */
-public class ChainedPredicate implements Predicate<Person> {
+public class ChainedPredicate implements IndexablePredicate {
     private final Name name;
+    private final boolean isNameFuzzy;
     private final Gender gender;
     private final Qualification qualification;
     private final List<Tag> tags;
-    private final Predicate<Person> predicate;
+    private final QueryPredicate query;
 
     /** Constructs a {@code ChainedPredicate}. */
-    private ChainedPredicate(Name name, Gender gender, Qualification qualification, List<Tag> tags,
-                            Predicate<Person> predicate) {
+    private ChainedPredicate(Name name, boolean isNameFuzzy, Gender gender, Qualification qualification,
+                             List<Tag> tags, List<Predicate<Person>> clauses) {
         this.name = name;
+        this.isNameFuzzy = isNameFuzzy;
         this.gender = gender;
         this.qualification = qualification;
         this.tags = tags;
-        this.predicate = predicate;
+        this.query = QueryPredicate.and(clauses.stream().map(QueryPredicate::term).collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns the query the chain is, which unlike the chain is only equal to queries of equal clauses.
+     */
+    QueryPredicate toQuery() {
+        return query;
     }
 
     @Override
     public boolean test(Person person) {
-        return predicate.test(person);
+        return query.test(person);
+    }
+
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        return query.withIndex(indexes);
+    }
+
+    /**
+     * Returns the ranking of the first clause that ranks the persons it is true for, if any.
+     */
+    @Override
+    public Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+        return query.rankWithIndex(indexes);
+    }
+
+    /**
+     * Returns the rows every clause is true for, with the clauses that cannot find their rows in {@code indexes}
+     * tested only on the rows the others are true for.
+     */
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        return query.findRows(indexes);
     }
 
     @Override
@@ -37,22 +75,34 @@ public class ChainedPredicate implements Predicate<Person> {
                 || (other instanceof ChainedPredicate // instanceof handles nulls
                 && gender.equals(((ChainedPredicate) other).gender)
                 && name.equals(((ChainedPredicate) other).name)
+                && isNameFuzzy == ((ChainedPredicate) other).isNameFuzzy
                 && qualification.equals(((ChainedPredicate) other).qualification)
                 && tags.equals(((ChainedPredicate) other).tags));
     }
 
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, isNameFuzzy, gender, qualification, tags);
+    }
+
     public static class Builder {
         private Name name = new Name("DEFAULT");
+        private boolean isNameFuzzy = false;
         private Gender gender = new Gender("M");
         private Qualification qualification = new Qualification("0");
         private List<Tag> tags = new ArrayList<>();
-        private Predicate<Person> predicate;
+        private final List<Predicate<Person>> clauses = new ArrayList<>();
 
         public Builder setName(Name name) {
             this.name = name;
             return this;
         }
 
+        public Builder setNameFuzzy(boolean isNameFuzzy) {
+            this.isNameFuzzy = isNameFuzzy;
+            return this;
+        }
+
         public Builder setGender(Gender gender) {
             this.gender = gender;
             return this;
@@ -68,13 +118,25 @@ public class ChainedPredicate implements Predicate<Person> {
             return this;
         }
 
+        /**
+         * Makes {@code predicate} the only clause of the chain.
+         */
         public Builder setPredicate(Predicate<Person> predicate) {
-            this.predicate = predicate;
+            clauses.clear();
+            clauses.add(predicate);
+            return this;
+        }
+
+        /**
+         * Adds {@code clause} to the clauses a person has to satisfy, after the ones added before.
+         */
+        public Builder addClause(Predicate<Person> clause) {
+            clauses.add(clause);
             return this;
         }
 
         public ChainedPredicate build() {
-            return new ChainedPredicate(name, gender, qualification, tags, predicate);
+            return new ChainedPredicate(name, isNameFuzzy, gender, qualification, tags, List.copyOf(clauses));
         }
     }
 }
@@ -0,0 +1,147 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Tests that every word of a keyword starts a word of a {@code Person}'s {@code Name}, allowing for typos, and ranks
+ * the persons that pass by the number of typos their names need, fewest first. Case is ignored.
+ * The number of typos allowed in a word grows with its length: none for up to 2 characters, 1 for up to 5 characters
+ * and 2 for longer words. A typo is a character inserted, deleted or substituted.
+ */
+public class FuzzyNamePredicate implements IndexablePredicate {
+    private static final int NO_MATCH = -1;
+
+    private final List<String> words;
+    /** The typos of the persons in the index they were last looked up in, shared by the predicate and the ranking */
+    private IndexedTypos lastTypos;
+
+    /**
+     * Constructs a {@code FuzzyNamePredicate}.
+     *
+     * @param keyword Valid keyword, of one or more words.
+     */
+    public FuzzyNamePredicate(String keyword) {
+        requireNonNull(keyword);
+        words = Name.toCaseFoldedWords(keyword);
+    }
+
+    /**
+     * Returns the number of typos allowed in {@code word}.
+     */
+    static int getMaxTypos(String word) {
+        return word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+    }
+
+    @Override
+    public boolean test(Person person) {
+        return countTypos(person) != NO_MATCH;
+    }
+
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        NameTokenIndex nameIndex = indexes.getNameIndex();
+        return person -> getTypos(nameIndex).containsKey(person.getPhone());
+    }
+
+    @Override
+    public Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+        NameTokenIndex nameIndex = indexes.getNameIndex();
+        return Comparator.comparingInt(person ->
+                getTypos(nameIndex).getOrDefault(person.getPhone(), Integer.MAX_VALUE));
+    }
+
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        return indexes.getAttributeIndex().findRowsOfPhones(getTypos(indexes.getNameIndex()).keySet());
+    }
+
+    /**
+     * Returns the fewest typos the name of {@code person} needs, or {@code NO_MATCH} if it does not match.
+     */
+    private int countTypos(Person person) {
+        if (words.isEmpty()) {
+            return NO_MATCH;
+        }
+        List<String> nameWords = person.getName().getCaseFoldedWords();
+        int totalTypos = 0;
+        for (String word : words) {
+            int typos = Integer.MAX_VALUE;
+            for (String nameWord : nameWords) {
+                typos = Math.min(typos, StringUtil.prefixEditDistance(word, nameWord));
+            }
+            if (typos > getMaxTypos(word)) {
+                return NO_MATCH;
+            }
+            totalTypos += typos;
+        }
+        return totalTypos;
+    }
+
+    /**
+     * Returns the fewest typos the name of each matching person in {@code nameIndex} needs, keyed by phone.
+     * They are only looked up again when the index has changed since they were last looked up.
+     */
+    private Map<Phone, Integer> getTypos(NameTokenIndex nameIndex) {
+        if (lastTypos == null || lastTypos.nameIndex != nameIndex || lastTypos.version != nameIndex.getVersion()) {
+            Map<Phone, Integer> typos = findTypos(nameIndex);
+            lastTypos = new IndexedTypos(nameIndex, nameIndex.getVersion(), typos);
+        }
+        return lastTypos.typos;
+    }
+
+    private Map<Phone, Integer> findTypos(NameTokenIndex nameIndex) {
+        Map<Phone, Integer> totalTypos = null;
+        for (String word : words) {
+            Map<Phone, Integer> typos = nameIndex.findWordsStartingLike(word, getMaxTypos(word));
+            if (totalTypos == null) {
+                totalTypos = typos;
+            } else {
+                Map<Phone, Integer> matchingAllWords = new HashMap<>();
+                totalTypos.forEach((phone, count) -> {
+                    Integer wordTypos = typos.get(phone);
+                    if (wordTypos != null) {
+                        matchingAllWords.put(phone, count + wordTypos);
+                    }
+                });
+                totalTypos = matchingAllWords;
+            }
+        }
+        return totalTypos == null ? Map.of() : totalTypos;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FuzzyNamePredicate // instanceof handles nulls
+                && words.equals(((FuzzyNamePredicate) other).words)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return words.hashCode();
+    }
+
+    /**
+     * The typos found for the persons in a name index, as of a version of it.
+     */
+    private static class IndexedTypos {
+        private final NameTokenIndex nameIndex;
+        private final long version;
+        private final Map<Phone, Integer> typos;
+
+        IndexedTypos(NameTokenIndex nameIndex, long version, Map<Phone, Integer> typos) {
+            this.nameIndex = nameIndex;
+            this.version = version;
+            this.typos = typos;
+        }
+    }
+}
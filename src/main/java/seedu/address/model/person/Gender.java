@@ -18,11 +18,22 @@ public class Gender {
      * @param gender A valid gender.
      */
     public Gender(String gender) {
+        this(gender, true);
+    }
+
+    private Gender(String gender, boolean shouldValidate) {
         requireNonNull(gender);
-        checkArgument(isValidGender(gender), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidGender(gender), MESSAGE_CONSTRAINTS);
         genderSymbol = gender.toUpperCase();
     }
 
+    /**
+     * Returns a {@code Gender} for {@code gender}, which must be valid.
+     */
+    public static Gender ofTrusted(String gender) {
+        return new Gender(gender, false);
+    }
+
     /**
      * Returns true if a given string is a valid gender.
      */
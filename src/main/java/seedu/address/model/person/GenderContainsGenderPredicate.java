@@ -1,12 +1,13 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Person}'s {@code Gender} matches the Gender given.
  */
-public class GenderContainsGenderPredicate implements Predicate<Person> {
+public class GenderContainsGenderPredicate implements IndexablePredicate {
     private final List<Gender> gender;
 
     /**
@@ -24,10 +25,25 @@ public class GenderContainsGenderPredicate implements Predicate<Person> {
                 .anyMatch(gender -> person.getGender().equals(gender));
     }
 
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        return indexes.inRows(this);
+    }
+
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        return indexes.getAttributeIndex().findRowsWithGender(gender);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof GenderContainsGenderPredicate // instanceof handles nulls
                 && gender.equals(((GenderContainsGenderPredicate) other).gender)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return gender.hashCode();
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.model.person;
+
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+/**
+ * A predicate on persons that can be tested by looking persons up in the indexes kept of them, instead of by reading
+ * the fields of each person.
+ */
+public interface IndexablePredicate extends Predicate<Person> {
+    /**
+     * Returns a predicate that is true for the same persons as this one, for the persons indexed in
+     * {@code indexes}, but which tests them with lookups in {@code indexes}.
+     * The returned predicate sees later changes to {@code indexes}, so it stays correct as persons are edited.
+     */
+    Predicate<Person> withIndex(PersonIndexes indexes);
+
+    /**
+     * Returns the order in which to show the persons this predicate is true for, best match first, with lookups in
+     * {@code indexes}, or null if they are to be shown in the order of their list.
+     */
+    default Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+        return null;
+    }
+
+    /**
+     * Returns the rows of the attribute index of {@code indexes} holding the persons this predicate is true for, found
+     * with lookups in {@code indexes}, or null if this predicate cannot find them without testing every person.
+     * The rows returned are the caller's to change.
+     */
+    default BitSet findRows(PersonIndexes indexes) {
+        return null;
+    }
+}
@@ -0,0 +1,157 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The positions of the persons in a list, by phone number, so that a person can be edited or removed in the list
+ * without scanning it for the person.
+ *
+ * Each person is given a slot when appended, and keeps it when replaced. The slot of a removed person is left empty
+ * rather than the slots after it being renumbered, so the position of a person is the number of filled slots before
+ * its own, which is counted in a Fenwick tree of the filled slots in O(log n). Once more than half of the slots are
+ * empty, the slots are numbered afresh from the list.
+ *
+ * Like {@code AttributeIndex}, the positions are worked out from the persons they are given when first looked up in,
+ * and the list is to tell them of every change before making it.
+ */
+public class ListPositions {
+    /** Number of slots the tree has room for at least, and that may be empty before the slots are numbered afresh */
+    private static final int MIN_SLOTS = 16;
+
+    private final Iterable<? extends Person> persons;
+    private final Map<Phone, Integer> slotsByPhone = new HashMap<>();
+    private final BitSet filledSlots = new BitSet();
+    /** Fenwick tree of the filled slots: entry {@code i} counts the filled slots in {@code [i - (i & -i), i)} */
+    private int[] tree;
+    /** Number of slots handed out, filled or empty */
+    private int slotCount;
+    private boolean isBuilt;
+
+    /**
+     * Creates the positions of {@code persons}, in the order they are iterated in, which are to be told of every
+     * change to them.
+     */
+    public ListPositions(Iterable<? extends Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Adds the person with {@code phone} after the last one.
+     */
+    public void append(Phone phone) {
+        requireNonNull(phone);
+        if (!isBuilt) {
+            return;
+        }
+        if (slotCount == tree.length - 1) {
+            growTree();
+        }
+        int slot = slotCount++;
+        filledSlots.set(slot);
+        addToTree(slot, 1);
+        slotsByPhone.put(phone, slot);
+    }
+
+    /**
+     * Moves the person with {@code phone} to {@code editedPhone}, at the same position.
+     * A person with {@code phone} must be in the list.
+     */
+    public void replace(Phone phone, Phone editedPhone) {
+        requireAllNonNull(phone, editedPhone);
+        if (!isBuilt) {
+            return;
+        }
+        slotsByPhone.put(editedPhone, slotsByPhone.remove(phone));
+    }
+
+    /**
+     * Removes the person with {@code phone}, and returns the position it was at.
+     * A person with {@code phone} must be in the list.
+     */
+    public int remove(Phone phone) {
+        requireNonNull(phone);
+        int position = positionOf(phone);
+        int slot = slotsByPhone.remove(phone);
+        filledSlots.clear(slot);
+        addToTree(slot, -1);
+        return position;
+    }
+
+    /**
+     * Returns the position of the person with {@code phone}.
+     * A person with {@code phone} must be in the list.
+     */
+    public int positionOf(Phone phone) {
+        requireNonNull(phone);
+        build();
+        int slot = slotsByPhone.get(phone);
+        int position = 0;
+        for (int i = slot; i > 0; i -= i & -i) {
+            position += tree[i];
+        }
+        return position;
+    }
+
+    /**
+     * Discards the positions, for when the persons have all been replaced. They are worked out again when next
+     * looked up.
+     */
+    public void reset() {
+        isBuilt = false;
+        slotsByPhone.clear();
+        filledSlots.clear();
+        tree = null;
+        slotCount = 0;
+    }
+
+    /**
+     * Numbers the slots afresh from the list, if the positions have not been worked out since they were last reset,
+     * or if more than half of the slots are empty.
+     */
+    private void build() {
+        if (isBuilt && (slotCount <= MIN_SLOTS || slotsByPhone.size() * 2 >= slotCount)) {
+            return;
+        }
+        reset();
+        isBuilt = true;
+        for (Person person : persons) {
+            slotsByPhone.put(person.getPhone(), slotCount++);
+        }
+        filledSlots.set(0, slotCount);
+        tree = new int[Math.max(MIN_SLOTS, slotCount * 2) + 1];
+        fillTree();
+    }
+
+    private void growTree() {
+        tree = new int[tree.length * 2 - 1];
+        fillTree();
+    }
+
+    /**
+     * Fills the tree from {@code filledSlots} in O(n), by adding each entry into the next entry that covers it.
+     */
+    private void fillTree() {
+        for (int i = 1; i < tree.length; i++) {
+            tree[i] += filledSlots.get(i - 1) ? 1 : 0;
+            int parent = i + (i & -i);
+            if (parent < tree.length) {
+                tree[parent] += tree[i];
+            }
+        }
+    }
+
+    /**
+     * Adds {@code delta} to the count of {@code slot}, in every entry of the tree that covers it.
+     */
+    private void addToTree(int slot, int delta) {
+        for (int i = slot + 1; i < tree.length; i += i & -i) {
+            tree[i] += delta;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
  * Represents a Person's name in the address book.
@@ -25,11 +26,22 @@ public class Name {
      * @param name A valid name.
      */
     public Name(String name) {
+        this(name, true);
+    }
+
+    private Name(String name, boolean shouldValidate) {
         requireNonNull(name);
-        checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
     }
 
+    /**
+     * Returns a {@code Name} for {@code name}, which must be valid.
+     */
+    public static Name ofTrusted(String name) {
+        return new Name(name, false);
+    }
+
     /**
      * Returns true if a given string is a valid name.
      */
@@ -37,6 +49,33 @@ public class Name {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the words of this name in lower case, in the order they appear, as matched by name searches.
+     */
+    public List<String> getCaseFoldedWords() {
+        return toCaseFoldedWords(fullName);
+    }
+
+    /**
+     * Returns the words of {@code text}, separated by whitespace, in lower case.
+     * Case is folded the same way for names and the keywords they are searched with, whatever the default locale.
+     */
+    public static List<String> toCaseFoldedWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean isSeparator = i == text.length() || Character.isWhitespace(text.charAt(i));
+            if (isSeparator && start != -1) {
+                words.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            } else if (!isSeparator && start == -1) {
+                start = i;
+            }
+        }
+        return words;
+    }
+
     /**
      * Formats the name by capitalizing the first character and removing unnecessary whitespaces.
      *
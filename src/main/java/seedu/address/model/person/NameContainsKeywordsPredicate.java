@@ -1,16 +1,21 @@
 package seedu.address.model.person;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
-
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * Matching is case-insensitive and by whole words. A keyword of several words matches a name that has all of them.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Person> {
+public class NameContainsKeywordsPredicate implements IndexablePredicate {
     private final List<String> keywords;
+    /** The words of each keyword, in lower case */
+    private final List<List<String>> keywordWords;
 
     /**
      * Constructs a {@code NameContainsKeywordsPredicate}.
@@ -21,12 +26,65 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         this.keywords = keywords.stream()
                 .map(String::toLowerCase)
                 .collect(Collectors.toList());
+        keywordWords = keywords.stream()
+                .map(Name::toCaseFoldedWords)
+                .filter(words -> !words.isEmpty())
+                .collect(Collectors.toList());
     }
 
     @Override
     public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        List<String> nameWords = person.getName().getCaseFoldedWords();
+        for (List<String> words : keywordWords) {
+            if (nameWords.containsAll(words)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        NameTokenIndex nameIndex = indexes.getNameIndex();
+        return person -> {
+            for (List<String> words : keywordWords) {
+                if (hasAllWords(nameIndex, person.getPhone(), words)) {
+                    return true;
+                }
+            }
+            return false;
+        };
+    }
+
+    /**
+     * Returns the rows of the persons with all the words of any keyword, starting from the persons with the rarest word
+     * of each keyword.
+     */
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        NameTokenIndex nameIndex = indexes.getNameIndex();
+        List<Phone> phones = new ArrayList<>();
+        for (List<String> words : keywordWords) {
+            Set<Phone> rarestWordPhones = words.stream()
+                    .map(nameIndex::findPhonesWithWord)
+                    .min(Comparator.comparingInt(Set::size))
+                    .get();
+            for (Phone phone : rarestWordPhones) {
+                if (hasAllWords(nameIndex, phone, words)) {
+                    phones.add(phone);
+                }
+            }
+        }
+        return indexes.getAttributeIndex().findRowsOfPhones(phones);
+    }
+
+    private static boolean hasAllWords(NameTokenIndex nameIndex, Phone phone, List<String> words) {
+        for (String word : words) {
+            if (!nameIndex.hasWord(phone, word)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -35,4 +93,9 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
                 || (other instanceof NameContainsKeywordsPredicate // instanceof handles nulls
                 && keywords.equals(((NameContainsKeywordsPredicate) other).keywords)); // state check
     }
+
+    @Override
+    public int hashCode() {
+        return keywords.hashCode();
+    }
 }
@@ -0,0 +1,257 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An inverted index from each word of a name, in lower case, to the persons whose names have that word.
+ * Persons are keyed by phone number, in line with {@code Person#isSamePerson(Person)}.
+ *
+ * The words are kept in a hash map, for looking up whole words, and in a trie, for looking up words by how close
+ * their starts are to a given word. The trie is searched with one row of the edit distance table per node, so only
+ * the words that share a start close enough to the given word are visited.
+ *
+ * The index is built from the persons it is given when it is first looked up in, so that loading many persons does
+ * not pay for it until a name is searched for. From then on it is kept up to date as persons are added, edited and
+ * removed, so a name search only has to look up the words it is given, instead of splitting and comparing the name of
+ * every person.
+ */
+public class NameTokenIndex {
+    private final Iterable<? extends Person> persons;
+    /** Phones of the persons with each word in their names, or null if the index has not been built yet */
+    private Map<String, Set<Phone>> phonesByWord;
+    /** The words of {@code phonesByWord}, with the same sets of phones */
+    private TrieNode trie;
+    /** Number of times the index has changed, so that results computed from it can tell when they are out of date */
+    private long version;
+
+    /**
+     * Creates an index of {@code persons}, which is to be told of every change to them.
+     */
+    public NameTokenIndex(Iterable<? extends Person> persons) {
+        requireNonNull(persons);
+        this.persons = persons;
+    }
+
+    /**
+     * Adds {@code toAdd} under every word of its name.
+     */
+    public void add(Person toAdd) {
+        requireNonNull(toAdd);
+        if (phonesByWord != null) {
+            addToWords(toAdd);
+            version++;
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the index.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Removes {@code toRemove} from every word of its name.
+     */
+    public void remove(Person toRemove) {
+        requireNonNull(toRemove);
+        if (phonesByWord == null) {
+            return;
+        }
+        for (String word : toRemove.getName().getCaseFoldedWords()) {
+            Set<Phone> phones = phonesByWord.get(word);
+            if (phones != null) {
+                phones.remove(toRemove.getPhone());
+                if (phones.isEmpty()) {
+                    phonesByWord.remove(word);
+                    trie.remove(word, 0);
+                }
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Discards the index, for when the persons have all been replaced. It is built again when next looked up in.
+     */
+    public void reset() {
+        phonesByWord = null;
+        trie = null;
+        version++;
+    }
+
+    /**
+     * Returns a number that changes whenever the words of the persons in this index change.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns true if the person with {@code phone} has {@code word}, which must be in lower case, in their name.
+     */
+    public boolean hasWord(Phone phone, String word) {
+        requireAllNonNull(phone, word);
+        build();
+        Set<Phone> phones = phonesByWord.get(word);
+        return phones != null && phones.contains(phone);
+    }
+
+    /**
+     * Returns the phones of the persons with {@code word}, which must be in lower case, in their name.
+     * The set returned is a view of the index, and changes with it.
+     */
+    public Set<Phone> findPhonesWithWord(String word) {
+        requireNonNull(word);
+        build();
+        Set<Phone> phones = phonesByWord.get(word);
+        return phones == null ? Set.of() : Collections.unmodifiableSet(phones);
+    }
+
+    /**
+     * Returns the persons with a word in their name that starts with {@code word}, which must be in lower case, give
+     * or take at most {@code maxDistance} characters inserted, deleted or substituted. Each person is mapped to the
+     * fewest such changes any word of their name needs, as in {@link StringUtil#prefixEditDistance(String, String)}.
+     * {@code maxDistance} must be less than the length of {@code word}, or every person would be found.
+     */
+    public Map<Phone, Integer> findWordsStartingLike(String word, int maxDistance) {
+        requireNonNull(word);
+        checkArgument(maxDistance >= 0 && maxDistance < word.length(),
+                "Distance should be less than the length of the word");
+        build();
+        Map<Phone, Integer> distances = new HashMap<>();
+        int[] row = StringUtil.firstEditDistanceRow(word);
+        trie.search(word, row, row[word.length()], maxDistance, distances);
+        return distances;
+    }
+
+    private void build() {
+        if (phonesByWord != null) {
+            return;
+        }
+        phonesByWord = new HashMap<>();
+        trie = new TrieNode();
+        persons.forEach(this::addToWords);
+        version++;
+    }
+
+    private void addToWords(Person person) {
+        for (String word : person.getName().getCaseFoldedWords()) {
+            phonesByWord.computeIfAbsent(word, unused -> trie.add(word, 0)).add(person.getPhone());
+        }
+    }
+
+    /**
+     * A node of the trie, standing for the word spelled by the characters on the path to it.
+     */
+    private static class TrieNode {
+        private static final char[] NO_KEYS = new char[0];
+        private static final TrieNode[] NO_CHILDREN = new TrieNode[0];
+
+        private char[] keys = NO_KEYS;
+        private TrieNode[] children = NO_CHILDREN;
+        /** Phones of the persons with the word of this node in their names, or null if it is not a word */
+        private Set<Phone> phones;
+
+        /**
+         * Adds the word whose characters from {@code start} on lead from this node, and returns its empty set of
+         * phones.
+         */
+        Set<Phone> add(String word, int start) {
+            if (start == word.length()) {
+                phones = new HashSet<>();
+                return phones;
+            }
+            char key = word.charAt(start);
+            int i = indexOf(key);
+            if (i == -1) {
+                i = keys.length;
+                keys = Arrays.copyOf(keys, i + 1);
+                children = Arrays.copyOf(children, i + 1);
+                keys[i] = key;
+                children[i] = new TrieNode();
+            }
+            return children[i].add(word, start + 1);
+        }
+
+        /**
+         * Removes the word whose characters from {@code start} on lead from this node, along with the nodes that no
+         * longer lead to any word. Returns true if this node no longer leads to any word either.
+         */
+        boolean remove(String word, int start) {
+            if (start == word.length()) {
+                phones = null;
+            } else {
+                int i = indexOf(word.charAt(start));
+                if (i != -1 && children[i].remove(word, start + 1)) {
+                    removeChild(i);
+                }
+            }
+            return phones == null && keys.length == 0;
+        }
+
+        /**
+         * Adds the phones of the words from this node on that start like {@code word} to {@code distances}.
+         * {@code row} is the edit distance table row of {@code word} against the word of this node, and
+         * {@code bestDistance} the least edit distance between {@code word} and the word of this node or any word
+         * on the path to it.
+         */
+        void search(String word, int[] row, int bestDistance, int maxDistance, Map<Phone, Integer> distances) {
+            if (bestDistance <= maxDistance && Arrays.stream(row).min().getAsInt() >= bestDistance) {
+                // no word further on can start any closer to word than the words on the path here already do
+                collect(bestDistance, distances);
+                return;
+            }
+            if (phones != null && bestDistance <= maxDistance) {
+                phones.forEach(phone -> distances.merge(phone, bestDistance, Math::min));
+            }
+            for (int i = 0; i < keys.length; i++) {
+                int[] nextRow = StringUtil.nextEditDistanceRow(word, row, keys[i]);
+                int nextBestDistance = Math.min(bestDistance, nextRow[word.length()]);
+                if (nextBestDistance <= maxDistance || Arrays.stream(nextRow).min().getAsInt() <= maxDistance) {
+                    children[i].search(word, nextRow, nextBestDistance, maxDistance, distances);
+                }
+            }
+        }
+
+        private void collect(int distance, Map<Phone, Integer> distances) {
+            if (phones != null) {
+                phones.forEach(phone -> distances.merge(phone, distance, Math::min));
+            }
+            for (TrieNode child : children) {
+                child.collect(distance, distances);
+            }
+        }
+
+        private int indexOf(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private void removeChild(int i) {
+            int last = keys.length - 1;
+            keys[i] = keys[last];
+            children[i] = children[last];
+            keys = Arrays.copyOf(keys, last);
+            children = Arrays.copyOf(children, last);
+        }
+    }
+}
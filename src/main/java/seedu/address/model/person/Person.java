@@ -2,12 +2,11 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Represents a Person in the address book.
@@ -21,7 +20,7 @@ public abstract class Person {
     private final Remark remark;
 
     // Data fields
-    private final Set<Tag> tags = new HashSet<>();
+    private final TagSet tags;
 
     /**
      * Every field must be present and not null.
@@ -32,7 +31,7 @@ public abstract class Person {
         this.phone = phone;
         this.gender = gender;
         this.remark = remark;
-        this.tags.addAll(tags);
+        this.tags = TagSet.of(tags);
     }
 
     public Name getName() {
@@ -55,8 +54,8 @@ public abstract class Person {
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+    public TagSet getTags() {
+        return tags;
     }
 
     /**
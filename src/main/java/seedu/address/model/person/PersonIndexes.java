@@ -0,0 +1,141 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * The indexes kept of a list of persons: of the words of their names, and of their genders, qualifications and tags.
+ * The list is to tell its indexes of every change before making it, so that predicates looking persons up in them see
+ * each change by the time the list does. The persons it tells them of have to be the very objects in the list.
+ *
+ * The rows the last few predicates were true for are cached, by predicate, so that a search repeated with an equal
+ * predicate does not have to be worked out again. The rows cached for a predicate are stamped with the version of the
+ * attribute index they were found at. If only persons have been added or removed since, the new rows are tested on
+ * their own and added to the cached rows, and the rows left empty are cleared from them; after any other change the
+ * rows are found again.
+ */
+public class PersonIndexes {
+    /** Number of predicates whose rows are cached, the least recently used being dropped first */
+    static final int MAX_CACHED_PREDICATES = 32;
+
+    private final NameTokenIndex nameIndex;
+    private final AttributeIndex attributeIndex;
+    private final Map<IndexablePredicate, CachedRows> rowsCache =
+            new LinkedHashMap<>(MAX_CACHED_PREDICATES, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<IndexablePredicate, CachedRows> eldest) {
+                    return size() > MAX_CACHED_PREDICATES;
+                }
+            };
+
+    /**
+     * Creates the indexes of {@code persons}, in the order they are iterated in.
+     */
+    public PersonIndexes(Iterable<? extends Person> persons) {
+        requireNonNull(persons);
+        nameIndex = new NameTokenIndex(persons);
+        attributeIndex = new AttributeIndex(persons);
+    }
+
+    /**
+     * Adds {@code toAdd}, after the persons already indexed.
+     */
+    public void add(Person toAdd) {
+        nameIndex.add(toAdd);
+        attributeIndex.add(toAdd);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the indexes.
+     */
+    public void replace(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        nameIndex.replace(target, editedPerson);
+        attributeIndex.replace(target, editedPerson);
+    }
+
+    /**
+     * Removes {@code toRemove}.
+     * {@code toRemove} must exist in the indexes.
+     */
+    public void remove(Person toRemove) {
+        nameIndex.remove(toRemove);
+        attributeIndex.remove(toRemove);
+    }
+
+    /**
+     * Discards the indexes, for when the persons have all been replaced.
+     */
+    public void reset() {
+        nameIndex.reset();
+        attributeIndex.reset();
+    }
+
+    public NameTokenIndex getNameIndex() {
+        return nameIndex;
+    }
+
+    public AttributeIndex getAttributeIndex() {
+        return attributeIndex;
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the rows {@code predicate} is true for, which are found
+     * through the cache, and found again whenever the persons change.
+     * {@code predicate} must be able to {@link IndexablePredicate#findRows(PersonIndexes) find its rows}.
+     */
+    public Predicate<Person> inRows(IndexablePredicate predicate) {
+        requireNonNull(predicate);
+        return attributeIndex.inRows(() -> findRows(predicate));
+    }
+
+    /**
+     * Returns the rows of the attribute index holding the persons {@code predicate} is true for, from the cache if
+     * they are in it, or null if {@code predicate} cannot find them. The rows returned are the caller's to change.
+     */
+    public BitSet findRows(IndexablePredicate predicate) {
+        requireNonNull(predicate);
+        int rowCount = attributeIndex.getRowCount(); // builds the index, which changes its version
+        long version = attributeIndex.getVersion();
+        CachedRows cached = rowsCache.get(predicate);
+        if (cached == null || cached.version < attributeIndex.getRewriteVersion()) {
+            BitSet rows = predicate.findRows(this);
+            if (rows == null) {
+                return null;
+            }
+            cached = new CachedRows(rows, version, rowCount);
+            rowsCache.put(predicate, cached);
+        } else if (cached.version != version) {
+            for (int row = cached.rowCount; row < rowCount; row++) {
+                Person person = attributeIndex.getPerson(row);
+                cached.rows.set(row, person != null && predicate.test(person));
+            }
+            cached.rows.and(attributeIndex.findAllRows());
+            cached.version = version;
+            cached.rowCount = rowCount;
+        }
+        return (BitSet) cached.rows.clone();
+    }
+
+    /**
+     * The rows a predicate was true for, when the attribute index was at {@code version} and had {@code rowCount}
+     * rows.
+     */
+    private static class CachedRows {
+        private final BitSet rows;
+        private long version;
+        private int rowCount;
+
+        CachedRows(BitSet rows, long version, int rowCount) {
+            this.rows = rows;
+            this.version = version;
+            this.rowCount = rowCount;
+        }
+    }
+}
@@ -49,11 +49,22 @@ public class Qualification {
      * @param qualification A valid qualification.
      */
     public Qualification(String qualification) {
+        this(qualification, true);
+    }
+
+    private Qualification(String qualification, boolean shouldValidate) {
         requireNonNull(qualification);
-        checkArgument(isValidQualification(qualification), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidQualification(qualification), MESSAGE_CONSTRAINTS);
         this.index = qualification;
     }
 
+    /**
+     * Returns a {@code Qualification} for {@code qualification}, which must be valid.
+     */
+    public static Qualification ofTrusted(String qualification) {
+        return new Qualification(qualification, false);
+    }
+
     /**
      * Returns true if a given string is a valid qualification.
      */
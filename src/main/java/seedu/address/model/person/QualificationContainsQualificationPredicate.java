@@ -1,12 +1,13 @@
 package seedu.address.model.person;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 /**
  * Tests that a {@code Person}'s {@code Qualification} matches the qualification given.
  */
-public class QualificationContainsQualificationPredicate implements Predicate<Person> {
+public class QualificationContainsQualificationPredicate implements IndexablePredicate {
     private final List<Qualification> qualification;
 
     /**
@@ -29,10 +30,25 @@ public class QualificationContainsQualificationPredicate implements Predicate<Pe
         return false;
     }
 
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        return indexes.inRows(this);
+    }
+
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        return indexes.getAttributeIndex().findRowsWithQualification(qualification);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof QualificationContainsQualificationPredicate // instanceof handles nulls
                 && qualification.equals(((QualificationContainsQualificationPredicate) other).qualification));
     }
+
+    @Override
+    public int hashCode() {
+        return qualification.hashCode();
+    }
 }
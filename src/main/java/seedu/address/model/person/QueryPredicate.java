@@ -0,0 +1,408 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * A boolean query on persons: a tree of ANDs, ORs and NOTs of terms, each term a predicate on persons.
+ *
+ * When the query is tested {@link #withIndex(PersonIndexes) with indexes}, it is run as a plan over the rows of the
+ * attribute index instead of being tested on each person. Every node of the tree takes the rows that can still match
+ * and returns the ones it is true for:
+ * <ul>
+ *     <li>a term that can find its rows in the indexes intersects them with the rows it is given, and any other term
+ *     is tested on the persons of those rows only,</li>
+ *     <li>an AND runs its children from the one expected to match the fewest rows to the one expected to match the
+ *     most, with the terms that have to be tested person by person last, each on the rows the ones before it left,
+ *     and stops once no rows are left,</li>
+ *     <li>an OR runs its children on the rows none of the children before it matched,</li>
+ *     <li>a NOT removes the rows its child matches from the rows it is given.</li>
+ * </ul>
+ * The number of rows a term matches is known exactly from its bitmap, so the order of an AND is by the cardinality of
+ * the bitmaps of its terms. The rows of each term are found once per run of the plan, through the cache of
+ * {@code PersonIndexes}, so that a term shared by several queries is only looked up once while the persons are
+ * unchanged.
+ */
+public abstract class QueryPredicate implements IndexablePredicate {
+
+    private QueryPredicate() {}
+
+    /**
+     * Returns a query that is true for the persons {@code predicate} is true for.
+     * A {@code ChainedPredicate} is replaced by its query, as chains are equal to chains of other clauses.
+     */
+    public static QueryPredicate term(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof ChainedPredicate) {
+            return ((ChainedPredicate) predicate).toQuery();
+        }
+        return predicate instanceof QueryPredicate ? (QueryPredicate) predicate : new Term(predicate);
+    }
+
+    /**
+     * Returns a query that is true for the persons every one of {@code queries} is true for.
+     */
+    public static QueryPredicate and(List<QueryPredicate> queries) {
+        requireAllNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new And(List.copyOf(queries));
+    }
+
+    /**
+     * Returns a query that is true for the persons any of {@code queries} is true for.
+     */
+    public static QueryPredicate or(List<QueryPredicate> queries) {
+        requireAllNonNull(queries);
+        return queries.size() == 1 ? queries.get(0) : new Or(List.copyOf(queries));
+    }
+
+    /**
+     * Returns a query that is true for the persons {@code query} is false for.
+     */
+    public static QueryPredicate not(QueryPredicate query) {
+        requireNonNull(query);
+        return new Not(query);
+    }
+
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        return indexes.inRows(this);
+    }
+
+    /**
+     * Returns the rows of the persons this query is true for, found by running its plan over every row of the
+     * attribute index of {@code indexes}. Never null, as the terms that cannot find their rows are tested on the
+     * persons of the rows left for them.
+     */
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        requireNonNull(indexes);
+        Run run = new Run(indexes);
+        return run(run, run.attributeIndex.findAllRows());
+    }
+
+    /**
+     * Returns the rows of {@code candidates} this query is true for, as a new bitmap.
+     */
+    abstract BitSet run(Run run, BitSet candidates);
+
+    /**
+     * Returns the number of rows this query is expected to be true for.
+     */
+    abstract int estimate(Run run);
+
+    /**
+     * Returns true if this query has to test persons one by one.
+     */
+    abstract boolean isResidual(Run run);
+
+    /**
+     * Returns the order of the first of {@code queries} that ranks the persons it is true for, if any.
+     */
+    private static Comparator<Person> firstRanking(List<QueryPredicate> queries, PersonIndexes indexes) {
+        return queries.stream()
+                .map(query -> query.rankWithIndex(indexes))
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * The state of one run of a plan: the rows each term found, and the predicates the other terms are tested with.
+     */
+    private static class Run {
+        private final PersonIndexes indexes;
+        private final AttributeIndex attributeIndex;
+        private final Map<Term, BitSet> rowsByTerm = new IdentityHashMap<>();
+        private final Map<Term, Predicate<Person>> predicatesByTerm = new IdentityHashMap<>();
+
+        Run(PersonIndexes indexes) {
+            this.indexes = indexes;
+            this.attributeIndex = indexes.getAttributeIndex();
+        }
+
+        /**
+         * Returns the rows {@code term} found, or null if it has to be tested person by person.
+         */
+        BitSet rowsOf(Term term) {
+            if (!rowsByTerm.containsKey(term)) {
+                rowsByTerm.put(term, term.predicate instanceof IndexablePredicate
+                        ? indexes.findRows((IndexablePredicate) term.predicate)
+                        : null);
+            }
+            return rowsByTerm.get(term);
+        }
+
+        Predicate<Person> predicateOf(Term term) {
+            return predicatesByTerm.computeIfAbsent(term, unused -> term.predicate instanceof IndexablePredicate
+                    ? ((IndexablePredicate) term.predicate).withIndex(indexes)
+                    : term.predicate);
+        }
+    }
+
+    /**
+     * A query of a single predicate.
+     */
+    private static class Term extends QueryPredicate {
+        private final Predicate<Person> predicate;
+
+        Term(Predicate<Person> predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return predicate.test(person);
+        }
+
+        @Override
+        public Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+            return predicate instanceof IndexablePredicate
+                    ? ((IndexablePredicate) predicate).rankWithIndex(indexes)
+                    : null;
+        }
+
+        @Override
+        BitSet run(Run run, BitSet candidates) {
+            BitSet rows = run.rowsOf(this);
+            BitSet matches = (BitSet) candidates.clone();
+            if (rows != null) {
+                matches.and(rows);
+                return matches;
+            }
+            Predicate<Person> predicate = run.predicateOf(this);
+            for (int row = candidates.nextSetBit(0); row >= 0; row = candidates.nextSetBit(row + 1)) {
+                if (!predicate.test(run.attributeIndex.getPerson(row))) {
+                    matches.clear(row);
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        int estimate(Run run) {
+            BitSet rows = run.rowsOf(this);
+            return rows != null ? rows.cardinality() : run.attributeIndex.size();
+        }
+
+        @Override
+        boolean isResidual(Run run) {
+            return run.rowsOf(this) == null;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Term // instanceof handles nulls
+                    && predicate.equals(((Term) other).predicate));
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate.hashCode();
+        }
+    }
+
+    /**
+     * A query that is true if all of its children are.
+     */
+    private static class And extends QueryPredicate {
+        private final List<QueryPredicate> children;
+
+        And(List<QueryPredicate> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (QueryPredicate child : children) {
+                if (!child.test(person)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+            return firstRanking(children, indexes);
+        }
+
+        @Override
+        BitSet run(Run run, BitSet candidates) {
+            List<QueryPredicate> plan = new ArrayList<>(children);
+            plan.sort(Comparator.<QueryPredicate, Boolean>comparing(child -> child.isResidual(run))
+                    .thenComparingInt(child -> child.estimate(run)));
+            BitSet matches = candidates;
+            for (QueryPredicate child : plan) {
+                matches = child.run(run, matches);
+                if (matches.isEmpty()) {
+                    break;
+                }
+            }
+            return matches == candidates ? (BitSet) candidates.clone() : matches;
+        }
+
+        @Override
+        int estimate(Run run) {
+            int estimate = run.attributeIndex.size();
+            for (QueryPredicate child : children) {
+                estimate = Math.min(estimate, child.estimate(run));
+            }
+            return estimate;
+        }
+
+        @Override
+        boolean isResidual(Run run) {
+            return children.stream().allMatch(child -> child.isResidual(run));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof And // instanceof handles nulls
+                    && children.equals(((And) other).children));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(And.class, children);
+        }
+    }
+
+    /**
+     * A query that is true if any of its children is.
+     */
+    private static class Or extends QueryPredicate {
+        private final List<QueryPredicate> children;
+
+        Or(List<QueryPredicate> children) {
+            this.children = children;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            for (QueryPredicate child : children) {
+                if (child.test(person)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+            return firstRanking(children, indexes);
+        }
+
+        /**
+         * Runs the children that can find their rows first, largest first, so that the children tested person by
+         * person are left with as few rows as possible.
+         */
+        @Override
+        BitSet run(Run run, BitSet candidates) {
+            List<QueryPredicate> plan = new ArrayList<>(children);
+            plan.sort(Comparator.<QueryPredicate, Boolean>comparing(child -> child.isResidual(run))
+                    .thenComparing(Comparator.<QueryPredicate>comparingInt(child -> child.estimate(run)).reversed()));
+            BitSet matches = new BitSet();
+            BitSet unmatched = (BitSet) candidates.clone();
+            for (QueryPredicate child : plan) {
+                BitSet childMatches = child.run(run, unmatched);
+                matches.or(childMatches);
+                unmatched.andNot(childMatches);
+                if (unmatched.isEmpty()) {
+                    break;
+                }
+            }
+            return matches;
+        }
+
+        @Override
+        int estimate(Run run) {
+            long estimate = 0;
+            for (QueryPredicate child : children) {
+                estimate += child.estimate(run);
+            }
+            return (int) Math.min(estimate, run.attributeIndex.size());
+        }
+
+        @Override
+        boolean isResidual(Run run) {
+            return children.stream().anyMatch(child -> child.isResidual(run));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Or // instanceof handles nulls
+                    && children.equals(((Or) other).children));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Or.class, children);
+        }
+    }
+
+    /**
+     * A query that is true if its child is not.
+     */
+    private static class Not extends QueryPredicate {
+        private final QueryPredicate child;
+
+        Not(QueryPredicate child) {
+            this.child = child;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            return !child.test(person);
+        }
+
+        /**
+         * Returns null, as the ranking of the child is of the persons this query is false for.
+         */
+        @Override
+        public Comparator<Person> rankWithIndex(PersonIndexes indexes) {
+            return null;
+        }
+
+        @Override
+        BitSet run(Run run, BitSet candidates) {
+            BitSet matches = (BitSet) candidates.clone();
+            matches.andNot(child.run(run, candidates));
+            return matches;
+        }
+
+        @Override
+        int estimate(Run run) {
+            return Math.max(0, run.attributeIndex.size() - child.estimate(run));
+        }
+
+        @Override
+        boolean isResidual(Run run) {
+            return child.isResidual(run);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof Not // instanceof handles nulls
+                    && child.equals(((Not) other).child));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(Not.class, child);
+        }
+    }
+}
@@ -25,11 +25,22 @@ public class Remark {
      * @param remark A valid remark.
      */
     public Remark(String remark) {
+        this(remark, true);
+    }
+
+    private Remark(String remark, boolean shouldValidate) {
         requireNonNull(remark);
-        checkArgument(isValidRemark(remark), MESSAGE_CONSTRAINTS);
+        checkArgument(!shouldValidate || isValidRemark(remark), MESSAGE_CONSTRAINTS);
         description = remark;
     }
 
+    /**
+     * Returns a {@code Remark} for {@code remark}, which must be valid.
+     */
+    public static Remark ofTrusted(String remark) {
+        return new Remark(remark, false);
+    }
+
     /**
      * Returns true if a given string is a valid remark.
      */
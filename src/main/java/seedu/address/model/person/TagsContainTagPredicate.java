@@ -2,16 +2,19 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Tests that a {@code Person}'s {@code Tag} matches the Tags given.
  */
-public class TagsContainTagPredicate implements Predicate<Person> {
+public class TagsContainTagPredicate implements IndexablePredicate {
     private final List<Tag> tags;
+    private final TagSet tagSet;
 
     /**
      * Constructs a {@code TagsContainTagPredicate}.
@@ -21,6 +24,7 @@ public class TagsContainTagPredicate implements Predicate<Person> {
     public TagsContainTagPredicate(List<Tag> tags) {
         requireNonNull(tags);
         this.tags = tags;
+        this.tagSet = TagSet.of(tags);
     }
 
     /**
@@ -31,14 +35,28 @@ public class TagsContainTagPredicate implements Predicate<Person> {
      */
     @Override
     public boolean test(Person person) {
-        return tags.stream()
-                .anyMatch(tag -> person.getTags().contains(tag));
+        return person.getTags().containsAny(tagSet);
+    }
+
+    @Override
+    public Predicate<Person> withIndex(PersonIndexes indexes) {
+        return indexes.inRows(this);
+    }
+
+    @Override
+    public BitSet findRows(PersonIndexes indexes) {
+        return indexes.getAttributeIndex().findRowsWithAnyTag(tags);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof TagsContainTagPredicate // instanceof handles nulls
-                && tags.equals(((TagsContainTagPredicate) other).tags)); // state check
+                && tagSet.equals(((TagsContainTagPredicate) other).tagSet)); // state check, in any order
+    }
+
+    @Override
+    public int hashCode() {
+        return tagSet.hashCode();
     }
 }
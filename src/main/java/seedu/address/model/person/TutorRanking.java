@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ToLongFunction;
+
+import seedu.address.model.tag.TagSet;
+
+/**
+ * The tutors matched against a set of subjects that have not been handed out yet, ranked by the number of those
+ * subjects they teach. Tutors with the same number of matching subjects keep their relative order in the tutor list.
+ *
+ * Each tutor is scored once, when it enters the ranking, and the candidates are kept in a heap so that handing out
+ * the next page of {@code k} tutors costs O(k log n) instead of sorting all n candidates up front.
+ *
+ * A removed tutor is only dropped from the tutors left, by phone, and its entry is left in the heap to be skipped when
+ * it is polled, rather than searched for in the heap. Once the heap holds more stale entries than tutors left, it is
+ * built again from the tutors left.
+ */
+public class TutorRanking {
+    private final TagSet subjects;
+    private final ToLongFunction<Tutor> positionOf;
+    private PriorityQueue<RankedTutor> candidates;
+    /** The entry of each tutor left in the ranking, by phone; entries of the heap not in here are stale */
+    private final Map<Phone, RankedTutor> entriesByPhone = new HashMap<>();
+
+    /**
+     * Creates a ranking of {@code tutors} against {@code subjects}.
+     * {@code positionOf} gives the position of a tutor in the tutor list, and is used to break ties.
+     */
+    TutorRanking(TagSet subjects, Collection<Tutor> tutors, ToLongFunction<Tutor> positionOf) {
+        this.subjects = subjects;
+        this.positionOf = positionOf;
+
+        List<RankedTutor> rankedTutors = new ArrayList<>(tutors.size());
+        tutors.forEach(tutor -> rankedTutors.add(rank(tutor)));
+        rankedTutors.forEach(rankedTutor -> entriesByPhone.put(rankedTutor.tutor.getPhone(), rankedTutor));
+        candidates = new PriorityQueue<>(rankedTutors);
+    }
+
+    /**
+     * Returns true if there are tutors left in the ranking.
+     */
+    public boolean hasNext() {
+        return !entriesByPhone.isEmpty();
+    }
+
+    /**
+     * Returns the number of tutors left in the ranking.
+     */
+    public int size() {
+        return entriesByPhone.size();
+    }
+
+    /**
+     * Removes and returns the next {@code pageSize} best ranked tutors, best first.
+     * Fewer tutors are returned if the ranking runs out.
+     */
+    public List<Tutor> nextPage(int pageSize) {
+        List<Tutor> page = new ArrayList<>(Math.min(pageSize, entriesByPhone.size()));
+        while (page.size() < pageSize && !entriesByPhone.isEmpty()) {
+            RankedTutor next = candidates.poll();
+            if (entriesByPhone.get(next.tutor.getPhone()) == next) {
+                entriesByPhone.remove(next.tutor.getPhone());
+                page.add(next.tutor);
+            }
+        }
+        return page;
+    }
+
+    /**
+     * Returns a negative number if {@code tutor} ranks before {@code other}, and a positive number if it ranks after.
+     * Both must be in the tutor list.
+     */
+    public int compare(Tutor tutor, Tutor other) {
+        requireNonNull(tutor);
+        requireNonNull(other);
+        return rank(tutor).compareTo(rank(other));
+    }
+
+    /**
+     * Adds {@code toAdd} to the ranking.
+     * {@code toAdd} must already be in the tutor list.
+     */
+    public void add(Tutor toAdd) {
+        requireNonNull(toAdd);
+        RankedTutor rankedTutor = rank(toAdd);
+        entriesByPhone.put(toAdd.getPhone(), rankedTutor);
+        candidates.add(rankedTutor);
+    }
+
+    /**
+     * Removes the tutor with the same identity as {@code toRemove} from the ranking.
+     * Returns true if such a tutor was in the ranking.
+     */
+    public boolean remove(Tutor toRemove) {
+        requireNonNull(toRemove);
+        if (entriesByPhone.remove(toRemove.getPhone()) == null) {
+            return false;
+        }
+        if (candidates.size() > 2 * entriesByPhone.size()) {
+            candidates = new PriorityQueue<>(entriesByPhone.values());
+        }
+        return true;
+    }
+
+    private RankedTutor rank(Tutor tutor) {
+        return new RankedTutor(tutor, tutor.getTags().countCommon(subjects), positionOf.applyAsLong(tutor));
+    }
+
+    /**
+     * A tutor together with its score and its position in the tutor list.
+     */
+    private static class RankedTutor implements Comparable<RankedTutor> {
+        private final Tutor tutor;
+        private final int score;
+        private final long position;
+
+        RankedTutor(Tutor tutor, int score, long position) {
+            this.tutor = tutor;
+            this.score = score;
+            this.position = position;
+        }
+
+        @Override
+        public int compareTo(RankedTutor other) {
+            if (score != other.score) {
+                return Integer.compare(other.score, score);
+            }
+            return Long.compare(position, other.position);
+        }
+    }
+}
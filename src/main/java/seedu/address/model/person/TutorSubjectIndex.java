@@ -0,0 +1,118 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.tag.LevelSubjectCode;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * An inverted index from each {@code LevelSubjectCode} to the tutors who teach it.
+ * Tutors are keyed by phone number, in line with {@code Person#isSamePerson(Person)}.
+ *
+ * Each tutor also keeps the position it was given when it entered the index, so that lookups can return tutors in
+ * the same relative order as the tutor list without having to scan it. Replacing a tutor keeps its position.
+ */
+public class TutorSubjectIndex {
+    private final Map<LevelSubjectCode, Map<Phone, Tutor>> tutorsBySubject = new EnumMap<>(LevelSubjectCode.class);
+    private final Map<Phone, Long> positions = new HashMap<>();
+    private long nextPosition = 0;
+
+    /**
+     * Adds {@code toAdd} under every subject it teaches.
+     */
+    public void add(Tutor toAdd) {
+        requireNonNull(toAdd);
+        positions.put(toAdd.getPhone(), nextPosition++);
+        addToSubjects(toAdd);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedTutor}, keeping the position of {@code target}.
+     * {@code target} must exist in the index.
+     */
+    public void replace(Tutor target, Tutor editedTutor) {
+        requireAllNonNull(target, editedTutor);
+        removeFromSubjects(target);
+        positions.put(editedTutor.getPhone(), positions.remove(target.getPhone()));
+        addToSubjects(editedTutor);
+    }
+
+    /**
+     * Removes {@code toRemove} from every subject it teaches.
+     */
+    public void remove(Tutor toRemove) {
+        requireNonNull(toRemove);
+        removeFromSubjects(toRemove);
+        positions.remove(toRemove.getPhone());
+    }
+
+    /**
+     * Replaces the contents of this index with {@code tutors}, in the order given.
+     */
+    public void setTutors(List<Tutor> tutors) {
+        requireAllNonNull(tutors);
+        tutorsBySubject.clear();
+        positions.clear();
+        nextPosition = 0;
+        tutors.forEach(this::add);
+    }
+
+    /**
+     * Returns the tutors who teach at least one of {@code subjects}, in the order they appear in the tutor list.
+     * Only the tutors filed under {@code subjects} are visited.
+     */
+    public List<Tutor> getTutorsTeaching(Collection<Tag> subjects) {
+        requireAllNonNull(subjects);
+        List<Tutor> matchedTutors = new ArrayList<>(findTutorsTeaching(TagSet.of(subjects)));
+        matchedTutors.sort(Comparator.comparingLong(this::positionOf));
+        return matchedTutors;
+    }
+
+    /**
+     * Returns a ranking of the tutors who teach at least one of {@code subjects}, by the number of {@code subjects}
+     * they teach. Tutors added to the ranking later on must already be in this index.
+     */
+    public TutorRanking rankTutorsTeaching(Collection<Tag> subjects) {
+        requireAllNonNull(subjects);
+        TagSet subjectSet = TagSet.of(subjects);
+        return new TutorRanking(subjectSet, findTutorsTeaching(subjectSet), this::positionOf);
+    }
+
+    private Collection<Tutor> findTutorsTeaching(TagSet subjects) {
+        Map<Phone, Tutor> matches = new HashMap<>();
+        for (Tag subject : subjects) {
+            matches.putAll(tutorsBySubject.getOrDefault(subject.getLevelSubjectCode(), Map.of()));
+        }
+        return matches.values();
+    }
+
+    private long positionOf(Tutor tutor) {
+        return positions.get(tutor.getPhone());
+    }
+
+    private void addToSubjects(Tutor tutor) {
+        for (Tag tag : tutor.getTags()) {
+            tutorsBySubject.computeIfAbsent(tag.getLevelSubjectCode(), unused -> new HashMap<>())
+                    .put(tutor.getPhone(), tutor);
+        }
+    }
+
+    private void removeFromSubjects(Tutor tutor) {
+        for (Tag tag : tutor.getTags()) {
+            Map<Phone, Tutor> subjectTutors = tutorsBySubject.get(tag.getLevelSubjectCode());
+            if (subjectTutors != null) {
+                subjectTutors.remove(tutor.getPhone());
+            }
+        }
+    }
+}
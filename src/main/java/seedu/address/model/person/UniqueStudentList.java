@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,16 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniqueStudentList. However, the removal of a student uses Student#equals(Object)
  * so as to ensure that the student with exactly the same fields will be removed.
  *
+ * Since students are identified by their phone number, a phone-keyed index is kept alongside the observable list so
+ * that identity checks do not need to scan the whole list. The observable list remains the source of ordering.
+ * The students are also indexed by the words of their names and by their attributes, in {@code PersonIndexes} that
+ * are updated before the observable list, so that predicates looking students up in them see each change by the time
+ * the list does. The position of each student in the list is kept by phone number too, in {@code ListPositions}, so
+ * that editing or removing a student does not scan the list for it.
+ *
+ * Changes can be made in a batch, between {@link #beginBatch()} and {@link #endBatch()}. They are then made to a
+ * working copy of the list, and published to the observable list as a single change when the batch ends.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -26,13 +42,36 @@ public class UniqueStudentList implements Iterable<Student> {
     private final ObservableList<Student> internalList = FXCollections.observableArrayList();
     private final ObservableList<Student> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Student> phoneIndex = new HashMap<>();
+    private final PersonIndexes indexes = new PersonIndexes(this);
+    private final ListPositions positions = new ListPositions(this);
+
+    /** Working copy of the list while a batch is in progress, or null if there is none */
+    private List<Student> batchList;
+    private int batchDepth;
 
     /**
      * Returns true if the list contains an equivalent student as the given argument.
      */
     public boolean contains(Student toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns true if the list contains a student with the given phone number.
+     */
+    public boolean containsPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.containsKey(phone);
+    }
+
+    /**
+     * Returns the student with the given phone number, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Student> get(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(phoneIndex.get(phone));
     }
 
     /**
@@ -44,7 +83,10 @@ public class UniqueStudentList implements Iterable<Student> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        indexes.add(toAdd);
+        positions.append(toAdd.getPhone());
+        workingList().add(toAdd);
+        phoneIndex.put(toAdd.getPhone(), toAdd);
     }
 
     /**
@@ -55,8 +97,7 @@ public class UniqueStudentList implements Iterable<Student> {
     public void setStudent(Student target, Student editedStudent) {
         requireAllNonNull(target, editedStudent);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!isIndexed(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -64,7 +105,11 @@ public class UniqueStudentList implements Iterable<Student> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedStudent);
+        indexes.replace(phoneIndex.get(target.getPhone()), editedStudent); // the indexes need the instance in the list
+        workingList().set(positions.positionOf(target.getPhone()), editedStudent);
+        positions.replace(target.getPhone(), editedStudent.getPhone());
+        phoneIndex.remove(target.getPhone());
+        phoneIndex.put(editedStudent.getPhone(), editedStudent);
     }
 
     /**
@@ -73,31 +118,86 @@ public class UniqueStudentList implements Iterable<Student> {
      */
     public void remove(Student toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!isIndexed(toRemove)) {
             throw new PersonNotFoundException();
         }
+        indexes.remove(phoneIndex.get(toRemove.getPhone()));
+        workingList().remove(positions.remove(toRemove.getPhone()));
+        phoneIndex.remove(toRemove.getPhone());
     }
 
     public void setStudents(UniqueStudentList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        indexes.reset();
+        positions.reset();
+        replaceWorkingList(replacement.workingList());
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code students}.
      * {@code students} must not contain duplicate students.
+     * Uniqueness is checked in a single pass over {@code students}, reporting every repeated phone number.
      */
     public void setStudents(List<Student> students) {
         requireAllNonNull(students);
-        if (!studentsAreUnique(students)) {
-            throw new DuplicatePersonException();
+        Map<Phone, Student> replacementIndex = new HashMap<>();
+        Set<Phone> duplicatePhones = new LinkedHashSet<>();
+        for (Student student : students) {
+            if (replacementIndex.putIfAbsent(student.getPhone(), student) != null) {
+                duplicatePhones.add(student.getPhone());
+            }
+        }
+        if (!duplicatePhones.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePhones);
+        }
+
+        indexes.reset();
+        positions.reset();
+        replaceWorkingList(students);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacementIndex);
+    }
+
+    /**
+     * Starts a batch of changes, which are published together when the batch ends.
+     * Batches may be nested, in which case the changes are published when the outermost batch ends.
+     */
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            batchList = new ArrayList<>(internalList);
         }
+        batchDepth++;
+    }
+
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. If it is the outermost batch, the changes made
+     * during it are published to the observable list as a single change.
+     */
+    public void endBatch() {
+        assert batchDepth > 0 : "There should be a batch to end";
+        batchDepth--;
+        if (batchDepth == 0) {
+            List<Student> changedList = batchList;
+            batchList = null;
+            if (!changedList.equals(internalList)) {
+                internalList.setAll(changedList);
+            }
+        }
+    }
 
-        internalList.setAll(students);
+    /**
+     * Returns the indexes of the students in the list, which are only to be read.
+     * They already have the changes made during a batch in progress.
+     */
+    public PersonIndexes getIndexes() {
+        return indexes;
     }
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, it does not show the changes made during the batch yet.
      */
     public ObservableList<Student> asUnmodifiableObservableList() {
         return internalUnmodifiableList;
@@ -105,32 +205,42 @@ public class UniqueStudentList implements Iterable<Student> {
 
     @Override
     public Iterator<Student> iterator() {
-        return internalList.iterator();
+        return workingList().iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueStudentList // instanceof handles nulls
-                && internalList.equals(((UniqueStudentList) other).internalList));
+                && workingList().equals(((UniqueStudentList) other).workingList()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList().hashCode();
     }
 
     /**
-     * Returns true if {@code students} contains only unique students.
+     * Returns the list that changes are made to: the working copy while a batch is in progress, and the observable
+     * list otherwise.
      */
-    private boolean studentsAreUnique(List<Student> students) {
-        for (int i = 0; i < students.size() - 1; i++) {
-            for (int j = i + 1; j < students.size(); j++) {
-                if (students.get(i).isSamePerson(students.get(j))) {
-                    return false;
-                }
-            }
+    private List<Student> workingList() {
+        return batchList != null ? batchList : internalList;
+    }
+
+    private void replaceWorkingList(List<Student> replacement) {
+        if (batchList != null) {
+            batchList = new ArrayList<>(replacement);
+        } else {
+            internalList.setAll(replacement);
         }
-        return true;
+    }
+
+    /**
+     * Returns true if a student equal to {@code student} in every field is in the list.
+     * Only the student indexed under the same phone number can be such a student.
+     */
+    private boolean isIndexed(Student student) {
+        return student.equals(phoneIndex.get(student.getPhone()));
     }
 }
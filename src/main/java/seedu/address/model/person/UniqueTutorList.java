@@ -3,16 +3,19 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Collections;
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
-import seedu.address.model.tag.Tag;
 
 /**
  * A list of tutors that enforces uniqueness between its elements and does not allow nulls.
@@ -21,6 +24,16 @@ import seedu.address.model.tag.Tag;
  * unique in terms of identity in the UniqueTutorList. However, the removal of a tutor uses Tutor#equals(Object) so
  * as to ensure that the tutor with exactly the same fields will be removed.
  *
+ * Since tutors are identified by their phone number, a phone-keyed index is kept alongside the observable list so that
+ * identity checks do not need to scan the whole list. The observable list remains the source of ordering.
+ * The tutors are also indexed by the words of their names and by their attributes, in {@code PersonIndexes} that
+ * are updated before the observable list, so that predicates looking tutors up in them see each change by the time
+ * the list does. The position of each tutor in the list is kept by phone number too, in {@code ListPositions}, so
+ * that editing or removing a tutor does not scan the list for it.
+ *
+ * Changes can be made in a batch, between {@link #beginBatch()} and {@link #endBatch()}. They are then made to a
+ * working copy of the list, and published to the observable list as a single change when the batch ends.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,13 +42,36 @@ public class UniqueTutorList implements Iterable<Tutor> {
     private final ObservableList<Tutor> internalList = FXCollections.observableArrayList();
     private final ObservableList<Tutor> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Phone, Tutor> phoneIndex = new HashMap<>();
+    private final PersonIndexes indexes = new PersonIndexes(this);
+    private final ListPositions positions = new ListPositions(this);
+
+    /** Working copy of the list while a batch is in progress, or null if there is none */
+    private List<Tutor> batchList;
+    private int batchDepth;
 
     /**
      * Returns true if the list contains an equivalent tutor as the given argument.
      */
     public boolean contains(Tutor toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return phoneIndex.containsKey(toCheck.getPhone());
+    }
+
+    /**
+     * Returns true if the list contains a tutor with the given phone number.
+     */
+    public boolean containsPhone(Phone phone) {
+        requireNonNull(phone);
+        return phoneIndex.containsKey(phone);
+    }
+
+    /**
+     * Returns the tutor with the given phone number, or an empty {@code Optional} if there is none.
+     */
+    public Optional<Tutor> get(Phone phone) {
+        requireNonNull(phone);
+        return Optional.ofNullable(phoneIndex.get(phone));
     }
 
     /**
@@ -47,7 +83,26 @@ public class UniqueTutorList implements Iterable<Tutor> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
+        indexes.add(toAdd);
+        positions.append(toAdd.getPhone());
+        workingList().add(toAdd);
+        phoneIndex.put(toAdd.getPhone(), toAdd);
+    }
+
+    /**
+     * Inserts a tutor at {@code position} in the list, moving the tutors from there on down by one.
+     * The tutor must not already exist in the list. As the indexes only follow tutors added at the end, they are
+     * worked out again when next looked up in, so this is meant for short lists.
+     */
+    public void add(int position, Tutor toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        indexes.reset();
+        positions.reset();
+        workingList().add(position, toAdd);
+        phoneIndex.put(toAdd.getPhone(), toAdd);
     }
 
     /**
@@ -58,8 +113,7 @@ public class UniqueTutorList implements Iterable<Tutor> {
     public void setTutor(Tutor target, Tutor editedTutor) {
         requireAllNonNull(target, editedTutor);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        if (!isIndexed(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -67,7 +121,11 @@ public class UniqueTutorList implements Iterable<Tutor> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedTutor);
+        indexes.replace(phoneIndex.get(target.getPhone()), editedTutor); // the indexes need the instance in the list
+        workingList().set(positions.positionOf(target.getPhone()), editedTutor);
+        positions.replace(target.getPhone(), editedTutor.getPhone());
+        phoneIndex.remove(target.getPhone());
+        phoneIndex.put(editedTutor.getPhone(), editedTutor);
     }
 
     /**
@@ -76,94 +134,136 @@ public class UniqueTutorList implements Iterable<Tutor> {
      */
     public void remove(Tutor toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        if (!isIndexed(toRemove)) {
             throw new PersonNotFoundException();
         }
+        indexes.remove(phoneIndex.get(toRemove.getPhone()));
+        workingList().remove(positions.remove(toRemove.getPhone()));
+        phoneIndex.remove(toRemove.getPhone());
     }
 
     public void setTutors(UniqueTutorList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        indexes.reset();
+        positions.reset();
+        replaceWorkingList(replacement.workingList());
+        phoneIndex.clear();
+        phoneIndex.putAll(replacement.phoneIndex);
     }
 
     /**
      * Replaces the contents of this list with {@code tutors}.
      * {@code tutors} must not contain duplicate tutors.
+     * Uniqueness is checked in a single pass over {@code tutors}, reporting every repeated phone number.
      */
     public void setTutors(List<Tutor> tutors) {
         requireAllNonNull(tutors);
-        if (!tutorsAreUnique(tutors)) {
-            throw new DuplicatePersonException();
+        Map<Phone, Tutor> replacementIndex = new HashMap<>();
+        Set<Phone> duplicatePhones = new LinkedHashSet<>();
+        for (Tutor tutor : tutors) {
+            if (replacementIndex.putIfAbsent(tutor.getPhone(), tutor) != null) {
+                duplicatePhones.add(tutor.getPhone());
+            }
+        }
+        if (!duplicatePhones.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePhones);
         }
 
-        internalList.setAll(tutors);
+        indexes.reset();
+        positions.reset();
+        replaceWorkingList(tutors);
+        phoneIndex.clear();
+        phoneIndex.putAll(replacementIndex);
     }
 
     /**
-     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * Returns the number of tutors in the list, including the ones added during a batch in progress.
      */
-    public ObservableList<Tutor> asUnmodifiableObservableList() {
-        return internalUnmodifiableList;
+    public int size() {
+        return workingList().size();
     }
 
     /**
-     * Sorts tutors based on number of matching tags with ls in descending order.
-     * @param studentTagList List of Tags used to compare with each tutor.
+     * Starts a batch of changes, which are published together when the batch ends.
+     * Batches may be nested, in which case the changes are published when the outermost batch ends.
      */
-    public void sortTutors(List<Tag> studentTagList) {
-        requireNonNull(studentTagList);
-        Collections.sort(internalList, new Comparator<Tutor>() {
-            @Override
-            public int compare(Tutor o1, Tutor o2) {
-                int countO1 = 0;
-                int countO2 = 0;
-                for (Tag t: o1.getTags()) {
-                    if (studentTagList.contains(t)) {
-                        countO1++;
-                    }
-                }
-                for (Tag t: o2.getTags()) {
-                    if (studentTagList.contains(t)) {
-                        countO2++;
-                    }
-                }
-                if (countO1 == countO2) {
-                    return 0;
-                }
-                return countO1 > countO2 ? -1 : 1;
+    public void beginBatch() {
+        if (batchDepth == 0) {
+            batchList = new ArrayList<>(internalList);
+        }
+        batchDepth++;
+    }
 
+    /**
+     * Ends the batch started by the matching {@link #beginBatch()}. If it is the outermost batch, the changes made
+     * during it are published to the observable list as a single change.
+     */
+    public void endBatch() {
+        assert batchDepth > 0 : "There should be a batch to end";
+        batchDepth--;
+        if (batchDepth == 0) {
+            List<Tutor> changedList = batchList;
+            batchList = null;
+            if (!changedList.equals(internalList)) {
+                internalList.setAll(changedList);
             }
-        });
+        }
+    }
+
+    /**
+     * Returns the indexes of the tutors in the list, which are only to be read.
+     * They already have the changes made during a batch in progress.
+     */
+    public PersonIndexes getIndexes() {
+        return indexes;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     * While a batch is in progress, it does not show the changes made during the batch yet.
+     */
+    public ObservableList<Tutor> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
     }
 
     @Override
     public Iterator<Tutor> iterator() {
-        return internalList.iterator();
+        return workingList().iterator();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof UniqueTutorList // instanceof handles nulls
-                && internalList.equals(((UniqueTutorList) other).internalList));
+                && workingList().equals(((UniqueTutorList) other).workingList()));
     }
 
     @Override
     public int hashCode() {
-        return internalList.hashCode();
+        return workingList().hashCode();
     }
 
     /**
-     * Returns true if {@code tutors} contains only unique tutors.
+     * Returns the list that changes are made to: the working copy while a batch is in progress, and the observable
+     * list otherwise.
      */
-    private boolean tutorsAreUnique(List<Tutor> tutors) {
-        for (int i = 0; i < tutors.size() - 1; i++) {
-            for (int j = i + 1; j < tutors.size(); j++) {
-                if (tutors.get(i).isSamePerson(tutors.get(j))) {
-                    return false;
-                }
-            }
+    private List<Tutor> workingList() {
+        return batchList != null ? batchList : internalList;
+    }
+
+    private void replaceWorkingList(List<Tutor> replacement) {
+        if (batchList != null) {
+            batchList = new ArrayList<>(replacement);
+        } else {
+            internalList.setAll(replacement);
         }
-        return true;
+    }
+
+    /**
+     * Returns true if a tutor equal to {@code tutor} in every field is in the list.
+     * Only the tutor indexed under the same phone number can be such a tutor.
+     */
+    private boolean isIndexed(Tutor tutor) {
+        return tutor.equals(phoneIndex.get(tutor.getPhone()));
     }
 }
@@ -1,11 +1,36 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.Phone;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    private final List<Phone> duplicatePhones;
+
     public DuplicatePersonException() {
         super("Operation would result in duplicate persons");
+        duplicatePhones = List.of();
+    }
+
+    /**
+     * Constructs a {@code DuplicatePersonException} that reports every phone number shared by more than one person.
+     */
+    public DuplicatePersonException(Collection<Phone> duplicatePhones) {
+        super("Operation would result in duplicate persons with phone number(s): "
+                + duplicatePhones.stream().map(Phone::toString).collect(Collectors.joining(", ")));
+        this.duplicatePhones = List.copyOf(duplicatePhones);
+    }
+
+    /**
+     * Returns the phone numbers shared by more than one person, or an empty list if they are not known.
+     */
+    public List<Phone> getDuplicatePhones() {
+        return duplicatePhones;
     }
 }
@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public enum LevelSubjectCode {
     PE("pe", "PriEng"), // Primary English
     PM("pm", "PriMath"), // Primary Math
@@ -22,6 +25,16 @@ public enum LevelSubjectCode {
     TP("tp", "TerPhy"), // Tertiary Physics
     INVALID("Invalid", "Invalid");
 
+    private static final Map<String, LevelSubjectCode> CODES_BY_SUB_CODE = new HashMap<>();
+
+    static {
+        for (LevelSubjectCode x : values()) {
+            if (x != INVALID) {
+                CODES_BY_SUB_CODE.put(x.subCode.toLowerCase(), x);
+            }
+        }
+    }
+
     public final String subCode;
     public final String label;
 
@@ -37,12 +50,7 @@ public enum LevelSubjectCode {
      * @return True if tag that user has given is valid, false otherwise.
      */
     public static boolean isValidTag(String subCode) {
-        for (LevelSubjectCode x : values()) {
-            if (x.subCode.equalsIgnoreCase(subCode) && !subCode.equalsIgnoreCase(INVALID.subCode)) {
-                return true;
-            }
-        }
-        return false;
+        return fromSubCode(subCode) != INVALID;
     }
 
     /**
@@ -52,12 +60,17 @@ public enum LevelSubjectCode {
      * @return Label corresponding to the Tag.
      */
     public static String getLabel(String subCode) {
-        for (LevelSubjectCode x : values()) {
-            if (x.subCode.equalsIgnoreCase(subCode)) {
-                return x.label;
-            }
-        }
-        return INVALID.label;
+        return fromSubCode(subCode).label;
+    }
+
+    /**
+     * Returns the {@code LevelSubjectCode} that corresponds to the Tag user has given.
+     *
+     * @param subCode Tag from user input.
+     * @return LevelSubjectCode corresponding to the Tag, or {@code INVALID} if there is none.
+     */
+    public static LevelSubjectCode fromSubCode(String subCode) {
+        return CODES_BY_SUB_CODE.getOrDefault(subCode.toLowerCase(), INVALID);
     }
 
     /**
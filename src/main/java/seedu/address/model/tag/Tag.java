@@ -6,48 +6,89 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Every valid tag stands for exactly one {@code LevelSubjectCode}, so there is a single shared {@code Tag} instance
+ * per code, obtained through {@link #of(String)}.
  */
 public class Tag {
     public static final String MESSAGE_INVALID_TAG = "Please enter valid tag(s)";
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
-    public static final String VALIDATION_REGEX = "\\p{Alnum}+";
+
+    private static final LevelSubjectCode[] CODES = LevelSubjectCode.values();
+    private static final Tag[] TAGS = new Tag[CODES.length];
+
+    static {
+        for (LevelSubjectCode code : CODES) {
+            if (code != LevelSubjectCode.INVALID) {
+                TAGS[code.ordinal()] = new Tag(code);
+            }
+        }
+    }
 
     public final String tagName;
+    private final LevelSubjectCode levelSubjectCode;
+
+    private Tag(LevelSubjectCode levelSubjectCode) {
+        this.levelSubjectCode = levelSubjectCode;
+        this.tagName = levelSubjectCode.name();
+    }
 
     /**
-     * Constructs a {@code Tag}.
+     * Returns the {@code Tag} named {@code tagName}, ignoring case.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        LevelSubjectCode levelSubjectCode = LevelSubjectCode.fromSubCode(tagName);
+        checkArgument(levelSubjectCode != LevelSubjectCode.INVALID, MESSAGE_CONSTRAINTS);
+        return TAGS[levelSubjectCode.ordinal()];
+    }
+
+    /**
+     * Returns the {@code Tag} for the code at position {@code ordinal} of {@code LevelSubjectCode}.
+     */
+    static Tag ofOrdinal(int ordinal) {
+        return TAGS[ordinal];
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX) && LevelSubjectCode.isValidTag(test);
+        return LevelSubjectCode.isValidTag(test);
+    }
+
+    /**
+     * Returns the {@code LevelSubjectCode} this tag stands for.
+     */
+    public LevelSubjectCode getLevelSubjectCode() {
+        return levelSubjectCode;
+    }
+
+    /**
+     * Returns the bit that stands for this tag in a {@code TagSet}.
+     */
+    int bit() {
+        return 1 << levelSubjectCode.ordinal();
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && tagName.equalsIgnoreCase(((Tag) other).tagName)); // state check
+                && levelSubjectCode == ((Tag) other).levelSubjectCode); // state check
     }
 
     @Override
     public int hashCode() {
-        return tagName.toUpperCase().hashCode();
+        return levelSubjectCode.ordinal();
     }
 
     /**
      * Format state as text for viewing.
      */
     public String toString() {
-        return '[' + tagName.toUpperCase() + ']';
+        return '[' + tagName + ']';
     }
 }
@@ -0,0 +1,174 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+/**
+ * An immutable set of tags, stored as a bitmask with one bit per {@code LevelSubjectCode}.
+ * Containment, overlap and equality checks between tag sets are single bit operations.
+ */
+public class TagSet extends AbstractSet<Tag> {
+    public static final String MESSAGE_INVALID_MASK = "Tag bitmask has bits that stand for no tag";
+    public static final TagSet EMPTY = new TagSet(0);
+
+    private static final int ALL_TAGS_MASK = allTagsMask();
+
+    private final int mask;
+
+    private TagSet(int mask) {
+        this.mask = mask;
+    }
+
+    /**
+     * Returns a {@code TagSet} containing {@code tags}.
+     */
+    public static TagSet of(Collection<Tag> tags) {
+        requireNonNull(tags);
+        if (tags instanceof TagSet) {
+            return (TagSet) tags;
+        }
+
+        int mask = 0;
+        for (Tag tag : tags) {
+            mask |= tag.bit();
+        }
+        return mask == 0 ? EMPTY : new TagSet(mask);
+    }
+
+    private static int allTagsMask() {
+        int allTagsMask = 0;
+        for (LevelSubjectCode code : LevelSubjectCode.values()) {
+            if (code != LevelSubjectCode.INVALID) {
+                allTagsMask |= Tag.ofOrdinal(code.ordinal()).bit();
+            }
+        }
+        return allTagsMask;
+    }
+
+    /**
+     * Returns the {@code TagSet} whose bitmask is {@code mask}, as given by {@link #getMask()}.
+     *
+     * @throws IllegalArgumentException if {@code mask} has a bit that stands for no tag.
+     */
+    public static TagSet ofMask(int mask) {
+        checkArgument((mask & ~ALL_TAGS_MASK) == 0, MESSAGE_INVALID_MASK);
+        return mask == 0 ? EMPTY : new TagSet(mask);
+    }
+
+    /**
+     * Returns the bitmask of this set, with bit {@code i} set if the set contains the tag for the
+     * {@code LevelSubjectCode} at position {@code i}.
+     */
+    public int getMask() {
+        return mask;
+    }
+
+    /**
+     * Returns true if this set and {@code other} have at least one tag in common.
+     */
+    public boolean containsAny(TagSet other) {
+        return (mask & other.mask) != 0;
+    }
+
+    /**
+     * Returns the number of tags this set and {@code other} have in common.
+     */
+    public int countCommon(TagSet other) {
+        return Integer.bitCount(mask & other.mask);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o instanceof Tag && (mask & ((Tag) o).bit()) != 0;
+    }
+
+    @Override
+    public int size() {
+        return Integer.bitCount(mask);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mask == 0;
+    }
+
+    /**
+     * Returns an iterator over the tags in this set, in {@code LevelSubjectCode} order.
+     */
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<>() {
+            private int remaining = mask;
+
+            @Override
+            public boolean hasNext() {
+                return remaining != 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (remaining == 0) {
+                    throw new NoSuchElementException();
+                }
+                int ordinal = Integer.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return Tag.ofOrdinal(ordinal);
+            }
+        };
+    }
+
+    @Override
+    public boolean add(Tag tag) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Tag> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> tags) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Tag> filter) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other instanceof TagSet) {
+            return mask == ((TagSet) other).mask;
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // must agree with the hash codes of other sets holding the same tags
+        return super.hashCode();
+    }
+}
@@ -0,0 +1,205 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import seedu.address.model.CliTutors;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Qualification;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.LevelSubjectCode;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * Generates realistic tutors and students for {@code CliTutors} books of any size.
+ *
+ * A generator started with the same seed generates the same persons in the same order on every run, so large data
+ * sets for benchmarks and load tests can be generated again instead of being kept around. Names, tags and
+ * qualifications are skewed towards the popular ones, and every person gets a different 8-digit phone.
+ */
+public class SyntheticDataGenerator {
+    /** Number of different phones there are, and so the most persons one generator can generate */
+    public static final int MAX_PERSONS = 20_000_000;
+    public static final String MESSAGE_TOO_MANY_PERSONS = "A generator cannot generate more than "
+            + MAX_PERSONS + " persons";
+
+    private static final String[] GIVEN_NAMES = {
+        "Wei Ling", "Jun Jie", "Hui Min", "Zhi Hao", "Siti", "Muhammad", "Priya", "Arjun", "Sarah", "Daniel",
+        "Nurul", "Ahmad", "Mei Ling", "Kai Xuan", "Rachel", "Ethan", "Divya", "Ravi", "Chloe", "Ryan",
+        "Aisyah", "Hafiz", "Jia Hui", "Wen Jie", "Nicole", "Marcus", "Kavya", "Suresh", "Grace", "Joshua",
+        "Farah", "Irfan", "Xin Yi", "Yong Sheng", "Amanda", "Benjamin", "Lakshmi", "Vikram", "Hannah", "Lucas"
+    };
+    private static final String[] FAMILY_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh",
+        "Teo", "Ang", "Yeo", "Tay", "Ho", "Low", "Toh", "Sim", "Chong", "Chia",
+        "Abdullah", "Rahman", "Ismail", "Hassan", "Kumar", "Nair", "Pillai", "Singh", "Menon", "Raj",
+        "Smith", "Fernandez", "Balakrishnan", "Oliveiro", "Yeoh", "Yu", "Li", "Ibrahim", "Mueller", "Kurz"
+    };
+    private static final String[] REMARKS = {
+        "Prefers tutoring in the East", "Only does remote tuition", "Wants experienced tutor",
+        "Prefers lessons in public spaces", "Available on weekends only", "Prefers group lessons"
+    };
+    private static final double REMARK_PROBABILITY = 0.2;
+
+    /** Relative popularity of each subject, in the order of {@code LevelSubjectCode} */
+    private static final int[] TAG_WEIGHTS = {
+        30, 60, 35, // PE, PM, PS
+        12, 18, 25, 6, 5, 5, 55, 22, // SB, SC, SE, SG, SH, SL, SM, SP
+        4, 5, 8, 2, 2, 2, 10, 6 // TB, TC, TE, TG, TH, TL, TM, TP
+    };
+    /** Relative share of each qualification, from pre-university to MOE-trained */
+    private static final int[] QUALIFICATION_WEIGHTS = {35, 40, 15, 10};
+    /** Relative share of persons with one, two or three tags */
+    private static final int[] TAG_COUNT_WEIGHTS = {50, 35, 15};
+
+    private static final int PHONE_BASE = 80_000_000;
+    /** Multiplier that maps person indices to phones one-to-one, as it shares no factor with MAX_PERSONS */
+    private static final long PHONE_MULTIPLIER = 7_919;
+
+    private static final Tag[] TAGS = getTags();
+
+    private final Random random;
+    private final long phoneOffset;
+    private int generatedCount;
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} that generates the persons determined by {@code seed}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        random = new Random(seed);
+        phoneOffset = Math.floorMod(seed, MAX_PERSONS);
+    }
+
+    /**
+     * Returns a book with {@code tutorCount} tutors followed by {@code studentCount} students.
+     */
+    public CliTutors generateCliTutors(int tutorCount, int studentCount) {
+        checkArgument(tutorCount >= 0 && studentCount >= 0);
+        List<Tutor> tutors = new ArrayList<>(tutorCount);
+        tutors(tutorCount).forEach(tutors::add);
+        List<Student> students = new ArrayList<>(studentCount);
+        students(studentCount).forEach(students::add);
+
+        CliTutors cliTutors = new CliTutors();
+        cliTutors.setTutors(tutors);
+        cliTutors.setStudents(students);
+        cliTutors.markSaved();
+        return cliTutors;
+    }
+
+    /**
+     * Returns a stream of the next {@code count} tutors, which are only generated as the stream is consumed.
+     */
+    public Stream<Tutor> tutors(int count) {
+        checkArgument(count >= 0);
+        return Stream.generate(this::nextTutor).limit(count);
+    }
+
+    /**
+     * Returns a stream of the next {@code count} students, which are only generated as the stream is consumed.
+     */
+    public Stream<Student> students(int count) {
+        checkArgument(count >= 0);
+        return Stream.generate(this::nextStudent).limit(count);
+    }
+
+    /**
+     * Returns the next tutor.
+     *
+     * @throws IllegalStateException if {@link #MAX_PERSONS} persons have been generated already.
+     */
+    public Tutor nextTutor() {
+        Phone phone = nextPhone();
+        return new Tutor(nextName(), phone, nextGender(), nextQualification(), nextRemark(), nextTags());
+    }
+
+    /**
+     * Returns the next student.
+     *
+     * @throws IllegalStateException if {@link #MAX_PERSONS} persons have been generated already.
+     */
+    public Student nextStudent() {
+        Phone phone = nextPhone();
+        return new Student(nextName(), phone, nextGender(), nextRemark(), nextTags());
+    }
+
+    private Phone nextPhone() {
+        if (generatedCount == MAX_PERSONS) {
+            throw new IllegalStateException(MESSAGE_TOO_MANY_PERSONS);
+        }
+        long phone = (PHONE_MULTIPLIER * generatedCount + phoneOffset) % MAX_PERSONS;
+        generatedCount++;
+        return new Phone(String.valueOf(PHONE_BASE + phone));
+    }
+
+    private Name nextName() {
+        return new Name(pickSkewed(GIVEN_NAMES) + " " + pickSkewed(FAMILY_NAMES));
+    }
+
+    private Gender nextGender() {
+        return new Gender(random.nextBoolean() ? "M" : "F");
+    }
+
+    private Qualification nextQualification() {
+        return new Qualification(String.valueOf(pickWeighted(QUALIFICATION_WEIGHTS)));
+    }
+
+    private Remark nextRemark() {
+        return random.nextDouble() < REMARK_PROBABILITY
+                ? new Remark(REMARKS[random.nextInt(REMARKS.length)])
+                : new Remark();
+    }
+
+    private TagSet nextTags() {
+        int tagCount = pickWeighted(TAG_COUNT_WEIGHTS) + 1;
+        List<Tag> tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(TAGS[pickWeighted(TAG_WEIGHTS)]);
+        }
+        return TagSet.of(tags);
+    }
+
+    /**
+     * Returns an element of {@code values}, picking the earlier ones more often.
+     */
+    private String pickSkewed(String[] values) {
+        double skewed = random.nextDouble() * random.nextDouble();
+        return values[(int) (skewed * values.length)];
+    }
+
+    /**
+     * Returns an index of {@code weights}, picking each index in proportion to its weight.
+     */
+    private int pickWeighted(int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+
+        int remaining = random.nextInt(total);
+        int index = 0;
+        while (remaining >= weights[index]) {
+            remaining -= weights[index];
+            index++;
+        }
+        return index;
+    }
+
+    private static Tag[] getTags() {
+        assert TAG_WEIGHTS.length == LevelSubjectCode.values().length - 1 : "Every subject should have a weight";
+        Tag[] tags = new Tag[TAG_WEIGHTS.length];
+        for (int i = 0; i < tags.length; i++) {
+            tags[i] = Tag.of(LevelSubjectCode.values()[i].name());
+        }
+        return tags;
+    }
+}
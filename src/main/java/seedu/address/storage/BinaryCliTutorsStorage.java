@@ -0,0 +1,374 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
+import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Qualification;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
+
+/**
+ * A class to access CliTutors data stored as a compact binary snapshot on the hard disk.
+ *
+ * The file starts with four magic bytes and a format version byte, followed by the tutors and then the students,
+ * each list prefixed with its size. Strings are stored as length-prefixed UTF-8, gender and qualification as a byte
+ * each, and tags as the bitmask of their {@code TagSet}, so the order of {@code LevelSubjectCode} is part of the
+ * format. Every save writes the whole snapshot.
+ */
+public class BinaryCliTutorsStorage implements CliTutorsStorage {
+    public static final String MESSAGE_NOT_BINARY_SNAPSHOT = "File is not a CliTutors binary snapshot";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary snapshot version %d is not supported";
+    public static final String MESSAGE_LOSSY_CONVERSION = "Data read back from the binary snapshot differs from %s";
+    public static final String MESSAGE_LOSSY_JSON_CONVERSION = "Data read back from the JSON file differs from %s";
+
+    /** Bytes every binary snapshot starts with */
+    private static final byte[] MAGIC = {'C', 'L', 'T', 'B'};
+    private static final byte FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CONVERTED_FILE_SUFFIX = ".converted";
+    private static final String JSON_FILE_EXTENSION = ".json";
+    private static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+    private static final String[] GENDERS = {"M", "F"};
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryCliTutorsStorage.class);
+
+    private Path filePath;
+
+    public BinaryCliTutorsStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getCliTutorsFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyCliTutors> readCliTutors() throws DataConversionException {
+        return readCliTutors(filePath);
+    }
+
+    /**
+     * Similar to {@link #readCliTutors()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyCliTutors> readCliTutors(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(filePath), BUFFER_SIZE))) {
+            return Optional.of(readSnapshot(in));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveCliTutors(ReadOnlyCliTutors cliTutors) throws IOException {
+        saveCliTutors(cliTutors, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveCliTutors(ReadOnlyCliTutors)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveCliTutors(ReadOnlyCliTutors cliTutors, Path filePath) throws IOException {
+        requireNonNull(cliTutors);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        FileUtil.writeToFile(filePath, out -> {
+            DataOutputStream dataOut = new DataOutputStream(out);
+            writeSnapshot(cliTutors, dataOut);
+            dataOut.flush();
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A snapshot is cheap enough to write that the whole of {@code cliTutors} is saved.
+     */
+    @Override
+    public void saveCliTutorsChanges(ReadOnlyCliTutors cliTutors, List<CliTutorsChange> changes) throws IOException {
+        requireAllNonNull(cliTutors, changes);
+        saveCliTutors(cliTutors, filePath);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Every save writes the whole snapshot, so there is nothing to compact.
+     */
+    @Override
+    public void compactCliTutors(ReadOnlyCliTutors cliTutors) {
+        requireNonNull(cliTutors);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts like a binary snapshot.
+     */
+    public static boolean isBinarySnapshot(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(MAGIC, in.readNBytes(MAGIC.length));
+        }
+    }
+
+    /**
+     * Returns the path of the binary snapshot kept for the JSON data file at {@code jsonFilePath}: the same path
+     * with a {@code .bin} extension instead of {@code .json}. The snapshot is kept in a file of its own so that the
+     * JSON data file is left as it is, and can be converted back to.
+     */
+    public static Path getSnapshotFilePath(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.endsWith(JSON_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - JSON_FILE_EXTENSION.length());
+        }
+        return jsonFilePath.resolveSibling(fileName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    /**
+     * Converts the JSON data file at {@code jsonFilePath}, including its journal, into a binary snapshot at
+     * {@code binaryFilePath}. The two paths may be the same, in which case the file is converted in place.
+     * The snapshot is read back and checked against the JSON data, so no data is lost by the conversion.
+     *
+     * @throws DataConversionException if the JSON data file is not in the correct format, or the check fails.
+     * @throws IOException if the JSON data file does not exist, or there was any problem writing the snapshot.
+     */
+    public static void convertFromJson(Path jsonFilePath, Path binaryFilePath)
+            throws DataConversionException, IOException {
+        requireAllNonNull(jsonFilePath, binaryFilePath);
+
+        ReadOnlyCliTutors jsonData = new JsonCliTutorsStorage(jsonFilePath).readCliTutors()
+                .orElseThrow(() -> new NoSuchFileException(jsonFilePath.toString()));
+        // the snapshot is checked before it replaces anything, as it may be about to replace the JSON data file
+        Path convertedFilePath = binaryFilePath.resolveSibling(binaryFilePath.getFileName() + CONVERTED_FILE_SUFFIX);
+        try {
+            BinaryCliTutorsStorage binaryStorage = new BinaryCliTutorsStorage(convertedFilePath);
+            binaryStorage.saveCliTutors(jsonData);
+            ReadOnlyCliTutors binaryData = binaryStorage.readCliTutors().get();
+            if (!new CliTutors(jsonData).equals(new CliTutors(binaryData))) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_LOSSY_CONVERSION, jsonFilePath)));
+            }
+            FileUtil.moveFile(convertedFilePath, binaryFilePath);
+        } finally {
+            Files.deleteIfExists(convertedFilePath);
+        }
+
+        if (jsonFilePath.equals(binaryFilePath)) {
+            // the journal belonged to the JSON file, which is gone now
+            new JsonCliTutorsJournal(jsonFilePath).delete();
+        }
+        logger.info("Converted " + jsonFilePath + " into binary snapshot " + binaryFilePath);
+    }
+
+    /**
+     * Converts the binary snapshot at {@code binaryFilePath} into a JSON data file at {@code jsonFilePath}, replacing
+     * the JSON data file and its journal if there are any. The two paths may be the same, in which case the file is
+     * converted in place. The JSON data file is read back and checked against the snapshot, so no data is lost by the
+     * conversion.
+     *
+     * @throws DataConversionException if the snapshot is not in the correct format, or the check fails.
+     * @throws IOException if the snapshot does not exist, or there was any problem writing the JSON data file.
+     */
+    public static void convertToJson(Path binaryFilePath, Path jsonFilePath)
+            throws DataConversionException, IOException {
+        requireAllNonNull(binaryFilePath, jsonFilePath);
+
+        ReadOnlyCliTutors binaryData = new BinaryCliTutorsStorage(binaryFilePath).readCliTutors()
+                .orElseThrow(() -> new NoSuchFileException(binaryFilePath.toString()));
+        Path convertedFilePath = jsonFilePath.resolveSibling(jsonFilePath.getFileName() + CONVERTED_FILE_SUFFIX);
+        try {
+            JsonCliTutorsStorage jsonStorage = new JsonCliTutorsStorage(convertedFilePath);
+            jsonStorage.saveCliTutors(binaryData);
+            ReadOnlyCliTutors jsonData = jsonStorage.readCliTutors().get();
+            if (!new CliTutors(binaryData).equals(new CliTutors(jsonData))) {
+                throw new DataConversionException(
+                        new IllegalValueException(String.format(MESSAGE_LOSSY_JSON_CONVERSION, binaryFilePath)));
+            }
+            FileUtil.moveFile(convertedFilePath, jsonFilePath);
+        } finally {
+            Files.deleteIfExists(convertedFilePath);
+        }
+
+        // any journal was of the JSON data file that has just been replaced
+        new JsonCliTutorsJournal(jsonFilePath).delete();
+        logger.info("Converted binary snapshot " + binaryFilePath + " into " + jsonFilePath);
+    }
+
+    private static void writeSnapshot(ReadOnlyCliTutors cliTutors, DataOutputStream out) throws IOException {
+        out.write(MAGIC);
+        out.writeByte(FORMAT_VERSION);
+
+        out.writeInt(cliTutors.getTutorList().size());
+        for (Tutor tutor : cliTutors.getTutorList()) {
+            writePerson(tutor, out);
+            out.writeByte(Integer.parseInt(tutor.getQualification().index));
+        }
+
+        out.writeInt(cliTutors.getStudentList().size());
+        for (Student student : cliTutors.getStudentList()) {
+            writePerson(student, out);
+        }
+    }
+
+    private static void writePerson(Person person, DataOutputStream out) throws IOException {
+        writeString(person.getName().fullName, out);
+        writeString(person.getPhone().value, out);
+        out.writeByte(Arrays.asList(GENDERS).indexOf(person.getGender().genderSymbol));
+        writeString(person.getRemark().description, out);
+        out.writeInt(person.getTags().getMask());
+    }
+
+    private static void writeString(String value, DataOutputStream out) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static CliTutors readSnapshot(DataInputStream in) throws IOException, IllegalValueException {
+        if (!Arrays.equals(MAGIC, in.readNBytes(MAGIC.length))) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        byte version = in.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int tutorCount = in.readInt();
+        List<Tutor> tutors = new ArrayList<>();
+        for (int i = 0; i < tutorCount; i++) {
+            tutors.add(readTutor(in));
+        }
+
+        int studentCount = in.readInt();
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < studentCount; i++) {
+            students.add(readStudent(in));
+        }
+
+        if (in.read() != -1) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        return JsonSerializableCliTutors.toCliTutors(tutors, students);
+    }
+
+    private static Tutor readTutor(DataInputStream in) throws IOException, IllegalValueException {
+        Name name = readName(in);
+        Phone phone = readPhone(in);
+        Gender gender = readGender(in);
+        Remark remark = readRemark(in);
+        TagSet tags = readTags(in);
+
+        String qualification = String.valueOf(in.readByte());
+        if (!Qualification.isValidQualification(qualification)) {
+            throw new IllegalValueException(Qualification.MESSAGE_CONSTRAINTS);
+        }
+        return new Tutor(name, phone, gender, new Qualification(qualification), remark, tags);
+    }
+
+    private static Student readStudent(DataInputStream in) throws IOException, IllegalValueException {
+        Name name = readName(in);
+        Phone phone = readPhone(in);
+        Gender gender = readGender(in);
+        Remark remark = readRemark(in);
+        TagSet tags = readTags(in);
+        return new Student(name, phone, gender, remark, tags);
+    }
+
+    private static Name readName(DataInputStream in) throws IOException, IllegalValueException {
+        String name = readString(in);
+        if (!Name.isValidName(name)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name(name);
+    }
+
+    private static Phone readPhone(DataInputStream in) throws IOException, IllegalValueException {
+        String phone = readString(in);
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        return new Phone(phone);
+    }
+
+    private static Gender readGender(DataInputStream in) throws IOException, IllegalValueException {
+        int gender = in.readByte();
+        if (gender < 0 || gender >= GENDERS.length) {
+            throw new IllegalValueException(Gender.MESSAGE_CONSTRAINTS);
+        }
+        return new Gender(GENDERS[gender]);
+    }
+
+    private static Remark readRemark(DataInputStream in) throws IOException, IllegalValueException {
+        String remark = readString(in);
+        if (!Remark.isValidRemark(remark)) {
+            throw new IllegalValueException(Remark.MESSAGE_CONSTRAINTS);
+        }
+        return new Remark(remark);
+    }
+
+    private static TagSet readTags(DataInputStream in) throws IOException, IllegalValueException {
+        try {
+            return TagSet.ofMask(in.readInt());
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+        }
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_SNAPSHOT);
+        }
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new EOFException();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
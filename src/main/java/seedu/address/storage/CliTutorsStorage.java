@@ -2,9 +2,11 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.ReadOnlyCliTutors;
 
 /**
@@ -42,4 +44,21 @@ public interface CliTutorsStorage {
      */
     void saveCliTutors(ReadOnlyCliTutors cliTutors, Path filePath) throws IOException;
 
+    /**
+     * Saves {@code changes}, the changes made to {@code cliTutors} since it was last saved, to the storage.
+     * Implementations may save just the changes, or all of {@code cliTutors}.
+     * @param cliTutors cannot be null.
+     * @param changes cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void saveCliTutorsChanges(ReadOnlyCliTutors cliTutors, List<CliTutorsChange> changes) throws IOException;
+
+    /**
+     * Makes the data file hold all of the data by itself, for when the application exits, by saving all of
+     * {@code cliTutors} if some of the changes to it were saved apart from the data file.
+     * @param cliTutors cannot be null, and must include every change saved so far.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactCliTutors(ReadOnlyCliTutors cliTutors) throws IOException;
+
 }
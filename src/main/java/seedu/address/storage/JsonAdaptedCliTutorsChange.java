@@ -0,0 +1,161 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonAdaptedPerson.MISSING_FIELD_MESSAGE_FORMAT;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
+
+/**
+ * Jackson-friendly version of {@link CliTutorsChange}, as recorded in the CliTutors journal.
+ * Only additions, edits and deletions are recorded; a reset is saved as a whole new snapshot instead.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedCliTutorsChange {
+    public static final String MESSAGE_INVALID_CHANGE = "Journal entry is not a valid change!";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Journal entry refers to a person that does not exist!";
+    public static final String MESSAGE_DUPLICATE_PERSON = "Journal entry would result in a duplicate person!";
+
+    private final CliTutorsChange.Type type;
+    private final String phone;
+    private final JsonAdaptedTutor tutor;
+    private final JsonAdaptedStudent student;
+    private final boolean isTutor;
+
+    /**
+     * Constructs a {@code JsonAdaptedCliTutorsChange} with the given change details.
+     */
+    @JsonCreator
+    public JsonAdaptedCliTutorsChange(@JsonProperty("type") CliTutorsChange.Type type,
+                                      @JsonProperty("phone") String phone,
+                                      @JsonProperty("tutor") JsonAdaptedTutor tutor,
+                                      @JsonProperty("student") JsonAdaptedStudent student,
+                                      @JsonProperty("isTutor") boolean isTutor) {
+        this.type = type;
+        this.phone = phone;
+        this.tutor = tutor;
+        this.student = student;
+        this.isTutor = isTutor;
+    }
+
+    /**
+     * Converts a given {@code CliTutorsChange} into this class for Jackson use.
+     * {@code source} must not be a reset.
+     */
+    public JsonAdaptedCliTutorsChange(CliTutorsChange source) {
+        if (source.getType() == CliTutorsChange.Type.RESET) {
+            throw new IllegalArgumentException(MESSAGE_INVALID_CHANGE);
+        }
+
+        Person target = source.getTarget();
+        Person editedPerson = source.getEditedPerson();
+        Person person = target != null ? target : editedPerson;
+
+        type = source.getType();
+        phone = target == null ? null : target.getPhone().value;
+        isTutor = person instanceof Tutor;
+        tutor = editedPerson instanceof Tutor ? new JsonAdaptedTutor((Tutor) editedPerson) : null;
+        student = editedPerson instanceof Student ? new JsonAdaptedStudent((Student) editedPerson) : null;
+    }
+
+    /**
+     * Applies this change to {@code cliTutors}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in this change, or if it does not
+     *     apply to {@code cliTutors}.
+     */
+    public void applyTo(CliTutors cliTutors) throws IllegalValueException {
+        if (type == null || type == CliTutorsChange.Type.RESET) {
+            throw new IllegalValueException(MESSAGE_INVALID_CHANGE);
+        }
+
+        if (isTutor) {
+            applyToTutors(cliTutors);
+        } else {
+            applyToStudents(cliTutors);
+        }
+    }
+
+    private void applyToTutors(CliTutors cliTutors) throws IllegalValueException {
+        if (type == CliTutorsChange.Type.ADD) {
+            Tutor toAdd = toEditedTutor();
+            requireNewPhone(cliTutors, toAdd.getPhone());
+            cliTutors.addTutor(toAdd);
+            return;
+        }
+
+        Tutor target = cliTutors.getTutor(toTargetPhone())
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_PERSON_NOT_FOUND));
+        if (type == CliTutorsChange.Type.DELETE) {
+            cliTutors.removeTutor(target);
+            return;
+        }
+
+        Tutor editedTutor = toEditedTutor();
+        if (!target.isSamePerson(editedTutor)) {
+            requireNewPhone(cliTutors, editedTutor.getPhone());
+        }
+        cliTutors.setTutor(target, editedTutor);
+    }
+
+    private void applyToStudents(CliTutors cliTutors) throws IllegalValueException {
+        if (type == CliTutorsChange.Type.ADD) {
+            Student toAdd = toEditedStudent();
+            requireNewPhone(cliTutors, toAdd.getPhone());
+            cliTutors.addStudent(toAdd);
+            return;
+        }
+
+        Student target = cliTutors.getStudent(toTargetPhone())
+                .orElseThrow(() -> new IllegalValueException(MESSAGE_PERSON_NOT_FOUND));
+        if (type == CliTutorsChange.Type.DELETE) {
+            cliTutors.removeStudent(target);
+            return;
+        }
+
+        Student editedStudent = toEditedStudent();
+        if (!target.isSamePerson(editedStudent)) {
+            requireNewPhone(cliTutors, editedStudent.getPhone());
+        }
+        cliTutors.setStudent(target, editedStudent);
+    }
+
+    private Phone toTargetPhone() throws IllegalValueException {
+        if (phone == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
+        }
+        if (!Phone.isValidPhone(phone)) {
+            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
+        }
+        return new Phone(phone);
+    }
+
+    private Tutor toEditedTutor() throws IllegalValueException {
+        if (tutor == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Tutor.class.getSimpleName()));
+        }
+        return tutor.toModelType();
+    }
+
+    private Student toEditedStudent() throws IllegalValueException {
+        if (student == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    Student.class.getSimpleName()));
+        }
+        return student.toModelType();
+    }
+
+    private static void requireNewPhone(CliTutors cliTutors, Phone phone) throws IllegalValueException {
+        if (cliTutors.hasPersonWithSamePhone(phone)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+        }
+    }
+}
@@ -6,7 +6,10 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagSet;
 
 /**
  * Jackson-friendly version of {@link Person}.
@@ -53,4 +56,43 @@ abstract class JsonAdaptedPerson {
     public List<JsonAdaptedTag> getTags() {
         return tagged;
     }
+
+    /**
+     * Adds the details of this person to {@code checksum}.
+     */
+    public void updateChecksum(JsonContentChecksum checksum) {
+        checksum.update(name);
+        checksum.update(phone);
+        checksum.update(gender);
+        checksum.update(remark);
+        checksum.update(tagged.size());
+        for (JsonAdaptedTag tag : tagged) {
+            checksum.update(tag.getTagName());
+        }
+    }
+
+    /**
+     * Returns the model's tags for the tags of this person.
+     *
+     * @throws IllegalValueException if any of the tags is invalid.
+     */
+    protected TagSet toModelTags() throws IllegalValueException {
+        final List<Tag> modelTags = new ArrayList<>(tagged.size());
+        for (JsonAdaptedTag tag : tagged) {
+            modelTags.add(tag.toModelType());
+        }
+        return TagSet.of(modelTags);
+    }
+
+    /**
+     * Returns {@code value}, which is the field of type {@code fieldType}.
+     *
+     * @throws IllegalValueException if {@code value} is missing.
+     */
+    protected static String requireField(String value, Class<?> fieldType) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldType.getSimpleName()));
+        }
+        return value;
+    }
 }
@@ -98,4 +98,18 @@ public class JsonAdaptedStudent extends JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(studentTags);
         return new Student(modelName, modelPhone, modelGender, modelRemark, modelTags);
     }
+
+    /**
+     * Converts this Jackson-friendly adapted student object into the model's {@code Student} object, without validating
+     * its details, for when they are known to be valid already. Only missing details and tags are still checked for.
+     *
+     * @throws IllegalValueException if a detail is missing or a tag is invalid.
+     */
+    public Student toTrustedModelType() throws IllegalValueException {
+        final Name modelName = Name.ofTrusted(requireField(super.getName(), Name.class));
+        final Phone modelPhone = Phone.ofTrusted(requireField(super.getPhone(), Phone.class));
+        final Gender modelGender = Gender.ofTrusted(requireField(super.getGender(), Gender.class));
+        final Remark modelRemark = Remark.ofTrusted(requireField(super.getRemark(), Remark.class));
+        return new Student(modelName, modelPhone, modelGender, modelRemark, toModelTags());
+    }
 }
@@ -113,4 +113,26 @@ public class JsonAdaptedTutor extends JsonAdaptedPerson {
         final Set<Tag> modelTags = new HashSet<>(tutorTags);
         return new Tutor(modelName, modelPhone, modelGender, modelQualification, modelRemark, modelTags);
     }
+
+    @Override
+    public void updateChecksum(JsonContentChecksum checksum) {
+        super.updateChecksum(checksum);
+        checksum.update(qualification);
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted tutor object into the model's {@code Tutor} object, without validating
+     * its details, for when they are known to be valid already. Only missing details and tags are still checked for.
+     *
+     * @throws IllegalValueException if a detail is missing or a tag is invalid.
+     */
+    public Tutor toTrustedModelType() throws IllegalValueException {
+        final Name modelName = Name.ofTrusted(requireField(super.getName(), Name.class));
+        final Phone modelPhone = Phone.ofTrusted(requireField(super.getPhone(), Phone.class));
+        final Gender modelGender = Gender.ofTrusted(requireField(super.getGender(), Gender.class));
+        final Remark modelRemark = Remark.ofTrusted(requireField(super.getRemark(), Remark.class));
+        final Qualification modelQualification = Qualification.ofTrusted(requireField(qualification,
+                Qualification.class));
+        return new Tutor(modelName, modelPhone, modelGender, modelQualification, modelRemark, toModelTags());
+    }
 }
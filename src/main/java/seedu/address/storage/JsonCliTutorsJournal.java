@@ -0,0 +1,155 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.CliTutorsChange;
+
+/**
+ * An append-only journal of the changes made to CliTutors data since its JSON snapshot was last written.
+ *
+ * The journal is kept in a file next to the snapshot, with one JSON object per line. The first line names the
+ * checksum of the snapshot the journal applies to, and every following line holds one change, so recording a change
+ * only appends to the journal. A journal whose checksum does not match the snapshot is stale, for example when the
+ * snapshot was rewritten but the journal could not be deleted afterwards, and is ignored.
+ */
+class JsonCliTutorsJournal {
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    /** Added to the file name of a journal that cannot be replayed, when it is set aside */
+    public static final String DAMAGED_JOURNAL_FILE_SUFFIX = ".bad";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonCliTutorsJournal.class);
+
+    private final Path journalPath;
+
+    /**
+     * Constructs the journal of the snapshot at {@code snapshotPath}.
+     */
+    public JsonCliTutorsJournal(Path snapshotPath) {
+        requireNonNull(snapshotPath);
+        journalPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    public Path getJournalPath() {
+        return journalPath;
+    }
+
+    /**
+     * Returns the changes recorded against the snapshot with the given checksum, oldest first.
+     * Returns an empty list if there is no journal, or if the journal is stale.
+     * A last line that cannot be read is taken to be a write that was cut short, and is ignored.
+     *
+     * @throws DataConversionException if the journal is not in the expected format.
+     */
+    public List<JsonAdaptedCliTutorsChange> read(String snapshotChecksum) throws DataConversionException {
+        requireNonNull(snapshotChecksum);
+        List<JsonAdaptedCliTutorsChange> changes = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return changes;
+        }
+
+        try {
+            List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            if (lines.isEmpty()) {
+                return changes;
+            }
+            Header header = JsonUtil.fromJsonString(lines.get(0), Header.class);
+            if (!snapshotChecksum.equals(header.snapshotChecksum)) {
+                logger.warning("Ignoring stale journal " + journalPath);
+                return changes;
+            }
+
+            for (int i = 1; i < lines.size(); i++) {
+                try {
+                    changes.add(JsonUtil.fromJsonString(lines.get(i), JsonAdaptedCliTutorsChange.class));
+                } catch (IOException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal file " + journalPath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return changes;
+    }
+
+    /**
+     * Starts a new, empty journal for the snapshot with the given checksum, replacing any existing journal.
+     * The existing journal is only replaced once the new one has been written in full.
+     */
+    public void start(String snapshotChecksum) throws IOException {
+        requireNonNull(snapshotChecksum);
+        FileUtil.writeToFile(journalPath,
+                JsonUtil.toCompactJsonString(new Header(snapshotChecksum)) + System.lineSeparator());
+    }
+
+    /**
+     * Appends {@code changes} to the journal, in order, and returns once they are on the disk.
+     * The journal must have been started.
+     */
+    public void append(List<CliTutorsChange> changes) throws IOException {
+        requireNonNull(changes);
+        StringBuilder lines = new StringBuilder();
+        for (CliTutorsChange change : changes) {
+            lines.append(JsonUtil.toCompactJsonString(new JsonAdaptedCliTutorsChange(change)))
+                    .append(System.lineSeparator());
+        }
+        ByteBuffer bytes = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Moves the journal to a file of its own next to it, replacing any journal set aside before, and returns the path
+     * of that file. The journal must exist.
+     */
+    public Path setAside() throws IOException {
+        Path damagedJournalPath = journalPath.resolveSibling(journalPath.getFileName() + DAMAGED_JOURNAL_FILE_SUFFIX);
+        FileUtil.moveFile(journalPath, damagedJournalPath);
+        return damagedJournalPath;
+    }
+
+    /**
+     * Deletes the journal, if there is one.
+     */
+    public void delete() throws IOException {
+        Files.deleteIfExists(journalPath);
+    }
+
+    /**
+     * The first line of a journal.
+     */
+    private static class Header {
+        private final String snapshotChecksum;
+
+        @JsonCreator
+        Header(@JsonProperty("snapshotChecksum") String snapshotChecksum) {
+            this.snapshotChecksum = snapshotChecksum;
+        }
+    }
+}
@@ -1,28 +1,56 @@
 package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
 
 /**
  * A class to access CliTutors data stored as a json file on the hard disk.
+ *
+ * Changes are saved by appending them to a {@code JsonCliTutorsJournal} next to the json file, which is replayed on
+ * top of the json file when the data is read. Once the journal grows past {@link #JOURNAL_COMPACTION_THRESHOLD}
+ * changes, or when the application exits, it is compacted by writing the whole data to the json file again.
+ * A journal that cannot be replayed is moved aside, and the json file is read without it.
  */
 public class JsonCliTutorsStorage implements CliTutorsStorage {
+    /** Number of changes the journal may hold before it is compacted into the json file */
+    public static final int JOURNAL_COMPACTION_THRESHOLD = 1000;
 
     private static final Logger logger = LogsCenter.getLogger(JsonCliTutorsStorage.class);
 
     private Path filePath;
 
+    /** Checksum of the json file at {@code filePath} as it was last read or written, or null if unknown */
+    private String snapshotChecksum;
+    private int journalLength;
+
     public JsonCliTutorsStorage(Path filePath) {
         this.filePath = filePath;
     }
@@ -45,20 +73,90 @@ public class JsonCliTutorsStorage implements CliTutorsStorage {
     public Optional<ReadOnlyCliTutors> readCliTutors(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableCliTutors> jsonCliTutors = JsonUtil.readJsonFile(
-                filePath, JsonSerializableCliTutors.class);
-        if (!jsonCliTutors.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
+        CRC32 crc = new CRC32();
+        CliTutors cliTutors = readSnapshot(filePath, crc);
+        String checksum = Long.toHexString(crc.getValue());
+        JsonCliTutorsJournal journal = new JsonCliTutorsJournal(filePath);
+        int replayedLength;
+        try {
+            List<JsonAdaptedCliTutorsChange> journalChanges = journal.read(checksum);
+            for (JsonAdaptedCliTutorsChange change : journalChanges) {
+                change.applyTo(cliTutors);
+            }
+            replayedLength = journalChanges.size();
+        } catch (DataConversionException | IllegalValueException e) {
+            logger.warning("Ignoring journal " + journal.getJournalPath() + " that cannot be replayed: " + e);
+            setAside(journal);
+            cliTutors = readSnapshot(filePath, crc); // some of the changes may have been made already
+            replayedLength = 0;
+        }
+
+        if (filePath.equals(this.filePath)) {
+            snapshotChecksum = checksum;
+            journalLength = replayedLength;
+        }
+        return Optional.of(cliTutors);
+    }
+
+    /**
+     * Reads the json file at {@code filePath}, which must exist, with {@code crc} set to the checksum of the whole
+     * file.
+     */
+    private static CliTutors readSnapshot(Path filePath, CRC32 crc) throws DataConversionException {
         try {
-            return Optional.of(jsonCliTutors.get().toModelType());
+            Optional<CliTutors> trustedCliTutors = readJsonFile(filePath, crc, true);
+            if (trustedCliTutors.isPresent()) {
+                return trustedCliTutors.get();
+            }
+            logger.info("Validating all data in " + filePath + " as it was saved by another version or edited");
+            return readJsonFile(filePath, crc, false).get();
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    /**
+     * Moves {@code journal} out of the way, so that the changes in it are not lost when a new journal is started.
+     */
+    private static void setAside(JsonCliTutorsJournal journal) {
+        try {
+            Path damagedJournalPath = journal.setAside();
+            logger.warning("Moved the journal that cannot be replayed to " + damagedJournalPath);
+        } catch (IOException e) {
+            logger.warning("Failed to move the journal that cannot be replayed: " + e);
+        }
+    }
+
+    /**
+     * Reads the json file at {@code filePath}, with {@code crc} set to the checksum of the whole file.
+     * If {@code isTrusted}, the persons are only validated if the file cannot be trusted, in which case nothing is
+     * returned.
+     */
+    private static Optional<CliTutors> readJsonFile(Path filePath, CRC32 crc, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        crc.reset();
+        try (InputStream in = new CheckedInputStream(Files.newInputStream(filePath), crc);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            Optional<CliTutors> cliTutors = isTrusted
+                    ? JsonSerializableCliTutors.readTrustedFrom(parser)
+                    : Optional.of(JsonSerializableCliTutors.readFrom(parser));
+            if (cliTutors.isPresent()) {
+                // the checksum covers the whole file, including anything after the data
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            return cliTutors;
+        }
+    }
+
     @Override
     public void saveCliTutors(ReadOnlyCliTutors cliTutors) throws IOException {
         saveCliTutors(cliTutors, filePath);
@@ -73,8 +171,81 @@ public class JsonCliTutorsStorage implements CliTutorsStorage {
         requireNonNull(cliTutors);
         requireNonNull(filePath);
 
+        writeJsonFile(cliTutors.getTutorList().iterator(), cliTutors.getStudentList().iterator(), filePath);
+    }
+
+    /**
+     * Saves the tutors and students produced by {@code tutors} and {@code students} to the json file, writing each
+     * person as soon as it is produced, so the whole data never has to be held in memory.
+     */
+    public void saveCliTutors(Stream<Tutor> tutors, Stream<Student> students) throws IOException {
+        requireAllNonNull(tutors, students);
+
+        writeJsonFile(tutors.iterator(), students.iterator(), filePath);
+    }
+
+    private void writeJsonFile(Iterator<Tutor> tutors, Iterator<Student> students, Path filePath)
+            throws IOException {
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableCliTutors(cliTutors), filePath);
+        CRC32 crc = new CRC32();
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(new CheckedOutputStream(out, crc))) {
+                JsonSerializableCliTutors.writeTo(tutors, students, generator);
+            }
+        });
+        new JsonCliTutorsJournal(filePath).delete();
+
+        if (filePath.equals(this.filePath)) {
+            snapshotChecksum = Long.toHexString(crc.getValue());
+            journalLength = 0;
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * The changes are appended to the journal, unless the whole data has to be written anyway: when the json file
+     * has not been read or written through this storage, when {@code changes} include a reset, or when the journal
+     * is due for compaction.
+     */
+    @Override
+    public void saveCliTutorsChanges(ReadOnlyCliTutors cliTutors, List<CliTutorsChange> changes) throws IOException {
+        requireAllNonNull(cliTutors, changes);
+
+        boolean hasReset = changes.stream().anyMatch(change -> change.getType() == CliTutorsChange.Type.RESET);
+        if (snapshotChecksum == null || !FileUtil.isFileExists(filePath) || hasReset
+                || journalLength + changes.size() > JOURNAL_COMPACTION_THRESHOLD) {
+            saveCliTutors(cliTutors, filePath);
+            return;
+        }
+
+        JsonCliTutorsJournal journal = new JsonCliTutorsJournal(filePath);
+        try {
+            if (journalLength == 0) {
+                journal.start(snapshotChecksum);
+            }
+            journal.append(changes);
+            journalLength += changes.size();
+        } catch (IOException ioe) {
+            // the journal may now end with some of the changes, so the next save has to rewrite the json file
+            snapshotChecksum = null;
+            throw ioe;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The whole data is written to the json file, and the journal deleted, if this storage has read or written the json
+     * file, and the journal holds some changes since. A json file that could not be read is left as it is.
+     */
+    @Override
+    public void compactCliTutors(ReadOnlyCliTutors cliTutors) throws IOException {
+        requireNonNull(cliTutors);
+
+        if (snapshotChecksum != null && journalLength > 0) {
+            logger.fine("Compacting the journal into data file: " + filePath);
+            saveCliTutors(cliTutors, filePath);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+package seedu.address.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * A checksum over the values of the persons in a CliTutors json file, rather than over the json text.
+ * It is the same however the json is formatted, and is computed as each person is written or read.
+ */
+class JsonContentChecksum {
+    private static final int NULL_LENGTH = -1;
+
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Adds {@code value} to the checksum.
+     */
+    public void update(int value) {
+        crc.update(value >>> 24);
+        crc.update(value >>> 16);
+        crc.update(value >>> 8);
+        crc.update(value);
+    }
+
+    /**
+     * Adds {@code value}, which may be null, to the checksum.
+     * Its length is added first, so the values added one after another cannot run into each other.
+     */
+    public void update(String value) {
+        if (value == null) {
+            update(NULL_LENGTH);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        update(bytes.length);
+        crc.update(bytes);
+    }
+
+    /**
+     * Returns the checksum of the values added so far, as it is saved in the json file.
+     */
+    public String getValue() {
+        return Long.toHexString(crc.getValue());
+    }
+}
@@ -1,39 +1,94 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.CliTutors;
 import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Tutor;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable CliTutors that is serializable to JSON format.
+ *
+ * {@link #readFrom(JsonParser)} and {@link #writeTo(ReadOnlyCliTutors, JsonGenerator)} read and write the same
+ * format one person at a time, without building the whole JSON tree in memory.
+ *
+ * Adapted persons are converted into the model's persons in parallel, as each conversion only validates its own
+ * person. Duplicates are then checked for all the persons together, as they are added to the {@code CliTutors}.
+ *
+ * The data is saved with its {@link #SCHEMA_VERSION} first and a {@link JsonContentChecksum} of its persons last.
+ * Data of the current version whose checksum still matches was saved by this class from valid persons, so its
+ * persons are converted without validating their details again, through the {@code ofTrusted} factories of the
+ * person fields, which skip the checks of their constructors. This is the only place those may be used, as only
+ * here is the data known to be valid. Any other data is validated in full.
  */
 @JsonRootName(value = "clitutors")
+@JsonPropertyOrder({JsonSerializableCliTutors.SCHEMA_VERSION_FIELD, JsonSerializableCliTutors.TUTORS_FIELD,
+        JsonSerializableCliTutors.STUDENTS_FIELD, JsonSerializableCliTutors.CHECKSUM_FIELD})
 class JsonSerializableCliTutors {
+    /** Version of the format the data is saved in, to be increased whenever a saved value changes meaning */
+    public static final int SCHEMA_VERSION = 1;
 
-    public static final String MESSAGE_DUPLICATE_TUTOR = "Tutors list contains duplicate tutor(s).";
-    public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s).";
+    public static final String MESSAGE_DUPLICATE_TUTOR = "Tutors list contains duplicate tutor(s): %s";
+    public static final String MESSAGE_DUPLICATE_STUDENT = "Students list contains duplicate student(s): %s";
+    public static final String MESSAGE_DUPLICATE_RECORD = "index %d has the same phone number %s as index %d";
 
+    public static final String MESSAGE_INVALID_RECORD = "Invalid %s at index %d: %s";
+
+    static final String SCHEMA_VERSION_FIELD = "schemaVersion";
+    static final String TUTORS_FIELD = "tutors";
+    static final String STUDENTS_FIELD = "students";
+    static final String CHECKSUM_FIELD = "checksum";
+
+    private static final String TUTOR_RECORD = "tutor";
+    private static final String STUDENT_RECORD = "student";
+    /** Number of records read before they are converted together */
+    private static final int CONVERSION_BATCH_SIZE = 8192;
+    /** Fewest records worth spreading over several threads */
+    private static final int MIN_PARALLEL_RECORDS = 256;
+
+    private final Integer schemaVersion;
     private final List<JsonAdaptedTutor> tutors = new ArrayList<>();
     private final List<JsonAdaptedStudent> students = new ArrayList<>();
+    private final String checksum;
 
     /**
-     * Constructs a {@code JsonSerializableCliTutors} with the given persons.
+     * Constructs a {@code JsonSerializableCliTutors} with the given persons, saved with the given schema version and
+     * checksum, either of which may be missing.
      */
     @JsonCreator
-    public JsonSerializableCliTutors(@JsonProperty("tutors") List<JsonAdaptedTutor> tutors,
-                                       @JsonProperty("students") List<JsonAdaptedStudent> students) {
+    public JsonSerializableCliTutors(@JsonProperty(SCHEMA_VERSION_FIELD) Integer schemaVersion,
+                                       @JsonProperty(TUTORS_FIELD) List<JsonAdaptedTutor> tutors,
+                                       @JsonProperty(STUDENTS_FIELD) List<JsonAdaptedStudent> students,
+                                       @JsonProperty(CHECKSUM_FIELD) String checksum) {
+        this.schemaVersion = schemaVersion;
         this.tutors.addAll(tutors);
         this.students.addAll(students);
+        this.checksum = checksum;
     }
 
     /**
@@ -44,32 +99,296 @@ class JsonSerializableCliTutors {
     public JsonSerializableCliTutors(ReadOnlyCliTutors source) {
         tutors.addAll(source.getTutorList().stream().map(JsonAdaptedTutor::new).collect(Collectors.toList()));
         students.addAll(source.getStudentList().stream().map(JsonAdaptedStudent::new).collect(Collectors.toList()));
+        schemaVersion = SCHEMA_VERSION;
+        checksum = computeChecksum();
     }
 
     /**
      * Converts this address book into the model's {@code CliTutors} object.
+     * The persons are only validated if the data has another schema version or its checksum does not match.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public CliTutors toModelType() throws IllegalValueException {
-        CliTutors cliTutors = new CliTutors();
-        // Add tutors to cliTutors
-        for (JsonAdaptedTutor jsonAdaptedTutor : tutors) {
-            Tutor tutor = jsonAdaptedTutor.toModelType();
-            if (cliTutors.hasTutor(tutor)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TUTOR);
+        boolean isTrusted = Objects.equals(schemaVersion, SCHEMA_VERSION) && computeChecksum().equals(checksum);
+        List<Tutor> modelTutors = new ArrayList<>(tutors.size());
+        convertInParallel(tutors, TUTOR_RECORD, tutorConverter(isTrusted), modelTutors);
+        List<Student> modelStudents = new ArrayList<>(students.size());
+        convertInParallel(students, STUDENT_RECORD, studentConverter(isTrusted), modelStudents);
+        return toCliTutors(modelTutors, modelStudents);
+    }
+
+    private String computeChecksum() {
+        JsonContentChecksum contentChecksum = new JsonContentChecksum();
+        tutors.forEach(tutor -> tutor.updateChecksum(contentChecksum));
+        contentChecksum.update(tutors.size());
+        students.forEach(student -> student.updateChecksum(contentChecksum));
+        contentChecksum.update(students.size());
+        return contentChecksum.getValue();
+    }
+
+    /**
+     * Reads a {@code CliTutors} from {@code parser}, validating every person.
+     * The persons are converted in batches, so only one batch of them is held in the adapted form at a time.
+     *
+     * @throws IOException if the data is not valid JSON in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static CliTutors readFrom(JsonParser parser) throws IOException, IllegalValueException {
+        return read(parser, false).get();
+    }
+
+    /**
+     * Reads a {@code CliTutors} from {@code parser} like {@link #readFrom(JsonParser)}, but without validating the
+     * details of the persons, if the data has the current schema version and its checksum matches.
+     * The checksum is only known once all the data has been read, so the persons are converted on the assumption
+     * that it will match.
+     *
+     * @return the {@code CliTutors}, or an empty {@code Optional} if the data could not be trusted, in which case it
+     *     has to be read again with {@link #readFrom(JsonParser)}.
+     * @throws IOException if the data is not valid JSON in the expected format.
+     * @throws IllegalValueException if the trusted data has duplicate persons.
+     */
+    public static Optional<CliTutors> readTrustedFrom(JsonParser parser) throws IOException, IllegalValueException {
+        return read(parser, true);
+    }
+
+    private static Optional<CliTutors> read(JsonParser parser, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the data to be a JSON object");
+        }
+        if (isTrusted && !hasCurrentSchemaVersion(parser)) {
+            return Optional.empty();
+        }
+
+        JsonContentChecksum contentChecksum = new JsonContentChecksum();
+        String savedChecksum = null;
+        List<Tutor> modelTutors = new ArrayList<>();
+        List<Student> modelStudents = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            parser.nextToken();
+            try {
+                if (fieldName.equals(TUTORS_FIELD) && startArray(parser)) {
+                    readRecords(parser, JsonAdaptedTutor.class, TUTOR_RECORD, tutorConverter(isTrusted), modelTutors,
+                            contentChecksum);
+                } else if (fieldName.equals(STUDENTS_FIELD) && startArray(parser)) {
+                    readRecords(parser, JsonAdaptedStudent.class, STUDENT_RECORD, studentConverter(isTrusted),
+                            modelStudents, contentChecksum);
+                } else if (fieldName.equals(CHECKSUM_FIELD) && parser.getCurrentToken() == JsonToken.VALUE_STRING) {
+                    savedChecksum = parser.getText();
+                } else {
+                    parser.skipChildren();
+                }
+            } catch (IllegalValueException ive) {
+                if (isTrusted) {
+                    // only data that does not match its checksum can fail to convert, and it is validated in full
+                    return Optional.empty();
+                }
+                throw ive;
             }
-            cliTutors.addTutor(tutor);
         }
-        // Add students to cliTutors
-        for (JsonAdaptedStudent jsonAdaptedStudent : students) {
-            Student student = jsonAdaptedStudent.toModelType();
-            if (cliTutors.hasStudent(student)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_STUDENT);
+
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Unexpected end of data");
+        }
+        if (isTrusted && !contentChecksum.getValue().equals(savedChecksum)) {
+            return Optional.empty();
+        }
+        return Optional.of(toCliTutors(modelTutors, modelStudents));
+    }
+
+    /**
+     * Returns true if the next field the parser reads is the schema version, and it is {@link #SCHEMA_VERSION}.
+     */
+    private static boolean hasCurrentSchemaVersion(JsonParser parser) throws IOException {
+        return parser.nextToken() == JsonToken.FIELD_NAME && parser.getCurrentName().equals(SCHEMA_VERSION_FIELD)
+                && parser.nextToken() == JsonToken.VALUE_NUMBER_INT && parser.getIntValue() == SCHEMA_VERSION;
+    }
+
+    private static RecordConverter<JsonAdaptedTutor, Tutor> tutorConverter(boolean isTrusted) {
+        return isTrusted ? JsonAdaptedTutor::toTrustedModelType : JsonAdaptedTutor::toModelType;
+    }
+
+    private static RecordConverter<JsonAdaptedStudent, Student> studentConverter(boolean isTrusted) {
+        return isTrusted ? JsonAdaptedStudent::toTrustedModelType : JsonAdaptedStudent::toModelType;
+    }
+
+    /**
+     * Writes {@code source} to {@code generator}, converting each person just before it is written.
+     */
+    public static void writeTo(ReadOnlyCliTutors source, JsonGenerator generator) throws IOException {
+        writeTo(source.getTutorList().iterator(), source.getStudentList().iterator(), generator);
+    }
+
+    /**
+     * Writes the tutors and students that {@code tutors} and {@code students} produce to {@code generator},
+     * converting each person just before it is written. The persons are not kept after they are written.
+     */
+    public static void writeTo(Iterator<Tutor> tutors, Iterator<Student> students, JsonGenerator generator)
+            throws IOException {
+        JsonContentChecksum contentChecksum = new JsonContentChecksum();
+        generator.writeStartObject();
+        generator.writeNumberField(SCHEMA_VERSION_FIELD, SCHEMA_VERSION);
+        generator.writeArrayFieldStart(TUTORS_FIELD);
+        int tutorCount = 0;
+        while (tutors.hasNext()) {
+            writeRecord(new JsonAdaptedTutor(tutors.next()), generator, contentChecksum);
+            tutorCount++;
+        }
+        generator.writeEndArray();
+        contentChecksum.update(tutorCount);
+        generator.writeArrayFieldStart(STUDENTS_FIELD);
+        int studentCount = 0;
+        while (students.hasNext()) {
+            writeRecord(new JsonAdaptedStudent(students.next()), generator, contentChecksum);
+            studentCount++;
+        }
+        generator.writeEndArray();
+        contentChecksum.update(studentCount);
+        generator.writeStringField(CHECKSUM_FIELD, contentChecksum.getValue());
+        generator.writeEndObject();
+        generator.flush();
+    }
+
+    private static void writeRecord(JsonAdaptedPerson record, JsonGenerator generator,
+            JsonContentChecksum contentChecksum) throws IOException {
+        record.updateChecksum(contentChecksum);
+        generator.writeObject(record);
+    }
+
+    /**
+     * Reads the elements of the array the parser is at as {@code adaptedClass}, and adds them to {@code converted}
+     * once they have been converted, a batch at a time. Every element read is added to {@code contentChecksum},
+     * followed by the number of elements.
+     */
+    private static <A extends JsonAdaptedPerson, T> void readRecords(JsonParser parser, Class<A> adaptedClass,
+            String recordType, RecordConverter<A, T> converter, List<T> converted,
+            JsonContentChecksum contentChecksum) throws IOException, IllegalValueException {
+        int firstIndex = converted.size();
+        List<A> batch = new ArrayList<>(CONVERSION_BATCH_SIZE);
+        while (nextElement(parser)) {
+            A record = parser.readValueAs(adaptedClass);
+            record.updateChecksum(contentChecksum);
+            batch.add(record);
+            if (batch.size() == CONVERSION_BATCH_SIZE) {
+                convertInParallel(batch, recordType, converter, converted);
+                batch.clear();
+            }
+        }
+        convertInParallel(batch, recordType, converter, converted);
+        contentChecksum.update(converted.size() - firstIndex);
+    }
+
+    /**
+     * Converts every record in {@code adapted}, spread over the common fork-join pool, and adds them in order to
+     * {@code converted}. Records are numbered from the number of records already in {@code converted}.
+     *
+     * @throws IllegalValueException for the first record, in order, that could not be converted, with its number.
+     */
+    private static <A, T> void convertInParallel(List<A> adapted, String recordType, RecordConverter<A, T> converter,
+            List<T> converted) throws IllegalValueException {
+        // each slot holds either the converted record or the reason it could not be converted
+        Object[] results = new Object[adapted.size()];
+        IntStream indices = IntStream.range(0, adapted.size());
+        if (adapted.size() >= MIN_PARALLEL_RECORDS) {
+            indices = indices.parallel();
+        }
+        indices.forEach(i -> {
+            try {
+                results[i] = converter.toModelType(adapted.get(i));
+            } catch (IllegalValueException ive) {
+                results[i] = ive;
+            }
+        });
+
+        int firstIndex = converted.size();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] instanceof IllegalValueException) {
+                IllegalValueException ive = (IllegalValueException) results[i];
+                throw new IllegalValueException(
+                        String.format(MESSAGE_INVALID_RECORD, recordType, firstIndex + i, ive.getMessage()), ive);
             }
-            cliTutors.addStudent(student);
+            @SuppressWarnings("unchecked")
+            T record = (T) results[i];
+            converted.add(record);
+        }
+    }
+
+    /**
+     * Returns a {@code CliTutors} with the given persons, which are checked for duplicates in one pass each.
+     * A duplicate is reported with its index and the index of the person it duplicates.
+     */
+    static CliTutors toCliTutors(List<Tutor> tutors, List<Student> students) throws IllegalValueException {
+        CliTutors cliTutors = new CliTutors();
+        try {
+            cliTutors.setTutors(tutors);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_TUTOR,
+                    describeDuplicates(tutors, dpe.getDuplicatePhones())), dpe);
+        }
+        try {
+            cliTutors.setStudents(students);
+        } catch (DuplicatePersonException dpe) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_STUDENT,
+                    describeDuplicates(students, dpe.getDuplicatePhones())), dpe);
         }
         return cliTutors;
     }
 
+    /**
+     * Returns the indexes of the persons with any of {@code duplicatePhones} after the first person with the same
+     * phone number, each with the index of that first person.
+     */
+    private static String describeDuplicates(List<? extends Person> persons, List<Phone> duplicatePhones) {
+        Set<Phone> phones = new HashSet<>(duplicatePhones);
+        Map<Phone, Integer> firstIndexes = new HashMap<>();
+        List<String> duplicates = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            Phone phone = persons.get(i).getPhone();
+            if (!phones.contains(phone)) {
+                continue;
+            }
+            Integer firstIndex = firstIndexes.putIfAbsent(phone, i);
+            if (firstIndex != null) {
+                duplicates.add(String.format(MESSAGE_DUPLICATE_RECORD, i, phone, firstIndex));
+            }
+        }
+        return String.join("; ", duplicates);
+    }
+
+    /**
+     * Returns true if the parser is at the start of an array, or false if it is at a null value.
+     */
+    private static boolean startArray(JsonParser parser) throws IOException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return false;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected " + parser.getCurrentName() + " to be a JSON array");
+        }
+        return true;
+    }
+
+    /**
+     * Moves the parser to the next element of the array it is in.
+     * Returns false if the array has ended instead.
+     */
+    private static boolean nextElement(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new JsonParseException(parser, "Unexpected end of data");
+        }
+        return token != JsonToken.END_ARRAY;
+    }
+
+    /**
+     * Converts an adapted record into the model's type.
+     */
+    @FunctionalInterface
+    private interface RecordConverter<A, T> {
+        T toModelType(A adapted) throws IllegalValueException;
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyCliTutors;
@@ -27,4 +28,16 @@ public interface Storage extends CliTutorsStorage, UserPrefsStorage {
 
     @Override
     void saveCliTutors(ReadOnlyCliTutors cliTutors) throws IOException;
+
+    /**
+     * Sets the handler to be told about saves that failed after {@link #saveCliTutorsChanges} had returned.
+     * The handler may be called from a thread other than the caller's.
+     */
+    void setSaveErrorHandler(Consumer<IOException> saveErrorHandler);
+
+    /**
+     * Waits until every change handed to {@link #saveCliTutorsChanges} has been saved.
+     * @throws IOException if some of the changes could not be saved.
+     */
+    void flush() throws IOException;
 }
@@ -2,30 +2,83 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.ReadOnlyCliTutors;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ListPositions;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Tutor;
 
 /**
  * Manages storage of CliTutors data in local storage.
+ *
+ * In write-behind mode, {@link #saveCliTutorsChanges(ReadOnlyCliTutors, List)} returns straight away, and the
+ * changes are written by a single background writer thread. Changes that arrive while the writer is busy are
+ * coalesced into its next write. Saves that fail in the background are reported to the save error handler, and are
+ * tried again with the next save or {@link #flush()}.
+ *
+ * The writer must not see changes made after a save, so it keeps a copy of the tutor and student lists of its own,
+ * which it brings up to date by making the changes it is handed to it. Only the changes are handed over for each save;
+ * the lists are copied on the calling thread just for the first save, and for a save that includes a reset, which the
+ * changes alone cannot be made from. The writer saves its copy in full whenever the storage needs the whole data.
  */
 public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private CliTutorsStorage cliTutorsStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService writer;
+    private final Object pendingLock = new Object();
+    /** Changes not handed to the writer yet, which are to be made after {@code pendingSnapshot}, if any */
+    private final List<CliTutorsChange> pendingChanges = new ArrayList<>();
+    /** Copy of the whole data the writer is to start its copy afresh from, or null if it is to keep its copy */
+    private CliTutorsCopy pendingSnapshot;
+    private boolean hasWriterData;
+    private boolean isWriteScheduled;
+    /** Held while saving the writer's data, which may be done by the writer or by {@link #flush()} */
+    private final Object writeLock = new Object();
+    /** The writer's copy of the data, with every change handed to it made */
+    private CliTutorsCopy writerData;
+    /** Changes made to {@code writerData} that have not been saved yet */
+    private final List<CliTutorsChange> unsavedWriterChanges = new ArrayList<>();
+    private Consumer<IOException> saveErrorHandler = unused -> {};
+
     /**
      * Creates a {@code StorageManager} with the given {@code CliTutorsStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(CliTutorsStorage cliTutorsStorage, UserPrefsStorage userPrefsStorage) {
+        this(cliTutorsStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code CliTutorsStorage} and {@code UserPrefStorage}, which
+     * saves CliTutors changes in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(CliTutorsStorage cliTutorsStorage, UserPrefsStorage userPrefsStorage,
+            boolean isWriteBehind) {
         super();
         this.cliTutorsStorage = cliTutorsStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.writer = isWriteBehind ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "CliTutors writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -58,6 +111,7 @@ public class StorageManager implements Storage {
 
     @Override
     public Optional<ReadOnlyCliTutors> readCliTutors(Path filePath) throws DataConversionException, IOException {
+        flush();
         logger.fine("Attempting to read data from file: " + filePath);
         return cliTutorsStorage.readCliTutors(filePath);
     }
@@ -69,7 +123,183 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveCliTutors(ReadOnlyCliTutors cliTutors, Path filePath) throws IOException {
+        flush();
         logger.fine("Attempting to write to data file: " + filePath);
         cliTutorsStorage.saveCliTutors(cliTutors, filePath);
     }
+
+    @Override
+    public void saveCliTutorsChanges(ReadOnlyCliTutors cliTutors, List<CliTutorsChange> changes) throws IOException {
+        if (writer == null) {
+            logger.fine("Attempting to save " + changes.size() + " changes to data file: " + getCliTutorsFilePath());
+            cliTutorsStorage.saveCliTutorsChanges(cliTutors, changes);
+            return;
+        }
+
+        boolean hasReset = changes.stream().anyMatch(change -> change.getType() == CliTutorsChange.Type.RESET);
+        synchronized (pendingLock) {
+            if (!hasWriterData || hasReset) {
+                pendingSnapshot = new CliTutorsCopy(cliTutors);
+                pendingChanges.clear();
+                hasWriterData = true;
+            } else {
+                pendingChanges.addAll(changes);
+            }
+            if (!isWriteScheduled) {
+                isWriteScheduled = true;
+                writer.execute(this::writePendingChanges);
+            }
+        }
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<IOException> saveErrorHandler) {
+        this.saveErrorHandler = saveErrorHandler;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Changes whose background save failed are saved on the calling thread.
+     */
+    @Override
+    public void flush() throws IOException {
+        if (writer == null) {
+            return;
+        }
+
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+
+        savePendingChanges();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The changes handed to {@link #saveCliTutorsChanges} are saved first.
+     */
+    @Override
+    public void compactCliTutors(ReadOnlyCliTutors cliTutors) throws IOException {
+        flush();
+        logger.fine("Attempting to compact data file: " + getCliTutorsFilePath());
+        cliTutorsStorage.compactCliTutors(cliTutors);
+    }
+
+    /**
+     * Saves the pending changes in one go. Runs on the writer thread.
+     */
+    private void writePendingChanges() {
+        synchronized (pendingLock) {
+            isWriteScheduled = false;
+        }
+
+        try {
+            savePendingChanges();
+        } catch (IOException ioe) {
+            logger.warning("Failed to save data in the background: " + ioe);
+            saveErrorHandler.accept(ioe);
+        }
+    }
+
+    /**
+     * Makes the pending changes to the writer's copy of the data, and saves all its unsaved changes in one go.
+     * If the save fails, the changes are kept as unsaved, ahead of any that arrive in the meantime, for the next
+     * attempt.
+     */
+    private void savePendingChanges() throws IOException {
+        synchronized (writeLock) {
+            CliTutorsCopy snapshot;
+            List<CliTutorsChange> changes;
+            synchronized (pendingLock) {
+                snapshot = pendingSnapshot;
+                changes = new ArrayList<>(pendingChanges);
+                pendingSnapshot = null;
+                pendingChanges.clear();
+            }
+
+            if (snapshot != null) {
+                writerData = snapshot; // no longer used by the calling thread
+                unsavedWriterChanges.clear();
+                unsavedWriterChanges.add(CliTutorsChange.reset());
+            }
+            if (writerData == null) {
+                return;
+            }
+            changes.forEach(writerData::apply);
+            unsavedWriterChanges.addAll(changes);
+            if (unsavedWriterChanges.isEmpty()) {
+                return;
+            }
+
+            logger.fine("Attempting to save " + unsavedWriterChanges.size() + " changes to data file: "
+                    + getCliTutorsFilePath());
+            cliTutorsStorage.saveCliTutorsChanges(writerData, unsavedWriterChanges);
+            unsavedWriterChanges.clear();
+        }
+    }
+
+    /**
+     * A copy of the tutor and student lists of a {@code ReadOnlyCliTutors}, as they were when it was made, which
+     * changes can then be made to. Only the two lists are kept, without the indexes of a {@code CliTutors}.
+     */
+    private static class CliTutorsCopy implements ReadOnlyCliTutors {
+        private final List<Tutor> tutors;
+        private final List<Student> students;
+        private final ListPositions tutorPositions;
+        private final ListPositions studentPositions;
+
+        CliTutorsCopy(ReadOnlyCliTutors source) {
+            tutors = new ArrayList<>(source.getTutorList());
+            students = new ArrayList<>(source.getStudentList());
+            tutorPositions = new ListPositions(tutors);
+            studentPositions = new ListPositions(students);
+        }
+
+        /**
+         * Makes {@code change} to the lists, which must be as they were before the change. The change cannot be a
+         * reset.
+         */
+        void apply(CliTutorsChange change) {
+            assert change.getType() != CliTutorsChange.Type.RESET : "A reset cannot be applied";
+            Person person = change.getTarget() != null ? change.getTarget() : change.getEditedPerson();
+            if (person instanceof Tutor) {
+                apply(change, tutors, tutorPositions);
+            } else {
+                apply(change, students, studentPositions);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Person> void apply(CliTutorsChange change, List<T> persons,
+                ListPositions positions) {
+            Person target = change.getTarget();
+            Person editedPerson = change.getEditedPerson();
+            if (change.getType() == CliTutorsChange.Type.ADD) {
+                positions.append(editedPerson.getPhone());
+                persons.add((T) editedPerson);
+            } else if (change.getType() == CliTutorsChange.Type.EDIT) {
+                persons.set(positions.positionOf(target.getPhone()), (T) editedPerson);
+                positions.replace(target.getPhone(), editedPerson.getPhone());
+            } else {
+                persons.remove(positions.remove(target.getPhone()));
+            }
+        }
+
+        @Override
+        public ObservableList<Tutor> getTutorList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(tutors));
+        }
+
+        @Override
+        public ObservableList<Student> getStudentList() {
+            return FXCollections.unmodifiableObservableList(FXCollections.observableList(students));
+        }
+    }
 }
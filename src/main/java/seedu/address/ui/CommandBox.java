@@ -1,21 +1,26 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
  */
 public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
+    public static final String BUSY_STYLE_CLASS = "busy";
     private static final String FXML = "CommandBox.fxml";
 
     private final CommandExecutor commandExecutor;
+    /** The command being executed, or null if there is none */
+    private CompletableFuture<CommandResult> runningCommand;
 
     @FXML
     private TextField commandTextField;
@@ -28,23 +33,61 @@ public class CommandBox extends UiPart<Region> {
         this.commandExecutor = commandExecutor;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, this::handleKeyPressed);
     }
 
     /**
      * Handles the Enter button pressed event.
+     * The command box is busy, and ignores further commands, until the command has finished.
      */
     @FXML
     public void handleCommandEntered() {
         String commandText = commandTextField.getText();
-        if (commandText.equals("")) {
+        if (commandText.equals("") || runningCommand != null) {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        CompletableFuture<CommandResult> command = commandExecutor.execute(commandText);
+        if (!command.isDone()) {
+            runningCommand = command;
+            setBusy(true);
+        }
+        // called right away if the command has finished already, else on the JavaFX application thread
+        command.whenComplete((result, error) -> {
+            runningCommand = null;
+            setBusy(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else if (!command.isCancelled()) {
+                setStyleToIndicateCommandFailure();
+            }
+        });
+    }
+
+    /**
+     * Cancels the command being executed, if any and if it has not started changing anything yet.
+     * A command that has started is left to finish, and its result shown as usual.
+     */
+    public void cancelCommand() {
+        if (runningCommand != null) {
+            runningCommand.cancel(true);
+        }
+    }
+
+    private void handleKeyPressed(KeyEvent event) {
+        if (event.getCode() == KeyCode.ESCAPE && runningCommand != null) {
+            cancelCommand();
+            event.consume();
+        }
+    }
+
+    private void setBusy(boolean isBusy) {
+        commandTextField.setEditable(!isBusy);
+        ObservableList<String> styleClass = commandTextField.getStyleClass();
+        if (!isBusy) {
+            styleClass.remove(BUSY_STYLE_CLASS);
+        } else if (!styleClass.contains(BUSY_STYLE_CLASS)) {
+            styleClass.add(BUSY_STYLE_CLASS);
         }
     }
 
@@ -74,10 +117,11 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns its result, which is completed on the JavaFX application thread.
+         * Cancelling the result cancels the command, unless it has started changing anything.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#executeInBackground(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
     }
 }
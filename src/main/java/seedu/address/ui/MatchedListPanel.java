@@ -32,8 +32,11 @@ public class MatchedListPanel<T extends Person> extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once, and shows every person it is given on that card.
      */
     class MatchedListViewCell extends ListCell<T> {
+        private TutorCard tutorCard;
+
         @Override
         protected void updateItem(T person, boolean empty) {
             super.updateItem(person, empty);
@@ -42,8 +45,11 @@ public class MatchedListPanel<T extends Person> extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                Tutor tutor = (Tutor) person;
-                setGraphic(new TutorCard(tutor, getIndex() + 1).getRoot());
+                if (tutorCard == null) {
+                    tutorCard = new TutorCard();
+                }
+                tutorCard.setTutor((Tutor) person, getIndex() + 1);
+                setGraphic(tutorCard.getRoot());
             }
         }
     }
@@ -33,8 +33,12 @@ public class PersonListPanel<T extends Person> extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell creates its card once, and shows every person it is given on that card.
      */
     class PersonListViewCell extends ListCell<T> {
+        private TutorCard tutorCard;
+        private StudentCard studentCard;
+
         @Override
         protected void updateItem(T person, boolean empty) {
             super.updateItem(person, empty);
@@ -44,11 +48,17 @@ public class PersonListPanel<T extends Person> extends UiPart<Region> {
                 setText(null);
             } else {
                 if (person instanceof Tutor) {
-                    Tutor tutor = (Tutor) person;
-                    setGraphic(new TutorCard(tutor, getIndex() + 1).getRoot());
+                    if (tutorCard == null) {
+                        tutorCard = new TutorCard();
+                    }
+                    tutorCard.setTutor((Tutor) person, getIndex() + 1);
+                    setGraphic(tutorCard.getRoot());
                 } else {
-                    Student student = (Student) person;
-                    setGraphic(new StudentCard(student, getIndex() + 1).getRoot());
+                    if (studentCard == null) {
+                        studentCard = new StudentCard();
+                    }
+                    studentCard.setStudent((Student) person, getIndex() + 1);
+                    setGraphic(studentCard.getRoot());
                 }
             }
         }
@@ -1,14 +1,11 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Student;
-import seedu.address.model.tag.LevelSubjectCode;
 
 /**
  * An UI component that displays information of a {@code student}.
@@ -25,7 +22,7 @@ public class StudentCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on CliTutors level 4</a>
      */
 
-    public final Student student;
+    private Student student;
 
     @FXML
     private HBox cardPane;
@@ -43,22 +40,34 @@ public class StudentCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code studentCode} with the given {@code student} and index to display.
+     * Creates a {@code StudentCard} that shows nothing until it is given a student with
+     * {@link #setStudent(Student, int)}.
      */
-    public StudentCard(Student student, int displayedIndex) {
+    public StudentCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code StudentCard} with the given {@code student} and index to display.
+     */
+    public StudentCard(Student student, int displayedIndex) {
+        this();
+        setStudent(student, displayedIndex);
+    }
+
+    /**
+     * Shows {@code student} with the given index on this card, in place of what it showed before.
+     * The card's nodes are kept, so a list cell can show any number of students with the same card.
+     */
+    public void setStudent(Student student, int displayedIndex) {
         this.student = student;
         id.setText(displayedIndex + ". ");
         name.setText(student.getName().formatFullName());
         phone.setText("Contact: " + student.getPhone().value);
         gender.setText("Gender: " + student.getGender().genderSymbol);
-        if (student.isRemarkEmpty()) {
-            remark.setVisible(false);
-        }
+        remark.setVisible(!student.isRemarkEmpty());
         remark.setText("Remark: " + student.getRemark().description);
-        student.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(LevelSubjectCode.getLabel(tag.tagName))));
+        TagLabels.show(tags, student.getTags());
     }
 
     @Override
@@ -0,0 +1,44 @@
+package seedu.address.ui;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.ObservableList;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import seedu.address.model.tag.LevelSubjectCode;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Shows the tags of a person as labels in the {@code FlowPane} of a card.
+ */
+class TagLabels {
+    private TagLabels() {}
+
+    /**
+     * Shows {@code tags} in {@code tagPane}, sorted by name, in place of the tags it showed before.
+     * The labels already in {@code tagPane} are given the new tags, so labels are only created when there are more
+     * tags than before.
+     */
+    static void show(FlowPane tagPane, Collection<Tag> tags) {
+        List<String> labels = tags.stream()
+                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .map(tag -> LevelSubjectCode.getLabel(tag.tagName))
+                .collect(Collectors.toList());
+
+        ObservableList<Node> children = tagPane.getChildren();
+        for (int i = 0; i < labels.size(); i++) {
+            if (i < children.size()) {
+                ((Label) children.get(i)).setText(labels.get(i));
+            } else {
+                children.add(new Label(labels.get(i)));
+            }
+        }
+        if (children.size() > labels.size()) {
+            children.remove(labels.size(), children.size());
+        }
+    }
+}
@@ -1,7 +1,5 @@
 package seedu.address.ui;
 
-import java.util.Comparator;
-
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -9,7 +7,6 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Qualification.Qualifications;
 import seedu.address.model.person.Tutor;
-import seedu.address.model.tag.LevelSubjectCode;
 
 /**
  * An UI component that displays information of a {@code tutor}.
@@ -26,7 +23,7 @@ public class TutorCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on CliTutors level 4</a>
      */
 
-    public final Tutor tutor;
+    private Tutor tutor;
 
     @FXML
     private HBox cardPane;
@@ -46,23 +43,34 @@ public class TutorCard extends UiPart<Region> {
     private FlowPane tags;
 
     /**
-     * Creates a {@code tutorCode} with the given {@code tutor} and index to display.
+     * Creates a {@code TutorCard} that shows nothing until it is given a tutor with {@link #setTutor(Tutor, int)}.
      */
-    public TutorCard(Tutor tutor, int displayedIndex) {
+    public TutorCard() {
         super(FXML);
+    }
+
+    /**
+     * Creates a {@code TutorCard} with the given {@code tutor} and index to display.
+     */
+    public TutorCard(Tutor tutor, int displayedIndex) {
+        this();
+        setTutor(tutor, displayedIndex);
+    }
+
+    /**
+     * Shows {@code tutor} with the given index on this card, in place of what it showed before.
+     * The card's nodes are kept, so a list cell can show any number of tutors with the same card.
+     */
+    public void setTutor(Tutor tutor, int displayedIndex) {
         this.tutor = tutor;
         id.setText(displayedIndex + ". ");
         name.setText(tutor.getName().formatFullName());
         phone.setText("Contact: " + tutor.getPhone().value);
         gender.setText("Gender: " + tutor.getGender().genderSymbol);
         qualification.setText("Qualification: " + Qualifications.getLabel(tutor.getQualification().index));
-        if (tutor.isRemarkEmpty()) {
-            remark.setVisible(false);
-        }
+        remark.setVisible(!tutor.isRemarkEmpty());
         remark.setText("Remark: " + tutor.getRemark().description);
-        tutor.getTags().stream()
-                .sorted(Comparator.comparing(tag -> tag.tagName))
-                .forEach(tag -> tags.getChildren().add(new Label(LevelSubjectCode.getLabel(tag.tagName))));
+        TagLabels.show(tags, tutor.getTags());
     }
 
     @Override
@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void readRecord_unquotedFields_splitOnCommas() throws Exception {
+        BufferedReader reader = reader("Name,Phone,,Tags\r\nAlice,94351253,F,PM\n");
+        assertEquals(List.of("Name", "Phone", "", "Tags"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("Alice", "94351253", "F", "PM"), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_blankLine_oneEmptyField() throws Exception {
+        assertEquals(List.of(""), CsvUtil.readRecord(reader("\nAlice")));
+    }
+
+    @Test
+    public void readRecord_quotedFields_unescaped() throws Exception {
+        BufferedReader reader = reader("\"Meier, Benson\",\"says \"\"hi\"\"\",\"\"\n");
+        assertEquals(List.of("Meier, Benson", "says \"hi\"", ""), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_quotedLineBreak_fieldSpansLines() throws Exception {
+        BufferedReader reader = reader("a,\"first\nsecond\",b\nc\n");
+        assertEquals(List.of("a", "first\nsecond", "b"), CsvUtil.readRecord(reader));
+        assertEquals(List.of("c"), CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() {
+        assertThrows(IOException.class, CsvUtil.MESSAGE_UNCLOSED_QUOTE, () ->
+                CsvUtil.readRecord(reader("a,\"never\nclosed")));
+    }
+
+    @Test
+    public void writeRecord_fieldsNeedingQuotes_readBackUnchanged() throws Exception {
+        List<String> fields = List.of("plain", "with, comma", "with \"quote\"", "with\nline break", "");
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeRecord(writer, fields);
+        assertEquals("plain,\"with, comma\",\"with \"\"quote\"\"\",\"with\nline break\",\r\n", writer.toString());
+        assertEquals(fields, CsvUtil.readRecord(reader(writer.toString())));
+    }
+
+    private static BufferedReader reader(String content) {
+        return new BufferedReader(new StringReader(content));
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_INTEGER_MAX;
@@ -128,6 +129,34 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for prefixEditDistance --------------------------------------
+
+    @Test
+    public void prefixEditDistance_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.prefixEditDistance(null, "text"));
+        assertThrows(NullPointerException.class, () -> StringUtil.prefixEditDistance("word", null));
+    }
+
+    @Test
+    public void prefixEditDistance_validInputs_correctResult() {
+        // prefixes, including the whole text
+        assertEquals(0, StringUtil.prefixEditDistance("", "charlotte"));
+        assertEquals(0, StringUtil.prefixEditDistance("charl", "charlotte"));
+        assertEquals(0, StringUtil.prefixEditDistance("charlotte", "charlotte"));
+
+        // a character missing, extra, substituted or of a different case
+        assertEquals(1, StringUtil.prefixEditDistance("charlote", "charlotte"));
+        assertEquals(1, StringUtil.prefixEditDistance("chaarl", "charlotte"));
+        assertEquals(1, StringUtil.prefixEditDistance("sharl", "charlotte"));
+        assertEquals(1, StringUtil.prefixEditDistance("Charl", "charlotte"));
+
+        // longer than the text
+        assertEquals(1, StringUtil.prefixEditDistance("charls", "charl"));
+        assertEquals(3, StringUtil.prefixEditDistance("abc", ""));
+
+        assertEquals(2, StringUtil.prefixEditDistance("carol", "charlotte"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,148 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchRunner.BatchReport;
+import seedu.address.logic.BatchRunner.LineFailure;
+import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.storage.JsonCliTutorsStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class BatchRunnerTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private SaveCountingStub cliTutorsStorage;
+    private StorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        cliTutorsStorage = new SaveCountingStub(temporaryFolder.resolve("cliTutors.json"));
+        storage = new StorageManager(cliTutorsStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    @Test
+    public void constructor_negativeCheckpointInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new BatchRunner(model, storage, -1));
+    }
+
+    @Test
+    public void run_validScript_allExecutedAndSavedOnce() throws Exception {
+        String script = "# nightly sync\n"
+                + addTutor(1) + "\n"
+                + "\n"
+                + addTutor(2) + "\n"
+                + "   " + addStudent(3) + "   \n";
+        BatchReport report = run(script, 0);
+
+        assertEquals(3, report.getCommandCount());
+        assertEquals(3, report.getSuccessCount());
+        assertTrue(report.getFailures().isEmpty());
+        assertEquals(2, model.getCliTutors().getTutorList().size());
+        assertEquals(1, model.getCliTutors().getStudentList().size());
+
+        assertEquals(1, cliTutorsStorage.saveCount);
+        assertTrue(model.getUnsavedChanges().isEmpty());
+        ReadOnlyCliTutors savedData = cliTutorsStorage.readCliTutors().get();
+        assertEquals(model.getCliTutors(), new CliTutors(savedData));
+    }
+
+    @Test
+    public void run_failingLines_reportedAndOtherLinesExecuted() throws Exception {
+        String script = addTutor(1) + "\n"
+                + "uicfhmowqewca\n"
+                + "# a duplicate\n"
+                + addTutor(1) + "\n"
+                + addTutor(2) + "\n";
+        BatchReport report = run(script, 0);
+
+        assertEquals(4, report.getCommandCount());
+        assertEquals(2, report.getSuccessCount());
+        assertEquals(2, report.getFailures().size());
+        LineFailure unknownCommand = report.getFailures().get(0);
+        assertEquals(2, unknownCommand.getLineNumber());
+        assertEquals("uicfhmowqewca", unknownCommand.getCommandText());
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, unknownCommand.getMessage());
+        assertEquals(4, report.getFailures().get(1).getLineNumber());
+        assertEquals(2, model.getCliTutors().getTutorList().size());
+    }
+
+    @Test
+    public void run_checkpointInterval_savedEveryInterval() throws Exception {
+        StringBuilder script = new StringBuilder();
+        for (int i = 1; i <= 5; i++) {
+            script.append(addTutor(i)).append('\n');
+        }
+        run(script.toString(), 2);
+
+        // after the second and fourth commands, and at the end
+        assertEquals(3, cliTutorsStorage.saveCount);
+        assertEquals(5, cliTutorsStorage.readCliTutors().get().getTutorList().size());
+    }
+
+    @Test
+    public void run_readOnlyScript_notSaved() throws Exception {
+        run("list t\nlist s\n", 1);
+        assertEquals(0, cliTutorsStorage.saveCount);
+    }
+
+    @Test
+    public void run_exitCommand_laterLinesSkipped() throws Exception {
+        BatchReport report = run(addTutor(1) + "\nexit\n" + addTutor(2) + "\n", 0);
+
+        assertEquals(2, report.getCommandCount());
+        assertEquals(1, model.getCliTutors().getTutorList().size());
+        assertEquals(1, cliTutorsStorage.saveCount);
+    }
+
+    private BatchReport run(String script, int checkpointInterval) throws IOException {
+        return new BatchRunner(model, storage, checkpointInterval)
+                .run(new BufferedReader(new StringReader(script)));
+    }
+
+    private static String addTutor(int id) {
+        return "add t n/Tutor " + id + " p/" + (91000000 + id) + " g/F q/2 t/PM";
+    }
+
+    private static String addStudent(int id) {
+        return "add s n/Student " + id + " p/" + (81000000 + id) + " g/M t/SM";
+    }
+
+    /**
+     * A stub class that counts how many times the data is saved.
+     */
+    private static class SaveCountingStub extends JsonCliTutorsStorage {
+        private int saveCount;
+
+        private SaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveCliTutorsChanges(ReadOnlyCliTutors cliTutors, List<CliTutorsChange> changes)
+                throws IOException {
+            saveCount++;
+            super.saveCliTutorsChanges(cliTutors, changes);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.GENDER_DESC_BOB;
@@ -22,6 +24,11 @@ import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -49,11 +56,15 @@ import seedu.address.testutil.TutorBuilder;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy exception");
+    private static final String ADD_TUTOR_COMMAND = AddCommand.COMMAND_WORD + LETTER_DESC_TUTOR + NAME_DESC_BOB
+            + PHONE_DESC_BOB + GENDER_DESC_BOB + QUALIFICATION_DESC_BOB + TAG_DESC_PM_TP;
 
     @TempDir
     public Path temporaryFolder;
 
     private final Model model = new ModelManager();
+    /** Updates of the UI posted by a {@code LogicManager} executing commands in the background */
+    private final Queue<Runnable> uiTasks = new ConcurrentLinkedQueue<>();
     private Logic logic;
 
     @BeforeEach
@@ -89,6 +100,18 @@ public class LogicManagerTest {
                 model);
     }
 
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        JsonCliTutorsStorage cliTutorsStorage =
+                new JsonCliTutorsIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionCliTutors.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(cliTutorsStorage, userPrefsStorage));
+
+        // saving would throw, so the command would fail if it saved
+        assertCommandSuccess(ListCommand.COMMAND_WORD + LETTER_DESC_TUTOR, ListCommand.MESSAGE_EMPTY_LIST, model);
+    }
+
     @Test
     public void execute_storageThrowsIoExceptionTutor_throwsCommandException() {
         // Setup LogicManager with JsonCliTutorsIoExceptionThrowingStub
@@ -129,6 +152,84 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void executeInBackground_validCommand_listsUpdatedBeforeResult() throws Exception {
+        logic = new LogicManager(model, newStorage(), uiTasks::add);
+        Tutor expectedTutor = new TutorBuilder().withTags(VALID_TAG_PM, VALID_TAG_TP).build();
+        CompletableFuture<CommandResult> result = logic.executeInBackground(ADD_TUTOR_COMMAND);
+        CompletableFuture<List<Tutor>> tutorsSeenWithResult = result.thenApply(unused -> List.copyOf(
+                logic.getFilteredTutorList()));
+        logic.shutdown();
+
+        // the command has been executed, but the UI has not been updated yet
+        assertTrue(model.hasTutor(expectedTutor));
+        assertTrue(logic.getFilteredTutorList().isEmpty());
+        assertFalse(result.isDone());
+
+        runUiTasks();
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS_TUTOR, expectedTutor),
+                result.get().getFeedbackToUser());
+        assertEquals(List.of(expectedTutor), tutorsSeenWithResult.get());
+        assertEquals(List.of(expectedTutor), logic.getFilteredTutorList());
+    }
+
+    @Test
+    public void executeInBackground_invalidCommand_completedExceptionally() throws Exception {
+        logic = new LogicManager(model, newStorage(), uiTasks::add);
+        CompletableFuture<CommandResult> result = logic.executeInBackground("uicfhmowqewca");
+        logic.shutdown();
+        runUiTasks();
+
+        Throwable error = result.handle((unused, thrown) -> thrown).get();
+        assertTrue(error instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, error.getMessage());
+    }
+
+    @Test
+    public void executeInBackground_synchronousLogic_completedRightAway() throws Exception {
+        CompletableFuture<CommandResult> result = logic.executeInBackground(ListCommand.COMMAND_WORD
+                + LETTER_DESC_TUTOR);
+        assertEquals(ListCommand.MESSAGE_EMPTY_LIST, result.getNow(null).getFeedbackToUser());
+    }
+
+    @Test
+    public void executeInBackground_cancelled_startedCommandFinishedAndWaitingCommandSkipped() throws Exception {
+        BlockingSaveStub cliTutorsStorage = new BlockingSaveStub(temporaryFolder.resolve("cliTutors.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(cliTutorsStorage, userPrefsStorage), uiTasks::add);
+
+        CompletableFuture<CommandResult> started = logic.executeInBackground(ADD_TUTOR_COMMAND);
+        cliTutorsStorage.saveStarted.await();
+        CompletableFuture<CommandResult> waiting = logic.executeInBackground(AddCommand.COMMAND_WORD
+                + LETTER_DESC_STUDENT + NAME_DESC_AMY + PHONE_DESC_AMY + GENDER_DESC_AMY + TAG_DESC_PM);
+        assertTrue(waiting.cancel(true));
+        assertFalse(started.cancel(true));
+        cliTutorsStorage.saveAllowed.countDown();
+        logic.shutdown();
+        runUiTasks();
+
+        // the tutor was being saved when its command was to be cancelled, so the command finishes as usual
+        Tutor expectedTutor = new TutorBuilder().withTags(VALID_TAG_PM, VALID_TAG_TP).build();
+        assertTrue(waiting.isCancelled());
+        assertEquals(String.format(AddCommand.MESSAGE_SUCCESS_TUTOR, expectedTutor),
+                started.get().getFeedbackToUser());
+        ModelManager expectedModel = new ModelManager();
+        expectedModel.addTutor(expectedTutor);
+        assertEquals(expectedModel, model);
+        assertTrue(cliTutorsStorage.isSaved);
+        assertEquals(List.of(expectedTutor), logic.getFilteredTutorList());
+        assertTrue(logic.getFilteredStudentList().isEmpty());
+    }
+
+    @Test
+    public void getFilteredTutorList_backgroundLogic_modifyList_throwsUnsupportedOperationException() {
+        model.addTutor(ALICE);
+        logic = new LogicManager(model, newStorage(), uiTasks::add);
+        assertEquals(List.of(ALICE), logic.getFilteredTutorList());
+        assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredTutorList().remove(0));
+        logic.shutdown();
+    }
+
     @Test
     public void getCliTutors_success() {
         assertEquals(logic.getCliTutors(), new ModelManager().getCliTutors());
@@ -238,6 +339,18 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    private StorageManager newStorage() {
+        return new StorageManager(new JsonCliTutorsStorage(temporaryFolder.resolve("cliTutors.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+    }
+
+    private void runUiTasks() {
+        Runnable task;
+        while ((task = uiTasks.poll()) != null) {
+            task.run();
+        }
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
@@ -251,4 +364,29 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that waits to be allowed to save, so a command can be cancelled while it is saving.
+     */
+    private static class BlockingSaveStub extends JsonCliTutorsStorage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch saveAllowed = new CountDownLatch(1);
+        private volatile boolean isSaved;
+
+        private BlockingSaveStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveCliTutors(ReadOnlyCliTutors cliTutors, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException e) {
+                throw new IOException(e);
+            }
+            super.saveCliTutors(cliTutors, filePath);
+            isSaved = true;
+        }
+    }
 }
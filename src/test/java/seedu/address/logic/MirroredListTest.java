@@ -0,0 +1,72 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+import org.junit.jupiter.api.Test;
+
+public class MirroredListTest {
+    private final List<Runnable> uiTasks = new ArrayList<>();
+
+    @Test
+    public void publish_changesMade_mirrorUpdatedOnlyByUiTasks() {
+        ObservableList<Integer> source = FXCollections.observableArrayList(1, 2, 3);
+        MirroredList<Integer> mirroredList = new MirroredList<>(source);
+        source.add(4);
+        source.remove(0);
+        source.set(1, 5);
+
+        mirroredList.publish(uiTasks::add);
+        assertEquals(List.of(1, 2, 3), mirroredList.asUnmodifiableObservableList());
+        runUiTasks();
+        assertEquals(List.of(2, 5, 4), mirroredList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void publish_unchanged_nothingRun() {
+        MirroredList<Integer> mirroredList = new MirroredList<>(FXCollections.observableArrayList(1, 2, 3));
+        mirroredList.publish(uiTasks::add);
+        assertEquals(List.of(), uiTasks);
+    }
+
+    @Test
+    public void publish_randomChanges_mirrorEqualsSource() {
+        Random random = new Random(17);
+        ObservableList<Integer> source = FXCollections.observableArrayList();
+        FilteredList<Integer> filtered = new FilteredList<>(source);
+        MirroredList<Integer> mirroredList = new MirroredList<>(filtered);
+        for (int i = 0; i < 500; i++) {
+            int change = source.isEmpty() ? 0 : random.nextInt(5);
+            if (change == 0) {
+                source.add(random.nextInt(source.size() + 1), random.nextInt(100));
+            } else if (change == 1) {
+                source.remove(random.nextInt(source.size()));
+            } else if (change == 2) {
+                source.set(random.nextInt(source.size()), random.nextInt(100));
+            } else if (change == 3) {
+                int bound = random.nextInt(100);
+                filtered.setPredicate(value -> value < bound);
+            } else {
+                source.sort(Comparator.reverseOrder());
+            }
+            if (random.nextInt(4) == 0) {
+                mirroredList.publish(uiTasks::add);
+                runUiTasks();
+                assertEquals(filtered, mirroredList.asUnmodifiableObservableList());
+            }
+        }
+    }
+
+    private void runUiTasks() {
+        uiTasks.forEach(Runnable::run);
+        uiTasks.clear();
+    }
+}
@@ -20,6 +20,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.PersonType;
 import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyCliTutors;
 import seedu.address.model.ReadOnlyUserPrefs;
@@ -174,6 +175,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<CliTutorsChange> getUnsavedChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void markCliTutorsSaved() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void batchUpdate(Runnable changes) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasTutor(Tutor tutor) {
             throw new AssertionError("This method should not be called.");
@@ -239,6 +255,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public boolean hasMoreMatchedTutors() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void showMoreMatchedTutors() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public int getMatchedTutorCount() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public ObservableList<Tutor> getMatchedTutorList() {
             throw new AssertionError("This method should not be called.");
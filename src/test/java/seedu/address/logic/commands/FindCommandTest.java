@@ -174,6 +174,6 @@ public class FindCommandTest {
      * Parses {@code userInput} into a {@code TagsContainsTagPredicate}.
      */
     private TagsContainTagPredicate prepareTagPredicate(String userInput) {
-        return new TagsContainTagPredicate(List.of(new Tag(userInput)));
+        return new TagsContainTagPredicate(List.of(Tag.of(userInput)));
     }
 }
@@ -0,0 +1,193 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalCliTutors;
+import static seedu.address.testutil.TypicalPersons.getTypicalStudents;
+import static seedu.address.testutil.TypicalPersons.getTypicalTutors;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvFormat;
+import seedu.address.logic.parser.PersonType;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Tutor;
+import seedu.address.testutil.TutorBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model and the file system) for {@code ImportCommand} and
+ * {@code ExportCommand}.
+ */
+public class ImportCommandTest {
+    private static final String TUTOR_HEADER = "Name,Phone,Gender,Qualification,Remark,Tags\n";
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void constructor_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ImportCommand(null, testFolder));
+        assertThrows(NullPointerException.class, () -> new ImportCommand(PersonType.TUTOR, null));
+    }
+
+    @Test
+    public void execute_exportedFile_importsSamePersons() throws Exception {
+        Model typicalModel = new ModelManager(getTypicalCliTutors(), new UserPrefs());
+        Path tutorsFile = testFolder.resolve("out").resolve("tutors.csv");
+        Path studentsFile = testFolder.resolve("students.csv");
+        new ExportCommand(PersonType.TUTOR, tutorsFile).execute(typicalModel);
+        new ExportCommand(PersonType.STUDENT, studentsFile).execute(typicalModel);
+
+        Model model = new ModelManager();
+        CommandResult result = new ImportCommand(PersonType.TUTOR, tutorsFile).execute(model);
+        new ImportCommand(PersonType.STUDENT, studentsFile).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, getTypicalTutors().size(), "tutor", tutorsFile),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalTutors(), model.getFilteredTutorList());
+        assertEquals(getTypicalStudents(), model.getFilteredStudentList());
+    }
+
+    @Test
+    public void execute_fieldsNeedingQuotes_roundTrip() throws Exception {
+        Tutor tutor = new TutorBuilder().withName("Alice Pauline").withRemark("Prefers \"Bishan\", then Toa Payoh")
+                .build();
+        Model exportModel = new ModelManager();
+        exportModel.addTutor(tutor);
+        Path file = testFolder.resolve("tutors.csv");
+        new ExportCommand(PersonType.TUTOR, file).execute(exportModel);
+
+        Model model = new ModelManager();
+        new ImportCommand(PersonType.TUTOR, file).execute(model);
+        assertEquals(List.of(tutor), model.getFilteredTutorList());
+    }
+
+    @Test
+    public void execute_columnsInAnyOrderWithoutRemark_success() throws Exception {
+        Path file = write("tags,NAME,Phone,Qualification,Gender\n"
+                + "PM,Alice Pauline,94351253,0,F\n"
+                + "\n"
+                + "SC SM,Benson Meier,98765432,1,M\n");
+        Model model = new ModelManager();
+        new ImportCommand(PersonType.TUTOR, file).execute(model);
+
+        Tutor bensonWithoutRemark = new TutorBuilder(BENSON).withRemark("").build();
+        assertEquals(List.of(ALICE, bensonWithoutRemark), model.getFilteredTutorList());
+    }
+
+    @Test
+    public void execute_byteOrderMarkBeforeHeader_success() throws Exception {
+        Path file = write("\uFEFF" + TUTOR_HEADER + "Alice Pauline,94351253,F,0,,PM\n");
+        Model model = new ModelManager();
+        new ImportCommand(PersonType.TUTOR, file).execute(model);
+
+        assertEquals(List.of(new TutorBuilder(ALICE).withRemark("").build()), model.getFilteredTutorList());
+    }
+
+    @Test
+    public void execute_takenPhones_rowsSkipped() throws Exception {
+        Path file = write(TUTOR_HEADER
+                + "Alice Pauline,94351253,F,0,,PM\n"
+                + "Someone Else,11111111,M,1,,PM\n"
+                + "Another Person,11111111,M,1,,PM\n");
+        Model model = new ModelManager(getTypicalCliTutors(), new UserPrefs());
+        CommandResult result = new ImportCommand(PersonType.TUTOR, file).execute(model);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_SUCCESS, 1, "tutor", file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 2), result.getFeedbackToUser());
+        assertEquals(getTypicalTutors().size() + 1, model.getFilteredTutorList().size());
+        assertEquals(new Name("Someone Else"), model.getFilteredTutorList().get(getTypicalTutors().size()).getName());
+    }
+
+    @Test
+    public void execute_invalidRows_nothingImported() throws Exception {
+        Path file = write(TUTOR_HEADER
+                + "Someone Else,11111111,M,1,,PM\n"
+                + "Bad Phone,phone,M,1,,PM\n"
+                + "Bad Gender,22222222,X,1,,PM\n");
+        Model model = new ModelManager(getTypicalCliTutors(), new UserPrefs());
+
+        List<Tutor> tutors = new ArrayList<>(model.getFilteredTutorList());
+        assertThrows(CommandException.class, () ->
+                new ImportCommand(PersonType.TUTOR, file).execute(model));
+        assertEquals(tutors, model.getFilteredTutorList());
+    }
+
+    @Test
+    public void execute_invalidRows_firstRowsReported() throws Exception {
+        StringBuilder content = new StringBuilder(TUTOR_HEADER);
+        for (int i = 0; i < ImportCommand.MAX_REPORTED_INVALID_ROWS + 2; i++) {
+            content.append("Bad Phone,phone,M,1,,PM\n");
+        }
+        Path file = write(content.toString());
+        Model model = new ModelManager();
+
+        try {
+            new ImportCommand(PersonType.TUTOR, file).execute(model);
+            throw new AssertionError("Import of invalid rows should fail.");
+        } catch (CommandException ce) {
+            String message = ce.getMessage();
+            assertTrue(message.startsWith(String.format(ImportCommand.MESSAGE_INVALID_ROWS,
+                    ImportCommand.MAX_REPORTED_INVALID_ROWS + 2)));
+            assertTrue(message.contains("\nRow 2: "));
+            assertTrue(message.contains("\nRow " + (ImportCommand.MAX_REPORTED_INVALID_ROWS + 1) + ": "));
+            assertFalse(message.contains("\nRow " + (ImportCommand.MAX_REPORTED_INVALID_ROWS + 2) + ": "));
+        }
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws Exception {
+        Path file = write("Name,Phone,Gender,Tags\nAlice Pauline,94351253,F,PM\n");
+        assertCommandFailure(new ImportCommand(PersonType.TUTOR, file), new ModelManager(),
+                String.format(PersonCsvFormat.MESSAGE_MISSING_COLUMN, PersonCsvFormat.COLUMN_QUALIFICATION));
+    }
+
+    @Test
+    public void execute_unknownColumn_throwsCommandException() throws Exception {
+        Path file = write("Name,Phone,Gender,Qualification,Tags\n");
+        assertCommandFailure(new ImportCommand(PersonType.STUDENT, file), new ModelManager(),
+                String.format(PersonCsvFormat.MESSAGE_UNKNOWN_COLUMN, PersonCsvFormat.COLUMN_QUALIFICATION,
+                        String.join(", ", PersonCsvFormat.getColumns(PersonType.STUDENT))));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws Exception {
+        assertCommandFailure(new ImportCommand(PersonType.TUTOR, write("")), new ModelManager(),
+                ImportCommand.MESSAGE_EMPTY_FILE);
+    }
+
+    @Test
+    public void equals() {
+        Path file = testFolder.resolve("tutors.csv");
+        ImportCommand importTutors = new ImportCommand(PersonType.TUTOR, file);
+
+        assertTrue(importTutors.equals(importTutors));
+        assertTrue(importTutors.equals(new ImportCommand(PersonType.TUTOR, file)));
+        assertFalse(importTutors.equals(null));
+        assertFalse(importTutors.equals(new ExportCommand(PersonType.TUTOR, file)));
+        assertFalse(importTutors.equals(new ImportCommand(PersonType.STUDENT, file)));
+        assertFalse(importTutors.equals(new ImportCommand(PersonType.TUTOR, testFolder.resolve("other.csv"))));
+    }
+
+    private Path write(String content) throws Exception {
+        Path file = testFolder.resolve("import.csv");
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_PERSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalCliTutors;
 
 import java.util.ArrayList;
@@ -20,12 +22,14 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.parser.PersonType;
+import seedu.address.model.CliTutors;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.TagsContainTagPredicate;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
 
 public class MatchCommandTest {
     private final Model model = new ModelManager(getTypicalCliTutors(), new UserPrefs());
@@ -129,6 +133,23 @@ public class MatchCommandTest {
                 PersonType.STUDENT));
     }
 
+    @Test
+    public void execute_moreThanOnePageMatched_reportsShownCount() throws Exception {
+        int matchedTutorCount = CliTutors.MATCHED_TUTOR_PAGE_SIZE + 1;
+        CliTutors cliTutors = new CliTutors();
+        cliTutors.addStudent(DANIEL);
+        for (int i = 0; i < matchedTutorCount; i++) {
+            cliTutors.addTutor(new TutorBuilder().withPhone(String.format("9%07d", i)).withTags("PM").build());
+        }
+        Model manyTutorsModel = new ModelManager(cliTutors, new UserPrefs());
+
+        CommandResult result = new MatchCommand(INDEX_FIRST_PERSON).execute(manyTutorsModel);
+
+        assertEquals(String.format(MatchCommand.MESSAGE_MATCHED_SUCCESS, DANIEL.getName()) + "\n"
+                + String.format(MatchCommand.MESSAGE_SHOWING_MATCHED_TUTORS, CliTutors.MATCHED_TUTOR_PAGE_SIZE,
+                matchedTutorCount), result.getFeedbackToUser());
+    }
+
     @Test
     public void equals() {
         final MatchCommand standardCommand = new MatchCommand(INDEX_FIRST_PERSON);
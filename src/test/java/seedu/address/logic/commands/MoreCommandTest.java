@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.CliTutors;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.TagsContainTagPredicate;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
+
+public class MoreCommandTest {
+    private static final int MATCHED_TUTOR_COUNT = CliTutors.MATCHED_TUTOR_PAGE_SIZE + 5;
+
+    private final Model model = new ModelManager(new CliTutors(), new UserPrefs());
+
+    @Test
+    public void execute_moreMatchedTutors_showsNextPage() throws Exception {
+        matchManyTutors();
+
+        CommandResult result = new MoreCommand().execute(model);
+
+        assertEquals(String.format(MoreCommand.MESSAGE_SUCCESS, MATCHED_TUTOR_COUNT, MATCHED_TUTOR_COUNT),
+                result.getFeedbackToUser());
+        assertEquals(MATCHED_TUTOR_COUNT, model.getMatchedTutorList().size());
+    }
+
+    @Test
+    public void execute_allMatchedTutorsShown_throwsCommandException() throws Exception {
+        matchManyTutors();
+        new MoreCommand().execute(model);
+
+        assertThrows(CommandException.class, String.format(MoreCommand.MESSAGE_NO_MORE_MATCHED_TUTORS,
+                MATCHED_TUTOR_COUNT), () -> new MoreCommand().execute(model));
+        assertEquals(MATCHED_TUTOR_COUNT, model.getMatchedTutorList().size());
+    }
+
+    private void matchManyTutors() {
+        for (int i = 0; i < MATCHED_TUTOR_COUNT; i++) {
+            model.addTutor(new TutorBuilder(ALICE).withPhone(String.format("9%07d", i)).build());
+        }
+        List<Tag> subjects = new ArrayList<>(DANIEL.getTags());
+        model.updateMatchedTutor(new TagsContainTagPredicate(subjects), subjects, DANIEL);
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import org.junit.jupiter.api.Test;
 
@@ -136,6 +137,42 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_tagPrefix_lastTagArgumentSplitOnSpaces() {
+        String argsString = "SomePreambleString t/PM PS -t dashT-Value t/SM  TP";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, PREFIX_TAG, dashT);
+        assertPreamblePresent(argMultimap, "SomePreambleString");
+        assertArgumentPresent(argMultimap, dashT, "dashT-Value");
+        // only the tags of the last t/ are kept, and consecutive spaces give empty tags
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "SM", "", "TP");
+
+        // empty tag argument
+        argMultimap = ArgumentTokenizer.tokenize(" t/ ", PREFIX_TAG);
+        assertArgumentPresent(argMultimap, PREFIX_TAG, "");
+    }
+
+    @Test
+    public void tokenize_overlappingPrefixes_longestPrefixTaken() {
+        Prefix pSlashP = new Prefix("p/p");
+        String argsString = "SomePreambleString p/p value p/ other value";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, pSlash, pSlashP);
+        assertArgumentPresent(argMultimap, pSlashP, "value");
+        assertArgumentPresent(argMultimap, pSlash, "other value");
+    }
+
+    @Test
+    public void tokenize_manyArguments_allValuesKept() {
+        StringBuilder argsString = new StringBuilder("SomePreambleString");
+        String[] expectedValues = new String[20];
+        for (int i = 0; i < expectedValues.length; i++) {
+            expectedValues[i] = "value " + i;
+            argsString.append(" p/").append(expectedValues[i]).append(" -t");
+        }
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString.toString(), pSlash, dashT);
+        assertArgumentPresent(argMultimap, pSlash, expectedValues);
+        assertEquals(expectedValues.length, argMultimap.getAllValues(dashT).size());
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -11,6 +11,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -23,11 +24,14 @@ import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditStudentDescriptor;
 import seedu.address.logic.commands.EditCommand.EditTutorDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.MatchCommand;
+import seedu.address.logic.commands.MoreCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.ChainedPredicate;
 import seedu.address.model.person.Gender;
@@ -137,6 +141,11 @@ public class CliTutorsParserTest {
         assertEquals(new FindCommand(chainedPredicate, PersonType.TUTOR), command);
     }
 
+    @Test
+    public void parseCommand_more() throws Exception {
+        assertTrue(parser.parseCommand(MoreCommand.COMMAND_WORD) instanceof MoreCommand);
+    }
+
     @Test
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
@@ -149,6 +158,14 @@ public class CliTutorsParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + LETTER_DESC_STUDENT) instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_importAndExport() throws Exception {
+        assertEquals(new ImportCommand(PersonType.TUTOR, Paths.get("tutors.csv")),
+                parser.parseCommand(ImportCommand.COMMAND_WORD + LETTER_DESC_TUTOR + " tutors.csv"));
+        assertEquals(new ExportCommand(PersonType.STUDENT, Paths.get("students.csv")),
+                parser.parseCommand(ExportCommand.COMMAND_WORD + LETTER_DESC_STUDENT + " students.csv"));
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
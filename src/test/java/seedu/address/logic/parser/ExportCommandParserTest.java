@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_PREAMBLE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_STUDENT_LETTER;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TUTOR_LETTER;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ExportCommand;
+
+public class ExportCommandParserTest {
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsExportCommand() {
+        assertParseSuccess(parser, " " + VALID_TUTOR_LETTER + " data/tutors.csv",
+                new ExportCommand(PersonType.TUTOR, Paths.get("data/tutors.csv")));
+
+        // file path with spaces and surrounding whitespace
+        assertParseSuccess(parser, "  " + VALID_STUDENT_LETTER + "   my data/students.csv  ",
+                new ExportCommand(PersonType.STUDENT, Paths.get("my data/students.csv")));
+    }
+
+    @Test
+    public void parse_missingFilePath_throwsParseException() {
+        assertParseFailure(parser, " " + VALID_TUTOR_LETTER + "  ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPersonType_throwsParseException() {
+        assertParseFailure(parser, " " + INVALID_PREAMBLE + " data/export.csv",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidFilePath_throwsParseException() {
+        assertParseFailure(parser, " " + VALID_TUTOR_LETTER + " a\0b", ParserUtil.MESSAGE_INVALID_FILE_PATH);
+    }
+}
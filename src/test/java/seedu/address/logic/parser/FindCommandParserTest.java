@@ -32,6 +32,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.ChainedPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.GenderContainsGenderPredicate;
 import seedu.address.model.person.Name;
@@ -39,6 +40,7 @@ import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Qualification;
 import seedu.address.model.person.QualificationContainsQualificationPredicate;
+import seedu.address.model.person.QueryPredicate;
 import seedu.address.model.person.TagsContainTagPredicate;
 import seedu.address.model.tag.Tag;
 
@@ -59,7 +61,7 @@ public class FindCommandParserTest {
     private final Qualification validQualification = new Qualification("0");
 
     // Valid Tags
-    private final Tag tag = new Tag("PM");
+    private final Tag tag = Tag.of("PM");
 
     // Predicates
     private final Predicate<Person> namePredicateDaniel = new NameContainsKeywordsPredicate(
@@ -144,6 +146,60 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, VALID_STUDENT_LETTER + TAG_DESC_PM, expectedStudentFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyName_success() {
+        Name charlote = new Name("charlote");
+        ChainedPredicate chainedPredicate = new ChainedPredicate.Builder().setName(charlote).setNameFuzzy(true)
+                .addClause(new FuzzyNamePredicate("charlote")).build();
+        FindCommand expectedFindCommand = new FindCommand(chainedPredicate, PersonType.TUTOR);
+
+        assertParseSuccess(parser, VALID_TUTOR_LETTER + " n/charlote~", expectedFindCommand);
+        assertParseSuccess(parser, VALID_TUTOR_LETTER + " n/charlote~  ", expectedFindCommand);
+
+        // marker only
+        assertParseFailure(parser, VALID_TUTOR_LETTER + " n/~", Name.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_query_success() {
+        QueryPredicate query = QueryPredicate.and(List.of(
+                QueryPredicate.or(List.of(
+                        QueryPredicate.term(new TagsContainTagPredicate(List.of(Tag.of("SM")))),
+                        QueryPredicate.term(new TagsContainTagPredicate(List.of(Tag.of("SP")))))),
+                QueryPredicate.not(QueryPredicate.term(qualificationPredicate)),
+                QueryPredicate.term(new GenderContainsGenderPredicate(List.of(female)))));
+
+        assertParseSuccess(parser, VALID_TUTOR_LETTER + " (SM or SP) and not q/0 and g/F",
+                new FindCommand(query, PersonType.TUTOR));
+        assertParseSuccess(parser, VALID_TUTOR_LETTER + "  (t/SM OR sp)  NOT q/0 g/F",
+                new FindCommand(query, PersonType.TUTOR));
+
+        // quoted name
+        assertParseSuccess(parser, VALID_STUDENT_LETTER + " n/\"Alice Pauline\" or not g/M",
+                new FindCommand(QueryPredicate.or(List.of(
+                        QueryPredicate.term(new NameContainsKeywordsPredicate(List.of("Alice Pauline"))),
+                        QueryPredicate.not(QueryPredicate.term(new GenderContainsGenderPredicate(List.of(male)))))),
+                        PersonType.STUDENT));
+    }
+
+    @Test
+    public void parse_nameWithQueryKeyword_plainFind() {
+        Name name = new Name("Tom and Jerry");
+        ChainedPredicate chainedPredicate = new ChainedPredicate.Builder().setName(name)
+                .addClause(new NameContainsKeywordsPredicate(List.of(name.fullName))).build();
+        assertParseSuccess(parser, VALID_TUTOR_LETTER + " n/Tom and Jerry",
+                new FindCommand(chainedPredicate, PersonType.TUTOR));
+    }
+
+    @Test
+    public void parse_invalidQuery_failure() {
+        assertParseFailure(parser, VALID_TUTOR_LETTER + " (SM or SP", FindQueryParser.MESSAGE_UNCLOSED_PARENTHESIS);
+        assertParseFailure(parser, VALID_TUTOR_LETTER + " SM or XX",
+                String.format(FindQueryParser.MESSAGE_UNKNOWN_TERM, "XX"));
+        assertParseFailure(parser, VALID_STUDENT_LETTER + " PM and not q/0",
+                MESSAGE_INVALID_INPUT_STUDENT_WITH_QUALIFICATION);
+    }
+
     @Test
     public void parse_someTutorFieldsSpecified_success() {
         // Setup
@@ -0,0 +1,84 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_INPUT_STUDENT_WITH_QUALIFICATION;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.FuzzyNamePredicate;
+import seedu.address.model.person.Gender;
+import seedu.address.model.person.GenderContainsGenderPredicate;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.QueryPredicate;
+import seedu.address.model.person.TagsContainTagPredicate;
+import seedu.address.model.tag.Tag;
+
+public class FindQueryParserTest {
+    private static final QueryPredicate PM = tag("PM");
+    private static final QueryPredicate SM = tag("SM");
+    private static final QueryPredicate SP = tag("SP");
+    private static final QueryPredicate FEMALE =
+            QueryPredicate.term(new GenderContainsGenderPredicate(List.of(new Gender("F"))));
+
+    private final FindQueryParser parser = new FindQueryParser(PersonType.TUTOR);
+
+    @Test
+    public void isQuery() {
+        assertTrue(FindQueryParser.isQuery("SM or SP"));
+        assertTrue(FindQueryParser.isQuery("NOT g/F"));
+        assertTrue(FindQueryParser.isQuery("(SM)"));
+        assertTrue(FindQueryParser.isQuery("n/\"Alice Pauline\""));
+
+        assertFalse(FindQueryParser.isQuery("n/Alice g/F t/SM"));
+        assertFalse(FindQueryParser.isQuery("n/Andy Norton"));
+    }
+
+    @Test
+    public void parse_precedence_notThenAndThenOr() throws Exception {
+        assertEquals(QueryPredicate.or(List.of(PM, QueryPredicate.and(List.of(SM, SP)))),
+                parser.parse("PM or SM and SP"));
+        assertEquals(QueryPredicate.and(List.of(QueryPredicate.not(PM), SM)), parser.parse("not PM SM"));
+        assertEquals(QueryPredicate.and(List.of(QueryPredicate.or(List.of(PM, SM)), SP)),
+                parser.parse("(PM or SM)SP"));
+        assertEquals(QueryPredicate.not(QueryPredicate.not(FEMALE)), parser.parse("not not g/F"));
+    }
+
+    @Test
+    public void parse_terms_predicatesOfPrefixes() throws Exception {
+        assertEquals(SM, parser.parse("t/sm"));
+        assertEquals(QueryPredicate.term(new NameContainsKeywordsPredicate(List.of("Alice Pauline"))),
+                parser.parse("n/\"Alice Pauline\""));
+        assertEquals(QueryPredicate.term(new NameContainsKeywordsPredicate(List.of("or"))),
+                parser.parse("n/\"or\""));
+        assertEquals(QueryPredicate.term(new FuzzyNamePredicate("charlote")), parser.parse("n/charlote~"));
+    }
+
+    @Test
+    public void parse_invalidQuery_throwsParseException() {
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNCLOSED_PARENTHESIS, () -> parser.parse("(PM"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNCLOSED_QUOTE, () -> parser.parse("n/\"Alice"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNEXPECTED_END, () -> parser.parse("PM and"));
+        assertThrows(ParseException.class, FindQueryParser.MESSAGE_UNEXPECTED_END, () -> parser.parse(" "));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_UNEXPECTED_TOKEN, ")"), () ->
+                parser.parse("PM)"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_UNEXPECTED_TOKEN, "or"), () ->
+                parser.parse("or PM"));
+        assertThrows(ParseException.class, String.format(FindQueryParser.MESSAGE_UNKNOWN_TERM, "\"PM\""), () ->
+                parser.parse("\"PM\""));
+        assertThrows(ParseException.class, Name.MESSAGE_CONSTRAINTS, () -> parser.parse("n/~"));
+        assertThrows(ParseException.class, Tag.MESSAGE_INVALID_TAG, () -> parser.parse("t/XX"));
+        assertThrows(ParseException.class, MESSAGE_INVALID_INPUT_STUDENT_WITH_QUALIFICATION, () ->
+                new FindQueryParser(PersonType.STUDENT).parse("q/0"));
+    }
+
+    private static QueryPredicate tag(String tag) {
+        return QueryPredicate.term(new TagsContainTagPredicate(List.of(Tag.of(tag))));
+    }
+}
@@ -11,6 +11,7 @@ import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.DON_E;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
 import static seedu.address.testutil.TypicalPersons.IDA;
@@ -25,6 +26,7 @@ import java.util.List;
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Student;
@@ -188,7 +190,9 @@ public class CliTutorsTest {
 
     @Test
     public void getMatchedTutorList_modifyList_success() {
+        cliTutors.matchTutors(DANIEL.getTags());
         cliTutors.addTutor(ALICE);
+        cliTutors.addTutor(BENSON);
         UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
         expectedUniqueTutorList.add(ALICE);
         assertEquals(expectedUniqueTutorList.asUnmodifiableObservableList(), cliTutors.getMatchedTutorList());
@@ -200,39 +204,204 @@ public class CliTutorsTest {
         cliTutors.addTutor(BENSON);
 
         List<Tag> studentTagList = new ArrayList<>(ELLE.getTags());
-        cliTutors.sortMatchedTutorList(studentTagList);
+        cliTutors.matchTutors(studentTagList);
 
         UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
         expectedUniqueTutorList.add(BENSON);
-        expectedUniqueTutorList.add(ALICE);
         assertEquals(expectedUniqueTutorList.asUnmodifiableObservableList(), cliTutors.getMatchedTutorList());
     }
 
     @Test
-    public void sortMatchedTutorList_nullInput_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> cliTutors.sortMatchedTutorList(null));
+    public void matchTutors_nullInput_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> cliTutors.matchTutors(null));
     }
 
     @Test
-    public void sortMatchedTutorList_validInputModifyTutorList_success() {
+    public void matchTutors_tutorsTeachingSubjects_keepsTutorListOrder() {
         TypicalPersons.getTypicalTutors().forEach(cliTutors::addTutor);
-        List<Tag> studentTagList = new ArrayList<>(ELLE.getTags());
-        UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
-        expectedUniqueTutorList.add(BENSON);
-        expectedUniqueTutorList.add(ALICE);
-        expectedUniqueTutorList.add(CARL);
-        cliTutors.sortMatchedTutorList(studentTagList);
-        assertEquals(expectedUniqueTutorList.asUnmodifiableObservableList(), cliTutors.getMatchedTutorList());
+        cliTutors.addTutor(DON_E);
+
+        cliTutors.matchTutors(Arrays.asList(Tag.of("SC"), Tag.of("PM")));
+
+        assertEquals(Arrays.asList(ALICE, BENSON, DON_E), cliTutors.getMatchedTutorList());
+    }
+
+    @Test
+    public void setTutor_whileMatching_updatesMatchedTutorList() {
+        TypicalPersons.getTypicalTutors().forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(DANIEL.getTags());
+
+        // edited tutor still teaches a matched subject
+        Tutor editedAlice = new TutorBuilder(ALICE).withGender(VALID_GENDER_BOB).build();
+        cliTutors.setTutor(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(editedAlice), cliTutors.getMatchedTutorList());
+
+        // edited tutor no longer teaches a matched subject
+        Tutor editedAliceWithoutSubject = new TutorBuilder(editedAlice).withTags("TP").build();
+        cliTutors.setTutor(editedAlice, editedAliceWithoutSubject);
+        assertEquals(Collections.emptyList(), cliTutors.getMatchedTutorList());
+
+        // edited tutor now teaches a matched subject
+        Tutor editedCarl = new TutorBuilder(CARL).withTags("PE").build();
+        cliTutors.setTutor(CARL, editedCarl);
+        assertEquals(Collections.singletonList(editedCarl), cliTutors.getMatchedTutorList());
+    }
+
+    @Test
+    public void removeTutor_whileMatching_removesFromMatchedTutorList() {
+        TypicalPersons.getTypicalTutors().forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(DANIEL.getTags());
+        cliTutors.removeTutor(ALICE);
+        assertEquals(Collections.emptyList(), cliTutors.getMatchedTutorList());
+    }
+
+    @Test
+    public void clearMatchedTutors_afterMatching_emptiesMatchedTutorList() {
+        TypicalPersons.getTypicalTutors().forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(DANIEL.getTags());
+        cliTutors.clearMatchedTutors();
+        cliTutors.addTutor(DON_E);
+        assertEquals(Collections.emptyList(), cliTutors.getMatchedTutorList());
+    }
+
+    @Test
+    public void matchTutors_tutorsTeachingMoreSubjects_rankedFirst() {
+        TypicalPersons.getTypicalTutors().forEach(cliTutors::addTutor);
+        cliTutors.addTutor(DON_E);
+
+        // BENSON teaches SC and SM, while ALICE and DON_E tie on one subject each and keep their tutor list order
+        cliTutors.matchTutors(Arrays.asList(Tag.of("SC"), Tag.of("SM"), Tag.of("PM")));
+
+        assertEquals(Arrays.asList(BENSON, ALICE, DON_E), cliTutors.getMatchedTutorList());
     }
 
     @Test
-    public void sortMatchedTutorList_validInputNoModification_success() {
+    public void matchTutors_noTutorTeachesSubjects_emptyMatchedTutorList() {
         TypicalPersons.getTypicalTutors().forEach(cliTutors::addTutor);
         // Student chosen has no matching tags with any tutor
-        List<Tag> studentTagList = new ArrayList<>(GEORGE.getTags());
-        ObservableList<Tutor> expectedUniqueTutorList = cliTutors.getMatchedTutorList();
-        cliTutors.sortMatchedTutorList(studentTagList);
-        assertEquals(expectedUniqueTutorList, cliTutors.getMatchedTutorList());
+        cliTutors.matchTutors(GEORGE.getTags());
+        assertEquals(Collections.emptyList(), cliTutors.getMatchedTutorList());
+        assertFalse(cliTutors.hasMoreMatchedTutors());
+    }
+
+    @Test
+    public void matchTutors_moreThanOnePage_showsBestPageFirst() {
+        List<Tutor> mathTutors = generateTutors(CliTutors.MATCHED_TUTOR_PAGE_SIZE, "PM");
+        List<Tutor> mathAndScienceTutors = generateTutors(5, "PM", "SC");
+        mathTutors.forEach(cliTutors::addTutor);
+        mathAndScienceTutors.forEach(cliTutors::addTutor);
+
+        cliTutors.matchTutors(Arrays.asList(Tag.of("PM"), Tag.of("SC")));
+
+        List<Tutor> expectedFirstPage = new ArrayList<>(mathAndScienceTutors);
+        expectedFirstPage.addAll(mathTutors.subList(0, CliTutors.MATCHED_TUTOR_PAGE_SIZE - 5));
+        assertEquals(expectedFirstPage, cliTutors.getMatchedTutorList());
+        assertTrue(cliTutors.hasMoreMatchedTutors());
+
+        cliTutors.showMoreMatchedTutors();
+        List<Tutor> expectedMatches = new ArrayList<>(expectedFirstPage);
+        expectedMatches.addAll(mathTutors.subList(CliTutors.MATCHED_TUTOR_PAGE_SIZE - 5, mathTutors.size()));
+        assertEquals(expectedMatches, cliTutors.getMatchedTutorList());
+        assertFalse(cliTutors.hasMoreMatchedTutors());
+    }
+
+    @Test
+    public void addTutor_whileMatchedTutorsUnshown_ranksWithUnshownTutors() {
+        generateTutors(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 1, "PM").forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(DANIEL.getTags());
+        cliTutors.addTutor(ALICE);
+        assertFalse(cliTutors.getMatchedTutorList().contains(ALICE));
+
+        cliTutors.showAllMatchedTutors();
+        assertTrue(cliTutors.getMatchedTutorList().contains(ALICE));
+        assertEquals(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 2, cliTutors.getMatchedTutorList().size());
+    }
+
+    @Test
+    public void addTutor_ranksBeforeShownTutors_shownAtRank() {
+        generateTutors(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 1, "PM").forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(Arrays.asList(Tag.of("PM"), Tag.of("SC")));
+        Tutor mathAndScienceTutor = generateTutors(1, "PM", "SC").get(0);
+        cliTutors.addTutor(mathAndScienceTutor);
+
+        assertEquals(mathAndScienceTutor, cliTutors.getMatchedTutorList().get(0));
+        assertEquals(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 1, cliTutors.getMatchedTutorList().size());
+        assertEquals(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 2, cliTutors.getMatchedTutorCount());
+    }
+
+    @Test
+    public void setTutor_shownMatchedTutorRankChanges_movedToRank() {
+        List<Tutor> mathTutors = generateTutors(CliTutors.MATCHED_TUTOR_PAGE_SIZE, "PM");
+        List<Tutor> mathAndScienceTutors = generateTutors(3, "PM", "SC");
+        mathTutors.forEach(cliTutors::addTutor);
+        mathAndScienceTutors.forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(Arrays.asList(Tag.of("PM"), Tag.of("SC")));
+
+        // a math tutor who now teaches science too ranks first, being earlier in the tutor list
+        Tutor risenTutor = new TutorBuilder(mathTutors.get(5)).withTags("PM", "SC").build();
+        cliTutors.setTutor(mathTutors.get(5), risenTutor);
+        // a math and science tutor who no longer teaches science ranks after every math tutor, so it is unshown
+        Tutor fallenTutor = new TutorBuilder(mathAndScienceTutors.get(0)).withTags("PM").build();
+        cliTutors.setTutor(mathAndScienceTutors.get(0), fallenTutor);
+        // a tutor whose rank is unchanged is replaced in place
+        Tutor renamedTutor = new TutorBuilder(mathAndScienceTutors.get(1)).withName("Renamed").build();
+        cliTutors.setTutor(mathAndScienceTutors.get(1), renamedTutor);
+
+        List<Tutor> expectedShown = new ArrayList<>(Arrays.asList(risenTutor, renamedTutor,
+                mathAndScienceTutors.get(2)));
+        expectedShown.addAll(mathTutors.subList(0, 5));
+        expectedShown.addAll(mathTutors.subList(6, CliTutors.MATCHED_TUTOR_PAGE_SIZE - 2));
+        assertEquals(expectedShown, cliTutors.getMatchedTutorList());
+
+        cliTutors.showAllMatchedTutors();
+        assertEquals(fallenTutor, cliTutors.getMatchedTutorList().get(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 2));
+    }
+
+    @Test
+    public void removeTutor_unshownMatchedTutor_removesFromMatches() {
+        List<Tutor> mathTutors = generateTutors(CliTutors.MATCHED_TUTOR_PAGE_SIZE + 1, "PM");
+        mathTutors.forEach(cliTutors::addTutor);
+        cliTutors.matchTutors(DANIEL.getTags());
+        cliTutors.removeTutor(mathTutors.get(CliTutors.MATCHED_TUTOR_PAGE_SIZE));
+        assertFalse(cliTutors.hasMoreMatchedTutors());
+    }
+
+    @Test
+    public void getUnsavedChanges_personLevelOperations_recordedInOrder() {
+        Tutor editedAlice = new TutorBuilder(ALICE).withGender(VALID_GENDER_BOB).build();
+        cliTutors.addTutor(ALICE);
+        cliTutors.addStudent(DANIEL);
+        cliTutors.setTutor(ALICE, editedAlice);
+        cliTutors.removeStudent(DANIEL);
+
+        assertEquals(Arrays.asList(CliTutorsChange.add(ALICE), CliTutorsChange.add(DANIEL),
+                CliTutorsChange.edit(ALICE, editedAlice), CliTutorsChange.delete(DANIEL)),
+                cliTutors.getUnsavedChanges());
+    }
+
+    @Test
+    public void getUnsavedChanges_copyAndMarkSaved_noUnsavedChanges() {
+        assertEquals(Collections.emptyList(), new CliTutors(getTypicalCliTutors()).getUnsavedChanges());
+
+        cliTutors.addTutor(ALICE);
+        cliTutors.markSaved();
+        assertEquals(Collections.emptyList(), cliTutors.getUnsavedChanges());
+    }
+
+    @Test
+    public void getUnsavedChanges_listReplaced_recordedAsReset() {
+        cliTutors.addTutor(ALICE);
+        cliTutors.setStudents(Collections.singletonList(DANIEL));
+        cliTutors.addTutor(BENSON);
+        assertEquals(Collections.singletonList(CliTutorsChange.reset()), cliTutors.getUnsavedChanges());
+    }
+
+    @Test
+    public void getUnsavedChanges_tooManyChanges_recordedAsReset() {
+        for (int i = 0; i <= CliTutors.MAX_UNSAVED_CHANGES; i++) {
+            cliTutors.addTutor(new TutorBuilder(ALICE).withPhone(String.format("%08d", i)).build());
+        }
+        assertEquals(Collections.singletonList(CliTutorsChange.reset()), cliTutors.getUnsavedChanges());
     }
 
     @Test
@@ -246,6 +415,73 @@ public class CliTutorsTest {
         assertFalse(cliTutors.hasPersonWithSamePhone(phone));
     }
 
+    @Test
+    public void hasPersonWithSamePhone_afterResetTutorData_keepsStudentPhones() {
+        cliTutors.addTutor(ALICE);
+        cliTutors.addStudent(DANIEL);
+
+        cliTutors.resetTutorData(new CliTutors());
+
+        assertFalse(cliTutors.hasPersonWithSamePhone(ALICE.getPhone()));
+        assertTrue(cliTutors.hasPersonWithSamePhone(DANIEL.getPhone()));
+    }
+
+    @Test
+    public void hasPersonWithSamePhone_afterResetStudentData_keepsTutorPhones() {
+        cliTutors.addTutor(ALICE);
+        cliTutors.addStudent(DANIEL);
+
+        cliTutors.resetStudentData(new CliTutors());
+
+        assertTrue(cliTutors.hasPersonWithSamePhone(ALICE.getPhone()));
+        assertFalse(cliTutors.hasPersonWithSamePhone(DANIEL.getPhone()));
+    }
+
+    @Test
+    public void hasPersonWithSamePhone_afterEditingPhone_tracksNewPhone() {
+        cliTutors.addTutor(ALICE);
+        Tutor editedAlice = new TutorBuilder(ALICE).withPhone("94351259").build();
+
+        cliTutors.setTutor(ALICE, editedAlice);
+
+        assertFalse(cliTutors.hasPersonWithSamePhone(ALICE.getPhone()));
+        assertTrue(cliTutors.hasPersonWithSamePhone(editedAlice.getPhone()));
+    }
+
+    @Test
+    public void batchUpdate_manyChanges_eachListChangedOnce() {
+        cliTutors.matchTutors(ALICE.getTags());
+        List<String> changedLists = new ArrayList<>();
+        cliTutors.getTutorList().addListener((ListChangeListener<Tutor>) change -> changedLists.add("tutors"));
+        cliTutors.getStudentList().addListener((ListChangeListener<Student>) change -> changedLists.add("students"));
+        cliTutors.getMatchedTutorList().addListener((ListChangeListener<Tutor>) change ->
+                changedLists.add("matched tutors"));
+
+        cliTutors.batchUpdate(() -> {
+            cliTutors.addTutor(ALICE);
+            cliTutors.addTutor(BENSON);
+            cliTutors.addStudent(DANIEL);
+            cliTutors.addStudent(ELLE);
+            assertTrue(cliTutors.hasTutor(ALICE));
+            assertEquals(Collections.emptyList(), cliTutors.getTutorList());
+        });
+
+        assertEquals(Arrays.asList("matched tutors", "students", "tutors"), changedLists);
+        assertEquals(Arrays.asList(ALICE, BENSON), cliTutors.getTutorList());
+        assertEquals(Arrays.asList(DANIEL, ELLE), cliTutors.getStudentList());
+        assertEquals(Collections.singletonList(ALICE), cliTutors.getMatchedTutorList());
+        assertEquals(4, cliTutors.getUnsavedChanges().size());
+    }
+
+    @Test
+    public void batchUpdate_changesThrow_changesMadeBeforeShown() {
+        assertThrows(DuplicatePersonException.class, () -> cliTutors.batchUpdate(() -> {
+            cliTutors.addTutor(ALICE);
+            cliTutors.addTutor(ALICE);
+        }));
+        assertEquals(Collections.singletonList(ALICE), cliTutors.getTutorList());
+    }
+
     @Test
     public void equals() {
         cliTutors.addTutor(ALICE);
@@ -297,4 +533,16 @@ public class CliTutorsTest {
             return students;
         }
     }
+
+    /**
+     * Returns {@code count} tutors with distinct phone numbers who teach {@code subjects}.
+     */
+    private static List<Tutor> generateTutors(int count, String... subjects) {
+        List<Tutor> tutors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tutors.add(new TutorBuilder(ALICE).withPhone(String.format("%04d%04d", subjects.length, i))
+                    .withTags(subjects).build());
+        }
+        return tutors;
+    }
 }
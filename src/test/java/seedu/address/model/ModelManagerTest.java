@@ -11,6 +11,7 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ENZIO;
 import static seedu.address.testutil.TypicalPersons.GEORGE;
@@ -20,15 +21,21 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.ChainedPredicate;
+import seedu.address.model.person.FuzzyNamePredicate;
 import seedu.address.model.person.Gender;
 import seedu.address.model.person.GenderContainsGenderPredicate;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Qualification;
 import seedu.address.model.person.QualificationContainsQualificationPredicate;
@@ -37,6 +44,7 @@ import seedu.address.model.person.TagsContainTagPredicate;
 import seedu.address.model.person.Tutor;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.CliTutorsBuilder;
+import seedu.address.testutil.TutorBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class ModelManagerTest {
@@ -80,6 +88,26 @@ public class ModelManagerTest {
         assertEquals(guiSettings, modelManager.getGuiSettings());
     }
 
+    @Test
+    public void batchUpdate_nullChanges_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.batchUpdate(null));
+    }
+
+    @Test
+    public void batchUpdate_manyChanges_filteredListChangedOnce() {
+        modelManager.setCliTutors(new CliTutorsBuilder().withTutor(ALICE).withTutor(BENSON).build());
+        ArrayList<Integer> changeCounts = new ArrayList<>();
+        modelManager.getFilteredTutorList().addListener((ListChangeListener<Tutor>) change -> changeCounts.add(1));
+
+        modelManager.batchUpdate(() -> {
+            modelManager.deleteTutor(ALICE);
+            modelManager.deleteTutor(BENSON);
+        });
+
+        assertTrue(modelManager.getFilteredTutorList().isEmpty());
+        assertEquals(Arrays.asList(1), changeCounts);
+    }
+
     @Test
     public void setCliTutorsFilePath_nullPath_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setCliTutorsFilePath(null));
@@ -181,6 +209,82 @@ public class ModelManagerTest {
         assertEquals(expectedTutorList, modelManager.getFilteredTutorList());
     }
 
+    @Test
+    public void updateFilteredTutorList_nameFoundThenEdited_filterFollowsEdits() {
+        TypicalPersons.getTypicalTutors().forEach(tutor -> modelManager.addTutor(tutor));
+        modelManager.updateFilteredTutorList(new NameContainsKeywordsPredicate(List.of("meier")));
+        assertEquals(List.of(BENSON), modelManager.getFilteredTutorList());
+
+        Tutor renamedAlice = new TutorBuilder(ALICE).withName("Alice Meier").build();
+        modelManager.setTutor(ALICE, renamedAlice);
+        assertEquals(List.of(renamedAlice, BENSON), modelManager.getFilteredTutorList());
+
+        modelManager.deleteTutor(BENSON);
+        assertEquals(List.of(renamedAlice), modelManager.getFilteredTutorList());
+    }
+
+    @Test
+    public void updateFilteredTutorList_attributesThenChanged_filterFollowsChanges() {
+        TypicalPersons.getTypicalTutors().forEach(tutor -> modelManager.addTutor(tutor));
+        ChainedPredicate maleSecondaryTutors = new ChainedPredicate.Builder()
+                .addClause(new GenderContainsGenderPredicate(List.of(new Gender("M"))))
+                .addClause(new TagsContainTagPredicate(List.of(Tag.of("SM"), Tag.of("TL"))))
+                .build();
+        modelManager.updateFilteredTutorList(maleSecondaryTutors);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredTutorList());
+
+        // the row of a deleted tutor is left empty
+        modelManager.deleteTutor(ALICE);
+        assertEquals(List.of(BENSON, CARL), modelManager.getFilteredTutorList());
+
+        Tutor editedBenson = new TutorBuilder(BENSON).withGender("F").build();
+        modelManager.setTutor(BENSON, editedBenson);
+        assertEquals(List.of(CARL), modelManager.getFilteredTutorList());
+
+        Tutor maleAlice = new TutorBuilder(ALICE).withGender("M").withTags("SM").build();
+        modelManager.addTutor(maleAlice);
+        modelManager.updateFilteredTutorList(maleSecondaryTutors);
+        assertEquals(List.of(CARL, maleAlice), modelManager.getFilteredTutorList());
+    }
+
+    @Test
+    public void updateFilteredTutorList_equalFilter_tutorsNotTestedAgain() {
+        TypicalPersons.getTypicalTutors().forEach(tutor -> modelManager.addTutor(tutor));
+        List<Person> tested = new ArrayList<>();
+        Predicate<Person> male = person -> tested.add(person) && person.getGender().equals(new Gender("M"));
+        modelManager.updateFilteredTutorList(male);
+        tested.clear();
+
+        modelManager.updateFilteredTutorList(male);
+        assertEquals(List.of(), tested);
+
+        // the filter kept still follows changes
+        Tutor maleAlice = new TutorBuilder(ALICE).withGender("M").build();
+        modelManager.setTutor(ALICE, maleAlice);
+        modelManager.updateFilteredTutorList(male);
+        assertEquals(maleAlice, modelManager.getFilteredTutorList().get(0));
+    }
+
+    @Test
+    public void updateFilteredTutorList_fuzzyName_closestFirstAndFollowsEdits() {
+        Tutor charles = new TutorBuilder().withName("Charles Tan").withPhone("91111111").build();
+        Tutor charlotte = new TutorBuilder().withName("Charlotte Lim").withPhone("92222222").build();
+        modelManager.addTutor(charles);
+        modelManager.addTutor(ALICE);
+        modelManager.addTutor(charlotte);
+
+        modelManager.updateFilteredTutorList(new FuzzyNamePredicate("charlote"));
+        assertEquals(List.of(charlotte, charles), modelManager.getFilteredTutorList());
+
+        Tutor charlote = new TutorBuilder(ALICE).withName("Charlote").build();
+        modelManager.setTutor(ALICE, charlote);
+        assertEquals(List.of(charlote, charlotte, charles), modelManager.getFilteredTutorList());
+
+        // without a ranking, the order of the list is kept
+        modelManager.updateFilteredTutorList(PREDICATE_SHOW_ALL_TUTORS);
+        assertEquals(List.of(charles, charlote, charlotte), modelManager.getFilteredTutorList());
+    }
+
     @Test
     public void updateFilteredStudentList_modifyList_success() {
         ArrayList<String> ls = new ArrayList<>();
@@ -21,6 +21,12 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setCliTutorsFilePath(null));
     }
 
+    @Test
+    public void setCliTutorsFileFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setCliTutorsFileFormat(null));
+    }
+
     @Test
     public void equals() {
         UserPrefs userPrefs = new UserPrefs();
@@ -42,5 +48,10 @@ public class UserPrefsTest {
 
         // different GUISetting -> returns false
         assertFalse(userPrefs.equals(differentUserPrefs));
+
+        // different data file format -> returns false
+        UserPrefs binaryUserPrefs = new UserPrefs();
+        binaryUserPrefs.setCliTutorsFileFormat(DataFileFormat.BINARY);
+        assertFalse(userPrefs.equals(binaryUserPrefs));
     }
 }
@@ -0,0 +1,187 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
+
+public class AttributeIndexTest {
+    private static final Gender MALE = new Gender("M");
+    private static final Gender FEMALE = new Gender("F");
+    private static final String[] TAGS = {"PM", "SM", "SC", "TL", "TE"};
+
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL, DANIEL));
+    private final AttributeIndex attributeIndex = new AttributeIndex(persons);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new AttributeIndex(null));
+    }
+
+    @Test
+    public void findRows_indexedPersons_rowsOfList() {
+        assertEquals(rows(1, 2, 3), attributeIndex.findRowsWithGender(List.of(MALE)));
+        assertEquals(rows(0, 1, 2, 3), attributeIndex.findRowsWithGender(List.of(MALE, FEMALE)));
+        assertEquals(rows(1), attributeIndex.findRowsWithQualification(List.of(new Qualification("1"))));
+        assertEquals(rows(), attributeIndex.findRowsWithQualification(List.of(new Qualification("3"))));
+        assertEquals(rows(0, 3), attributeIndex.findRowsWithAnyTag(List.of(Tag.of("PM"))));
+        assertEquals(rows(0, 1, 3), attributeIndex.findRowsWithAnyTag(List.of(Tag.of("PM"), Tag.of("SC"))));
+        assertEquals(rows(), attributeIndex.findRowsWithAnyTag(List.of()));
+        assertEquals(4, attributeIndex.size());
+    }
+
+    @Test
+    public void remove_middleRow_rowLeftEmpty() {
+        attributeIndex.findRowsWithGender(List.of(MALE)); // builds the index
+        persons.remove(BENSON);
+        attributeIndex.remove(BENSON);
+
+        assertEquals(rows(2, 3), attributeIndex.findRowsWithGender(List.of(MALE)));
+        assertEquals(rows(0, 3), attributeIndex.findRowsWithAnyTag(List.of(Tag.of("PM"))));
+        assertEquals(rows(), attributeIndex.findRowsWithAnyTag(List.of(Tag.of("SC"))));
+        assertEquals(rows(0, 2, 3), attributeIndex.findAllRows());
+        assertNull(attributeIndex.getPerson(1));
+        assertEquals(3, attributeIndex.size());
+        assertEquals(4, attributeIndex.getRowCount());
+    }
+
+    @Test
+    public void remove_mostRows_rowsNumberedAfresh() {
+        attributeIndex.findRowsWithGender(List.of(MALE));
+        long rewriteVersion = attributeIndex.getRewriteVersion();
+        persons.remove(ALICE);
+        attributeIndex.remove(ALICE);
+        assertEquals(rewriteVersion, attributeIndex.getRewriteVersion());
+
+        persons.remove(CARL);
+        attributeIndex.remove(CARL);
+        persons.remove(DANIEL);
+        attributeIndex.remove(DANIEL);
+
+        assertEquals(rows(0), attributeIndex.findAllRows());
+        assertEquals(BENSON, attributeIndex.getPerson(0));
+        assertEquals(1, attributeIndex.getRowCount());
+        assertTrue(attributeIndex.getRewriteVersion() > rewriteVersion);
+    }
+
+    @Test
+    public void replace_editedAttributes_sameRow() {
+        attributeIndex.findRowsWithGender(List.of(MALE));
+        Tutor editedBenson = new TutorBuilder(BENSON).withGender("F").withPhone("91111111").withTags("TP").build();
+        persons.set(1, editedBenson);
+        attributeIndex.replace(BENSON, editedBenson);
+
+        assertEquals(rows(0, 1), attributeIndex.findRowsWithGender(List.of(FEMALE)));
+        assertEquals(rows(1), attributeIndex.findRowsWithAnyTag(List.of(Tag.of("TP"))));
+        assertEquals(rows(), attributeIndex.findRowsWithAnyTag(List.of(Tag.of("SM"))));
+    }
+
+    @Test
+    public void inRows_indexChanged_seesChange() {
+        Predicate<Person> male = attributeIndex.inRows(() -> attributeIndex.findRowsWithGender(List.of(MALE)));
+        assertFalse(male.test(ALICE));
+        assertTrue(male.test(CARL));
+
+        Tutor editedAlice = new TutorBuilder(ALICE).withGender("M").build();
+        persons.set(0, editedAlice);
+        attributeIndex.replace(ALICE, editedAlice);
+        assertTrue(male.test(editedAlice));
+
+        persons.remove(CARL);
+        attributeIndex.remove(CARL);
+        assertFalse(male.test(CARL));
+        assertTrue(male.test(DANIEL));
+    }
+
+    @Test
+    public void findRows_randomChanges_sameAsScanningList() {
+        Random random = new Random(23);
+        int nextPhone = 0;
+        for (int i = 0; i < 300; i++) {
+            persons.add(randomTutor(random, nextPhone++));
+        }
+        attributeIndex.findRowsWithGender(List.of(MALE));
+
+        for (int i = 0; i < 600; i++) {
+            int change = random.nextInt(3);
+            if (change == 0 || persons.isEmpty()) {
+                Tutor toAdd = randomTutor(random, nextPhone++);
+                persons.add(toAdd);
+                attributeIndex.add(toAdd);
+            } else if (change == 1) {
+                int row = random.nextInt(persons.size());
+                Person target = persons.get(row);
+                Tutor edited = randomTutor(random, nextPhone++);
+                persons.set(row, edited);
+                attributeIndex.replace(target, edited);
+            } else {
+                attributeIndex.remove(persons.remove(random.nextInt(persons.size())));
+            }
+        }
+
+        for (Gender gender : List.of(MALE, FEMALE)) {
+            assertEquals(scan(new GenderContainsGenderPredicate(List.of(gender))),
+                    personsIn(attributeIndex.findRowsWithGender(List.of(gender))));
+        }
+        for (String qualification : List.of("0", "1", "2", "3")) {
+            List<Qualification> qualifications = List.of(new Qualification(qualification));
+            assertEquals(scan(new QualificationContainsQualificationPredicate(qualifications)),
+                    personsIn(attributeIndex.findRowsWithQualification(qualifications)));
+        }
+        for (String tag : TAGS) {
+            List<Tag> tags = List.of(Tag.of(tag));
+            assertEquals(scan(new TagsContainTagPredicate(tags)), personsIn(attributeIndex.findRowsWithAnyTag(tags)));
+        }
+        assertEquals(persons, personsIn(attributeIndex.findAllRows()));
+        assertEquals(persons.size(), attributeIndex.size());
+    }
+
+    private Tutor randomTutor(Random random, int phone) {
+        return new TutorBuilder()
+                .withPhone(String.format("9%07d", phone))
+                .withGender(random.nextBoolean() ? "M" : "F")
+                .withQualification(String.valueOf(random.nextInt(4)))
+                .withTags(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)])
+                .build();
+    }
+
+    /**
+     * Returns the persons of the list {@code predicate} is true for, in order.
+     */
+    private List<Person> scan(Predicate<Person> predicate) {
+        return persons.stream().filter(predicate).collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the persons in {@code rows}, in order.
+     */
+    private List<Person> personsIn(BitSet rows) {
+        return rows.stream().mapToObj(attributeIndex::getPerson).collect(Collectors.toList());
+    }
+
+    private static BitSet rows(int... rows) {
+        BitSet bits = new BitSet();
+        for (int row : rows) {
+            bits.set(row);
+        }
+        return bits;
+    }
+}
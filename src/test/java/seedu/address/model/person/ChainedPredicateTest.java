@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_AMY;
@@ -8,19 +9,22 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_QUALIFICATION_U
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_PM;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_TP;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TypicalPersons;
 
 public class ChainedPredicateTest {
     private Gender gender = new Gender(VALID_GENDER_AMY);
     private Name name = new Name(VALID_NAME_BOB);
     private Qualification qualification = new Qualification(VALID_QUALIFICATION_UNIVERSITY_STUDENT);
-    private List<Tag> twoTagsList = Arrays.asList(new Tag(VALID_TAG_PM), new Tag(VALID_TAG_TP));
+    private List<Tag> twoTagsList = Arrays.asList(Tag.of(VALID_TAG_PM), Tag.of(VALID_TAG_TP));
     private Predicate<Person> predicate = x -> true;
 
     @Test
@@ -90,4 +94,51 @@ public class ChainedPredicateTest {
         // Different tags -> returns false
         assertFalse(firstPredicate.equals(fourthPredicate));
     }
+
+    @Test
+    public void withIndex_attributeAndNameClauses_sameMatchesAsTest() {
+        List<Person> persons = new ArrayList<>(TypicalPersons.getTypicalTutors());
+        persons.addAll(TypicalPersons.getTypicalStudents());
+        PersonIndexes indexes = new PersonIndexes(persons);
+
+        List<ChainedPredicate> predicates = List.of(
+                new ChainedPredicate.Builder().build(),
+                new ChainedPredicate.Builder()
+                        .addClause(new GenderContainsGenderPredicate(List.of(new Gender("M"))))
+                        .addClause(new TagsContainTagPredicate(List.of(Tag.of("PM"), Tag.of("SM")))).build(),
+                new ChainedPredicate.Builder()
+                        .addClause(new QualificationContainsQualificationPredicate(List.of(qualification)))
+                        .addClause(new NameContainsKeywordsPredicate(List.of("meier"))).build(),
+                new ChainedPredicate.Builder()
+                        .addClause(new TagsContainTagPredicate(List.of(Tag.of("PM"))))
+                        .addClause(person -> person instanceof Student).build());
+        for (ChainedPredicate chainedPredicate : predicates) {
+            Predicate<Person> indexedPredicate = chainedPredicate.withIndex(indexes);
+            for (Person person : persons) {
+                assertEquals(chainedPredicate.test(person), indexedPredicate.test(person), person.toString());
+            }
+        }
+    }
+
+    @Test
+    public void findRows_indexedAndOtherClauses_intersectionOfRows() {
+        List<Person> persons = new ArrayList<>(TypicalPersons.getTypicalTutors());
+        PersonIndexes indexes = new PersonIndexes(persons);
+
+        // Alice Pauline (F, PM), Benson Meier (M, 1, SM SC), Carl Kurz (M, 2, TL TE)
+        BitSet expectedRows = new BitSet();
+        expectedRows.set(1);
+        assertEquals(expectedRows, new ChainedPredicate.Builder()
+                .addClause(new GenderContainsGenderPredicate(List.of(new Gender("M"))))
+                .addClause(new TagsContainTagPredicate(List.of(Tag.of("PM"), Tag.of("SC")))).build()
+                .findRows(indexes));
+        assertEquals(expectedRows, new ChainedPredicate.Builder()
+                .addClause(new GenderContainsGenderPredicate(List.of(new Gender("M"))))
+                .addClause(new NameContainsKeywordsPredicate(List.of("meier"))).build()
+                .findRows(indexes));
+        assertEquals(expectedRows, new ChainedPredicate.Builder()
+                .addClause(new GenderContainsGenderPredicate(List.of(new Gender("M"))))
+                .addClause(person -> person.getName().fullName.startsWith("B")).build()
+                .findRows(indexes));
+    }
 }
@@ -0,0 +1,102 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TutorBuilder;
+
+public class FuzzyNamePredicateTest {
+    private static final List<String> NAMES = List.of("Charlotte Oliveiro", "Charles Kim", "Carl Kurz", "Charl",
+            "Sharlene Tan", "Ali Ahmad", "Alice Pauline", "Alicia Tan", "Kim Charlene", "Bo Ng", "Kurt Carlsen");
+
+    private final List<Person> persons = new ArrayList<>();
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    public FuzzyNamePredicateTest() {
+        for (int i = 0; i < NAMES.size(); i++) {
+            persons.add(new TutorBuilder().withName(NAMES.get(i)).withPhone(String.format("9%07d", i)).build());
+        }
+    }
+
+    @Test
+    public void equals() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate("charl");
+
+        assertTrue(predicate.equals(predicate));
+        assertTrue(predicate.equals(new FuzzyNamePredicate("Charl ")));
+        assertFalse(predicate.equals(null));
+        assertFalse(predicate.equals(new NameContainsKeywordsPredicate(List.of("charl"))));
+        assertFalse(predicate.equals(new FuzzyNamePredicate("charlotte")));
+    }
+
+    @Test
+    public void getMaxTypos() {
+        assertEquals(0, FuzzyNamePredicate.getMaxTypos("bo"));
+        assertEquals(1, FuzzyNamePredicate.getMaxTypos("bob"));
+        assertEquals(1, FuzzyNamePredicate.getMaxTypos("charl"));
+        assertEquals(2, FuzzyNamePredicate.getMaxTypos("charlo"));
+    }
+
+    @Test
+    public void test_prefixesAndTypos() {
+        assertEquals(List.of("Charlotte Oliveiro", "Charles Kim", "Carl Kurz", "Charl", "Sharlene Tan",
+                "Kim Charlene", "Kurt Carlsen"), namesMatching(new FuzzyNamePredicate("charl")));
+        assertEquals(List.of("Charlotte Oliveiro", "Charles Kim", "Kim Charlene"),
+                namesMatching(new FuzzyNamePredicate("charlote")));
+        assertEquals(List.of("Charles Kim", "Kim Charlene"), namesMatching(new FuzzyNamePredicate("kim charl")));
+        assertEquals(List.of("Bo Ng"), namesMatching(new FuzzyNamePredicate("BO")));
+        assertEquals(List.of(), namesMatching(new FuzzyNamePredicate("xavier")));
+        assertEquals(List.of(), namesMatching(new FuzzyNamePredicate(" ")));
+    }
+
+    @Test
+    public void withIndex_sameMatchesAsTest() {
+        for (String keyword : List.of("charl", "charlote", "kim charl", "bo", "ali", "alise", "carlsen kurt", "x")) {
+            FuzzyNamePredicate predicate = new FuzzyNamePredicate(keyword);
+            assertEquals(namesMatching(predicate), namesMatching(predicate.withIndex(indexes)), keyword);
+        }
+    }
+
+    @Test
+    public void rankWithIndex_fewestTyposFirst() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate("charlote");
+        List<Person> matches = persons.stream().filter(predicate.withIndex(indexes)).collect(Collectors.toList());
+        Comparator<Person> ranking = predicate.rankWithIndex(indexes);
+        matches.sort(ranking);
+
+        // Charlotte needs 1 typo and the others 2; ties keep their order
+        assertEquals(List.of("Charlotte Oliveiro", "Charles Kim", "Kim Charlene"),
+                matches.stream().map(person -> person.getName().fullName).collect(Collectors.toList()));
+        assertTrue(ranking.compare(matches.get(0), matches.get(1)) < 0);
+        assertEquals(0, ranking.compare(matches.get(1), matches.get(2)));
+    }
+
+    @Test
+    public void withIndex_indexChanged_seesChange() {
+        FuzzyNamePredicate predicate = new FuzzyNamePredicate("bob");
+        Predicate<Person> indexedPredicate = predicate.withIndex(indexes);
+        Person bo = persons.get(NAMES.indexOf("Bo Ng"));
+        assertTrue(indexedPredicate.test(bo));
+
+        Person renamedBo = new TutorBuilder((Tutor) bo).withName("Ng").build();
+        persons.set(NAMES.indexOf("Bo Ng"), renamedBo);
+        indexes.replace(bo, renamedBo);
+        assertFalse(indexedPredicate.test(renamedBo));
+    }
+
+    private List<String> namesMatching(Predicate<Person> predicate) {
+        return persons.stream()
+                .filter(predicate)
+                .map(person -> person.getName().fullName)
+                .collect(Collectors.toList());
+    }
+}
@@ -61,4 +61,9 @@ public class GenderTest {
         Gender genderDifferent = new Gender("F");
         assertNotEquals(gender, genderDifferent);
     }
+
+    @Test
+    public void ofTrusted_validGender_equalsConstructedGender() {
+        assertEquals(new Gender("F"), Gender.ofTrusted("F"));
+    }
 }
@@ -0,0 +1,86 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TutorBuilder;
+
+public class ListPositionsTest {
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL));
+    private final ListPositions positions = new ListPositions(persons);
+
+    @Test
+    public void remove_middlePerson_laterPersonsMoveUp() {
+        assertEquals(1, positions.remove(BENSON.getPhone()));
+        persons.remove(BENSON);
+
+        assertEquals(0, positions.positionOf(ALICE.getPhone()));
+        assertEquals(1, positions.positionOf(CARL.getPhone()));
+    }
+
+    @Test
+    public void replace_newPhone_samePosition() {
+        Tutor editedBenson = new TutorBuilder(BENSON).withPhone("91234567").build();
+        positions.positionOf(BENSON.getPhone());
+        positions.replace(BENSON.getPhone(), editedBenson.getPhone());
+        persons.set(1, editedBenson);
+
+        assertEquals(1, positions.positionOf(editedBenson.getPhone()));
+    }
+
+    @Test
+    public void remove_mostPersons_positionsNumberedAfresh() {
+        for (int i = 0; i < 100; i++) {
+            Tutor added = new TutorBuilder().withPhone(String.format("9%07d", i)).build();
+            positions.append(added.getPhone());
+            persons.add(added);
+        }
+        while (persons.size() > 10) {
+            assertEquals(1, positions.remove(persons.get(1).getPhone()));
+            persons.remove(1);
+        }
+
+        for (int position = 0; position < persons.size(); position++) {
+            assertEquals(position, positions.positionOf(persons.get(position).getPhone()));
+        }
+    }
+
+    @Test
+    public void positionOf_randomChanges_positionsInList() {
+        Random random = new Random(1);
+        int nextPhone = 0;
+        persons.clear();
+        for (int i = 0; i < 2000; i++) {
+            int change = persons.isEmpty() ? 0 : random.nextInt(4);
+            if (change == 0 || change == 1) {
+                Tutor added = new TutorBuilder().withPhone(String.format("9%07d", nextPhone++)).build();
+                positions.append(added.getPhone());
+                persons.add(added);
+            } else if (change == 2) {
+                Person target = persons.get(random.nextInt(persons.size()));
+                Tutor edited = new TutorBuilder().withPhone(String.format("9%07d", nextPhone++)).build();
+                positions.replace(target.getPhone(), edited.getPhone());
+                persons.set(persons.indexOf(target), edited);
+            } else {
+                Person target = persons.get(random.nextInt(persons.size()));
+                assertEquals(persons.indexOf(target), positions.remove(target.getPhone()));
+                persons.remove(target);
+            }
+            if (i % 100 == 0) {
+                positions.reset();
+            }
+            for (int position = 0; position < persons.size(); position++) {
+                assertEquals(position, positions.positionOf(persons.get(position).getPhone()));
+            }
+        }
+    }
+}
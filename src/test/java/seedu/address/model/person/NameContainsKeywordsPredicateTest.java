@@ -1,11 +1,14 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
@@ -107,4 +110,44 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new StudentBuilder().withName("Alice").withPhone("91234567")
                 .withGender("F").build()));
     }
+
+    @Test
+    public void test_keywordOfSeveralWords_matchesNamesWithAllWords() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("Han Solo"));
+        assertTrue(predicate.test(new TutorBuilder().withName("Solo  han").build()));
+        assertFalse(predicate.test(new TutorBuilder().withName("Han Dan").build()));
+
+        // blank keywords match nothing
+        predicate = new NameContainsKeywordsPredicate(List.of(" "));
+        assertFalse(predicate.test(new TutorBuilder().withName("Han Dan").build()));
+    }
+
+    @Test
+    public void withIndex_sameMatchesAsTest() {
+        Tutor alice = new TutorBuilder().withName("Alice Bob").withPhone("91111111").build();
+        Tutor carol = new TutorBuilder().withName("Carol").withPhone("92222222").build();
+        PersonIndexes indexes = new PersonIndexes(List.of(alice, carol));
+
+        for (List<String> keywords : List.of(List.of("alice"), List.of("BOB", "dan"), List.of("bob alice"),
+                List.of("carol"), List.of("alice carol"), List.of("ali"), Collections.<String>emptyList())) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
+            Predicate<Person> indexedPredicate = predicate.withIndex(indexes);
+            assertEquals(predicate.test(alice), indexedPredicate.test(alice), keywords.toString());
+            assertEquals(predicate.test(carol), indexedPredicate.test(carol), keywords.toString());
+        }
+    }
+
+    @Test
+    public void withIndex_indexChanged_seesChange() {
+        Tutor alice = new TutorBuilder().withName("Alice").build();
+        List<Person> persons = new ArrayList<>(List.of(alice));
+        PersonIndexes indexes = new PersonIndexes(persons);
+        Predicate<Person> indexedPredicate = new NameContainsKeywordsPredicate(List.of("carol")).withIndex(indexes);
+        assertFalse(indexedPredicate.test(alice));
+
+        Tutor renamedAlice = new TutorBuilder(alice).withName("Carol").build();
+        persons.set(0, renamedAlice);
+        indexes.replace(alice, renamedAlice);
+        assertTrue(indexedPredicate.test(renamedAlice));
+    }
 }
@@ -7,6 +7,8 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class NameTest {
@@ -45,6 +47,13 @@ public class NameTest {
         assertEquals(expectedName, n.formatFullName());
     }
 
+    @Test
+    public void getCaseFoldedWords() {
+        assertEquals(List.of("alice", "pauline"), new Name("Alice  PAULINE").getCaseFoldedWords());
+        assertEquals(List.of("r2d2"), new Name("R2D2").getCaseFoldedWords());
+        assertEquals(List.of(), Name.toCaseFoldedWords(" \t "));
+    }
+
     @Test
     public void isValidName() {
         // null name
@@ -88,4 +97,9 @@ public class NameTest {
         Name nameDifferent = new Name("John");
         assertNotEquals(name, nameDifferent);
     }
+
+    @Test
+    public void ofTrusted_validName_equalsConstructedName() {
+        assertEquals(new Name("Alice Pauline"), Name.ofTrusted("Alice Pauline"));
+    }
 }
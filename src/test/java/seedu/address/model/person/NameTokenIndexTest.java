@@ -0,0 +1,154 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.TutorBuilder;
+
+public class NameTokenIndexTest {
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, DANIEL));
+    private final NameTokenIndex nameIndex = new NameTokenIndex(persons);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new NameTokenIndex(null));
+    }
+
+    @Test
+    public void hasWord_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> nameIndex.hasWord(null, "alice"));
+        assertThrows(NullPointerException.class, () -> nameIndex.hasWord(ALICE.getPhone(), null));
+    }
+
+    @Test
+    public void hasWord_indexedPersons_matchesCaseFoldedWholeWords() {
+        assertTrue(nameIndex.hasWord(ALICE.getPhone(), "alice"));
+        assertTrue(nameIndex.hasWord(ALICE.getPhone(), "pauline"));
+        assertTrue(nameIndex.hasWord(BENSON.getPhone(), "meier"));
+        assertTrue(nameIndex.hasWord(DANIEL.getPhone(), "meier"));
+
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "Alice")); // words are looked up in lower case
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "ali"));
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "meier"));
+    }
+
+    @Test
+    public void add_afterIndexBuilt_personIndexed() {
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "carol"));
+        Tutor carol = new TutorBuilder().withName("Carol").withPhone("91111111").build();
+        persons.add(carol);
+        nameIndex.add(carol);
+
+        assertTrue(nameIndex.hasWord(carol.getPhone(), "carol"));
+    }
+
+    @Test
+    public void replace_editedName_wordsUpdated() {
+        assertTrue(nameIndex.hasWord(ALICE.getPhone(), "pauline"));
+        Tutor editedAlice = new TutorBuilder(ALICE).withName("Alice Meier").build();
+        persons.set(0, editedAlice);
+        nameIndex.replace(ALICE, editedAlice);
+
+        assertTrue(nameIndex.hasWord(ALICE.getPhone(), "meier"));
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "pauline"));
+        assertTrue(nameIndex.hasWord(BENSON.getPhone(), "meier"));
+    }
+
+    @Test
+    public void replace_editedPhone_wordsMoveToNewPhone() {
+        assertTrue(nameIndex.hasWord(ALICE.getPhone(), "alice"));
+        Tutor editedAlice = new TutorBuilder(ALICE).withPhone("91111111").build();
+        persons.set(0, editedAlice);
+        nameIndex.replace(ALICE, editedAlice);
+
+        assertTrue(nameIndex.hasWord(editedAlice.getPhone(), "alice"));
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "alice"));
+    }
+
+    @Test
+    public void remove_indexedPerson_otherPersonsWithSameWordKept() {
+        assertTrue(nameIndex.hasWord(BENSON.getPhone(), "meier"));
+        persons.remove(BENSON);
+        nameIndex.remove(BENSON);
+
+        assertFalse(nameIndex.hasWord(BENSON.getPhone(), "meier"));
+        assertTrue(nameIndex.hasWord(DANIEL.getPhone(), "meier"));
+    }
+
+    @Test
+    public void reset_personsReplaced_rebuiltFromPersons() {
+        assertTrue(nameIndex.hasWord(ALICE.getPhone(), "alice"));
+        persons.clear();
+        persons.add(BENSON);
+        nameIndex.reset();
+
+        assertFalse(nameIndex.hasWord(ALICE.getPhone(), "alice"));
+        assertTrue(nameIndex.hasWord(BENSON.getPhone(), "benson"));
+    }
+
+    @Test
+    public void findWordsStartingLike_invalidDistance_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> nameIndex.findWordsStartingLike("ali", 3));
+        assertThrows(IllegalArgumentException.class, () -> nameIndex.findWordsStartingLike("ali", -1));
+    }
+
+    @Test
+    public void findWordsStartingLike_prefixesAndTypos_fewestTyposOfAnyWord() {
+        // Alice Pauline, Benson Meier, Daniel Meier
+        assertEquals(Map.of(ALICE.getPhone(), 0), nameIndex.findWordsStartingLike("pau", 1));
+        assertEquals(Map.of(BENSON.getPhone(), 0, DANIEL.getPhone(), 0), nameIndex.findWordsStartingLike("mei", 0));
+        assertEquals(Map.of(BENSON.getPhone(), 1, DANIEL.getPhone(), 1), nameIndex.findWordsStartingLike("meyer", 1));
+        assertEquals(Map.of(ALICE.getPhone(), 1), nameIndex.findWordsStartingLike("alise", 1));
+        assertEquals(Map.of(), nameIndex.findWordsStartingLike("alise", 0));
+
+        // a word that is a prefix of another word
+        Tutor al = new TutorBuilder().withName("Al").withPhone("91111111").build();
+        persons.add(al);
+        nameIndex.add(al);
+        assertEquals(Map.of(ALICE.getPhone(), 0, al.getPhone(), 0), nameIndex.findWordsStartingLike("al", 0));
+        assertEquals(Map.of(ALICE.getPhone(), 0, al.getPhone(), 1), nameIndex.findWordsStartingLike("ali", 1));
+    }
+
+    @Test
+    public void findWordsStartingLike_wordsRemoved_notFound() {
+        Tutor al = new TutorBuilder().withName("Al").withPhone("91111111").build();
+        persons.add(al);
+        assertEquals(Map.of(ALICE.getPhone(), 0, al.getPhone(), 0), nameIndex.findWordsStartingLike("al", 0));
+
+        persons.remove(ALICE);
+        nameIndex.remove(ALICE);
+        assertEquals(Map.of(al.getPhone(), 0), nameIndex.findWordsStartingLike("al", 0));
+        assertEquals(Map.of(), nameIndex.findWordsStartingLike("pauline", 2));
+
+        persons.remove(al);
+        nameIndex.remove(al);
+        assertEquals(Map.of(), nameIndex.findWordsStartingLike("al", 0));
+    }
+
+    @Test
+    public void getVersion_changes_versionIncreases() {
+        long version = nameIndex.getVersion();
+        nameIndex.findWordsStartingLike("al", 0); // builds the index
+        long builtVersion = nameIndex.getVersion();
+        assertTrue(builtVersion > version);
+
+        nameIndex.findWordsStartingLike("al", 0);
+        assertEquals(builtVersion, nameIndex.getVersion());
+
+        persons.remove(ALICE);
+        nameIndex.remove(ALICE);
+        assertTrue(nameIndex.getVersion() > builtVersion);
+    }
+}
@@ -0,0 +1,164 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
+
+public class PersonIndexesTest {
+    private final List<Person> persons = new ArrayList<>(Arrays.asList(ALICE, BENSON, CARL));
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    @Test
+    public void findRows_repeatedPredicate_cachedRows() {
+        CountingPredicate male = new CountingPredicate(new GenderContainsGenderPredicate(List.of(new Gender("M"))));
+        assertEquals(rows(1, 2), indexes.findRows(male));
+        assertEquals(rows(1, 2), indexes.findRows(male));
+        assertEquals(1, male.finds);
+
+        // the rows returned are the caller's to change
+        indexes.findRows(male).clear();
+        assertEquals(rows(1, 2), indexes.findRows(male));
+        assertEquals(1, male.finds);
+    }
+
+    @Test
+    public void findRows_equalPredicates_sameCacheEntry() {
+        indexes.findRows(new CountingPredicate(new TagsContainTagPredicate(List.of(Tag.of("PM"), Tag.of("SC")))));
+        CountingPredicate sameTags = new CountingPredicate(
+                new TagsContainTagPredicate(List.of(Tag.of("SC"), Tag.of("PM"))));
+        assertEquals(rows(0, 1), indexes.findRows(sameTags));
+        assertEquals(0, sameTags.finds);
+    }
+
+    @Test
+    public void findRows_personsAdded_newRowsPatchedIn() {
+        CountingPredicate male = new CountingPredicate(new GenderContainsGenderPredicate(List.of(new Gender("M"))));
+        indexes.findRows(male);
+
+        indexes.add(DANIEL);
+        persons.add(DANIEL);
+        Tutor female = new TutorBuilder().withPhone("91234567").withGender("F").build();
+        indexes.add(female);
+        persons.add(female);
+
+        assertEquals(rows(1, 2, 3), indexes.findRows(male));
+        assertEquals(1, male.finds);
+        assertEquals(2, male.tests);
+    }
+
+    @Test
+    public void findRows_personEdited_rowsFoundAgain() {
+        CountingPredicate male = new CountingPredicate(new GenderContainsGenderPredicate(List.of(new Gender("M"))));
+        indexes.findRows(male);
+
+        Tutor editedAlice = new TutorBuilder(ALICE).withGender("M").build();
+        indexes.replace(ALICE, editedAlice);
+        persons.set(0, editedAlice);
+        assertEquals(rows(0, 1, 2), indexes.findRows(male));
+        assertEquals(2, male.finds);
+
+        indexes.reset();
+        assertEquals(rows(0, 1, 2), indexes.findRows(male));
+        assertEquals(3, male.finds);
+    }
+
+    @Test
+    public void findRows_personRemoved_rowClearedFromCachedRows() {
+        persons.add(DANIEL);
+        CountingPredicate male = new CountingPredicate(new GenderContainsGenderPredicate(List.of(new Gender("M"))));
+        indexes.findRows(male);
+
+        indexes.remove(BENSON);
+        persons.remove(BENSON);
+        assertEquals(rows(2, 3), indexes.findRows(male));
+        assertEquals(1, male.finds);
+        assertEquals(0, male.tests);
+    }
+
+    @Test
+    public void findRows_tooManyPredicates_leastRecentlyUsedDropped() {
+        CountingPredicate first = new CountingPredicate(new NameContainsKeywordsPredicate(List.of("alice")));
+        CountingPredicate second = new CountingPredicate(new NameContainsKeywordsPredicate(List.of("benson")));
+        indexes.findRows(first);
+        indexes.findRows(second);
+        for (int i = 0; i < PersonIndexes.MAX_CACHED_PREDICATES - 2; i++) {
+            indexes.findRows(new NameContainsKeywordsPredicate(List.of("name" + i)));
+        }
+        indexes.findRows(first); // now used more recently than the second
+        indexes.findRows(new NameContainsKeywordsPredicate(List.of("carl")));
+
+        indexes.findRows(first);
+        indexes.findRows(second);
+        assertEquals(1, first.finds);
+        assertEquals(2, second.finds);
+    }
+
+    @Test
+    public void findRows_predicateWithoutRows_null() {
+        assertNull(indexes.findRows(new CountingPredicate(null)));
+    }
+
+    private static BitSet rows(int... rows) {
+        BitSet bits = new BitSet();
+        for (int row : rows) {
+            bits.set(row);
+        }
+        return bits;
+    }
+
+    /**
+     * A predicate that counts the times it finds its rows and is tested, and is otherwise the same as the predicate it
+     * wraps, if any.
+     */
+    private static class CountingPredicate implements IndexablePredicate {
+        private final IndexablePredicate predicate;
+        private int finds;
+        private int tests;
+
+        CountingPredicate(IndexablePredicate predicate) {
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            tests++;
+            return predicate.test(person);
+        }
+
+        @Override
+        public Predicate<Person> withIndex(PersonIndexes indexes) {
+            return predicate.withIndex(indexes);
+        }
+
+        @Override
+        public BitSet findRows(PersonIndexes indexes) {
+            finds++;
+            return predicate == null ? null : predicate.findRows(indexes);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof CountingPredicate
+                    && predicate != null && predicate.equals(((CountingPredicate) other).predicate);
+        }
+
+        @Override
+        public int hashCode() {
+            return predicate == null ? 0 : predicate.hashCode();
+        }
+    }
+}
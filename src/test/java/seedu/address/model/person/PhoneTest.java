@@ -62,4 +62,9 @@ public class PhoneTest {
         Phone phoneDifferent = new Phone("94351253");
         assertNotEquals(phone, phoneDifferent);
     }
+
+    @Test
+    public void ofTrusted_validPhone_equalsConstructedPhone() {
+        assertEquals(new Phone("94351253"), Phone.ofTrusted("94351253"));
+    }
 }
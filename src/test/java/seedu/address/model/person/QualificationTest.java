@@ -66,4 +66,9 @@ class QualificationTest {
         Qualification qualificationDifferent = new Qualification("3");
         assertNotEquals(qualification, qualificationDifferent);
     }
+
+    @Test
+    public void ofTrusted_validQualification_equalsConstructedQualification() {
+        assertEquals(new Qualification("2"), Qualification.ofTrusted("2"));
+    }
 }
@@ -0,0 +1,153 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
+
+public class QueryPredicateTest {
+    private static final String[] TAGS = {"PM", "SM", "SC", "TL", "TE"};
+    private static final String[] NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle"};
+
+    private static final QueryPredicate FEMALE = QueryPredicate.term(
+            new GenderContainsGenderPredicate(List.of(new Gender("F"))));
+    private static final QueryPredicate PM = QueryPredicate.term(new TagsContainTagPredicate(List.of(Tag.of("PM"))));
+    private static final QueryPredicate SM = QueryPredicate.term(new TagsContainTagPredicate(List.of(Tag.of("SM"))));
+
+    private final List<Person> persons = new ArrayList<>();
+    private final PersonIndexes indexes = new PersonIndexes(persons);
+
+    @Test
+    public void equals() {
+        QueryPredicate query = QueryPredicate.and(List.of(
+                QueryPredicate.or(List.of(PM, SM)), QueryPredicate.not(FEMALE)));
+
+        assertTrue(query.equals(query));
+        assertTrue(query.equals(QueryPredicate.and(List.of(
+                QueryPredicate.or(List.of(PM, SM)), QueryPredicate.not(FEMALE)))));
+        assertFalse(query.equals(null));
+        assertFalse(query.equals(QueryPredicate.and(List.of(
+                QueryPredicate.and(List.of(PM, SM)), QueryPredicate.not(FEMALE)))));
+        assertFalse(query.equals(QueryPredicate.and(List.of(QueryPredicate.or(List.of(PM, SM)), FEMALE))));
+        assertEquals(PM, QueryPredicate.and(List.of(PM)));
+    }
+
+    @Test
+    public void findRows_andOrNot_rowsOfList() {
+        persons.add(new TutorBuilder().withPhone("90000000").withGender("F").withTags("PM").build());
+        persons.add(new TutorBuilder().withPhone("90000001").withGender("M").withTags("SM").build());
+        persons.add(new TutorBuilder().withPhone("90000002").withGender("F").withTags("SM", "PM").build());
+        persons.add(new TutorBuilder().withPhone("90000003").withGender("M").withTags("TL").build());
+
+        assertEquals(rows(0, 1, 2), QueryPredicate.or(List.of(PM, SM)).findRows(indexes));
+        assertEquals(rows(1), QueryPredicate.and(List.of(SM, QueryPredicate.not(FEMALE))).findRows(indexes));
+        assertEquals(rows(3), QueryPredicate.not(QueryPredicate.or(List.of(PM, SM))).findRows(indexes));
+        assertEquals(rows(), QueryPredicate.and(List.of(PM, QueryPredicate.not(PM))).findRows(indexes));
+        assertEquals(rows(2), QueryPredicate.and(List.of(FEMALE, QueryPredicate.term(person ->
+                person.getTags().size() > 1))).findRows(indexes));
+    }
+
+    @Test
+    public void rankWithIndex_rankingUnderNot_ignored() {
+        QueryPredicate fuzzyName = QueryPredicate.term(new FuzzyNamePredicate("alice"));
+
+        assertNotNull(QueryPredicate.or(List.of(PM, fuzzyName)).rankWithIndex(indexes));
+        assertNull(QueryPredicate.and(List.of(PM, QueryPredicate.not(fuzzyName))).rankWithIndex(indexes));
+    }
+
+    @Test
+    public void withIndex_randomQueriesAndChanges_sameMatchesAsTest() {
+        Random random = new Random(24);
+        int nextPhone = 0;
+        for (int i = 0; i < 200; i++) {
+            persons.add(randomTutor(random, nextPhone++));
+        }
+
+        for (int i = 0; i < 100; i++) {
+            QueryPredicate query = randomQuery(random, 3);
+            Predicate<Person> indexedQuery = query.withIndex(indexes);
+            assertEquals(scan(query), query.findRows(indexes));
+            for (Person person : persons) {
+                assertEquals(query.test(person), indexedQuery.test(person));
+            }
+
+            // the indexed query follows changes to the list
+            int row = random.nextInt(persons.size());
+            Tutor edited = randomTutor(random, nextPhone++);
+            indexes.replace(persons.get(row), edited);
+            persons.set(row, edited);
+            Tutor added = randomTutor(random, nextPhone++);
+            indexes.add(added);
+            persons.add(added);
+            for (Person person : persons) {
+                assertEquals(query.test(person), indexedQuery.test(person));
+            }
+        }
+    }
+
+    private QueryPredicate randomQuery(Random random, int depth) {
+        int kind = depth == 0 ? random.nextInt(5) : random.nextInt(8);
+        switch (kind) {
+        case 0:
+            return QueryPredicate.term(new GenderContainsGenderPredicate(
+                    List.of(new Gender(random.nextBoolean() ? "M" : "F"))));
+        case 1:
+            return QueryPredicate.term(new QualificationContainsQualificationPredicate(
+                    List.of(new Qualification(String.valueOf(random.nextInt(4))))));
+        case 2:
+            return QueryPredicate.term(new TagsContainTagPredicate(
+                    List.of(Tag.of(TAGS[random.nextInt(TAGS.length)]))));
+        case 3:
+            return QueryPredicate.term(new NameContainsKeywordsPredicate(
+                    List.of(NAMES[random.nextInt(NAMES.length)])));
+        case 4:
+            int length = random.nextInt(3) + 10;
+            return QueryPredicate.term(person -> person.getName().fullName.length() < length);
+        case 5:
+            return QueryPredicate.not(randomQuery(random, depth - 1));
+        case 6:
+            return QueryPredicate.and(List.of(randomQuery(random, depth - 1), randomQuery(random, depth - 1),
+                    randomQuery(random, depth - 1)));
+        default:
+            return QueryPredicate.or(List.of(randomQuery(random, depth - 1), randomQuery(random, depth - 1)));
+        }
+    }
+
+    private Tutor randomTutor(Random random, int phone) {
+        return new TutorBuilder()
+                .withName(NAMES[random.nextInt(NAMES.length)] + " " + NAMES[random.nextInt(NAMES.length)])
+                .withPhone(String.format("9%07d", phone))
+                .withGender(random.nextBoolean() ? "M" : "F")
+                .withQualification(String.valueOf(random.nextInt(4)))
+                .withTags(TAGS[random.nextInt(TAGS.length)], TAGS[random.nextInt(TAGS.length)])
+                .build();
+    }
+
+    private BitSet scan(Predicate<Person> predicate) {
+        BitSet rows = new BitSet();
+        for (int i = 0; i < persons.size(); i++) {
+            rows.set(i, predicate.test(persons.get(i)));
+        }
+        return rows;
+    }
+
+    private static BitSet rows(int... rows) {
+        BitSet bits = new BitSet();
+        for (int row : rows) {
+            bits.set(row);
+        }
+        return bits;
+    }
+}
@@ -60,4 +60,9 @@ public class RemarkTest {
         Remark remarkDifferent = new Remark("F");
         assertNotEquals(remark, remarkDifferent);
     }
+
+    @Test
+    public void ofTrusted_validRemark_equalsConstructedRemark() {
+        assertEquals(new Remark("Prefers group lessons"), Remark.ofTrusted("Prefers group lessons"));
+    }
 }
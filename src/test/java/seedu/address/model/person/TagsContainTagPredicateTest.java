@@ -18,8 +18,8 @@ import seedu.address.testutil.TutorBuilder;
 public class TagsContainTagPredicateTest {
     @Test
     public void equals() {
-        List<Tag> oneTagList = Collections.singletonList(new Tag(VALID_TAG_PM));
-        List<Tag> twoTagsList = Arrays.asList(new Tag(VALID_TAG_PM), new Tag(VALID_TAG_TP));
+        List<Tag> oneTagList = Collections.singletonList(Tag.of(VALID_TAG_PM));
+        List<Tag> twoTagsList = Arrays.asList(Tag.of(VALID_TAG_PM), Tag.of(VALID_TAG_TP));
 
         TagsContainTagPredicate oneTagPredicate = new TagsContainTagPredicate(oneTagList);
         TagsContainTagPredicate twoTagsPredicate = new TagsContainTagPredicate(twoTagsList);
@@ -45,7 +45,7 @@ public class TagsContainTagPredicateTest {
     public void test_tutorTagsContainsTag_returnsTrue() {
         // One Tag
         TagsContainTagPredicate predicate =
-                new TagsContainTagPredicate(Collections.singletonList(new Tag(VALID_TAG_PM)));
+                new TagsContainTagPredicate(Collections.singletonList(Tag.of(VALID_TAG_PM)));
         assertTrue(predicate.test(new TutorBuilder().withTags(VALID_TAG_PM).build()));
 
         // Tutor have multiple tags
@@ -58,7 +58,7 @@ public class TagsContainTagPredicateTest {
         assertFalse(predicate.test(new TutorBuilder().withTags(VALID_TAG_PM).build()));
 
         // Non-matching keyword
-        predicate = new TagsContainTagPredicate(List.of(new Tag(VALID_TAG_PM)));
+        predicate = new TagsContainTagPredicate(List.of(Tag.of(VALID_TAG_PM)));
         assertFalse(predicate.test(new TutorBuilder().withTags(VALID_TAG_TP).build()));
     }
 
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DON_E;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
+
+public class TutorRankingTest {
+    private static final List<Tag> SCIENCE_AND_MATH = Arrays.asList(Tag.of("SC"), Tag.of("SM"), Tag.of("PM"));
+
+    private final TutorSubjectIndex tutorSubjectIndex = new TutorSubjectIndex();
+    private TutorRanking ranking;
+
+    @BeforeEach
+    public void setUp() {
+        tutorSubjectIndex.setTutors(Arrays.asList(ALICE, BENSON, CARL, DON_E));
+        ranking = tutorSubjectIndex.rankTutorsTeaching(SCIENCE_AND_MATH);
+    }
+
+    @Test
+    public void nextPage_pagesThroughRanking_returnsBestTutorsFirst() {
+        assertEquals(3, ranking.size());
+        assertEquals(Collections.singletonList(BENSON), ranking.nextPage(1));
+        assertEquals(Arrays.asList(ALICE, DON_E), ranking.nextPage(5));
+        assertFalse(ranking.hasNext());
+        assertEquals(Collections.emptyList(), ranking.nextPage(1));
+    }
+
+    @Test
+    public void add_tutorInIndex_rankedByScoreAndPosition() {
+        Tutor carlWithScience = new TutorBuilder(CARL).withTags("SC").build();
+        tutorSubjectIndex.replace(CARL, carlWithScience);
+        ranking.add(carlWithScience);
+        assertEquals(Arrays.asList(BENSON, ALICE, carlWithScience, DON_E), ranking.nextPage(4));
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ranking.add(null));
+    }
+
+    @Test
+    public void remove_rankedTutor_returnsTrue() {
+        assertTrue(ranking.remove(ALICE));
+        assertFalse(ranking.remove(ALICE));
+        assertFalse(ranking.remove(CARL));
+        assertEquals(Arrays.asList(BENSON, DON_E), ranking.nextPage(3));
+    }
+
+    @Test
+    public void remove_thenEditedTutorAdded_rankedOnceByNewScore() {
+        Tutor aliceWithAllSubjects = new TutorBuilder(ALICE).withTags("SC", "SM", "PM").build();
+        ranking.remove(ALICE);
+        tutorSubjectIndex.replace(ALICE, aliceWithAllSubjects);
+        ranking.add(aliceWithAllSubjects);
+
+        assertEquals(3, ranking.size());
+        assertEquals(Arrays.asList(aliceWithAllSubjects, BENSON, DON_E), ranking.nextPage(5));
+        assertFalse(ranking.hasNext());
+    }
+
+    @Test
+    public void remove_mostTutors_restStillRanked() {
+        assertTrue(ranking.remove(BENSON));
+        assertTrue(ranking.remove(ALICE));
+        assertEquals(1, ranking.size());
+        assertEquals(Collections.singletonList(DON_E), ranking.nextPage(5));
+    }
+}
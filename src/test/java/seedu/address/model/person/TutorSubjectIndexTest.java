@@ -0,0 +1,67 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DON_E;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.TutorBuilder;
+
+public class TutorSubjectIndexTest {
+    private static final List<Tag> SCIENCE_AND_MATH = Arrays.asList(Tag.of("SC"), Tag.of("PM"));
+
+    private final TutorSubjectIndex tutorSubjectIndex = new TutorSubjectIndex();
+
+    @Test
+    public void getTutorsTeaching_nullSubjects_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> tutorSubjectIndex.getTutorsTeaching(null));
+    }
+
+    @Test
+    public void getTutorsTeaching_emptyIndex_returnsEmptyList() {
+        assertEquals(Collections.emptyList(), tutorSubjectIndex.getTutorsTeaching(SCIENCE_AND_MATH));
+    }
+
+    @Test
+    public void getTutorsTeaching_tutorsWithSubjects_returnsTutorsInInsertionOrder() {
+        tutorSubjectIndex.setTutors(Arrays.asList(DON_E, ALICE, CARL, BENSON));
+        assertEquals(Arrays.asList(DON_E, ALICE, BENSON), tutorSubjectIndex.getTutorsTeaching(SCIENCE_AND_MATH));
+    }
+
+    @Test
+    public void rankTutorsTeaching_tutorsWithSubjects_ranksByMatchingSubjectsThenInsertionOrder() {
+        tutorSubjectIndex.setTutors(Arrays.asList(DON_E, ALICE, CARL, BENSON));
+        TutorRanking ranking = tutorSubjectIndex.rankTutorsTeaching(Arrays.asList(
+                Tag.of("SC"), Tag.of("SM"), Tag.of("PM")));
+        assertEquals(Arrays.asList(BENSON, DON_E, ALICE), ranking.nextPage(3));
+    }
+
+    @Test
+    public void replace_editedTutor_keepsPositionAndUpdatesSubjects() {
+        tutorSubjectIndex.setTutors(Arrays.asList(ALICE, BENSON));
+        Tutor editedAlice = new TutorBuilder(ALICE).withTags("SC").build();
+        tutorSubjectIndex.replace(ALICE, editedAlice);
+
+        assertEquals(Arrays.asList(editedAlice, BENSON),
+                tutorSubjectIndex.getTutorsTeaching(Collections.singletonList(Tag.of("SC"))));
+        assertEquals(Collections.emptyList(),
+                tutorSubjectIndex.getTutorsTeaching(Collections.singletonList(Tag.of("PM"))));
+    }
+
+    @Test
+    public void remove_existingTutor_removesFromAllSubjects() {
+        tutorSubjectIndex.add(BENSON);
+        tutorSubjectIndex.remove(BENSON);
+        assertEquals(Collections.emptyList(), tutorSubjectIndex.getTutorsTeaching(Arrays.asList(
+                Tag.of("SC"), Tag.of("SM"))));
+    }
+}
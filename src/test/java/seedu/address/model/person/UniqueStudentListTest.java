@@ -17,6 +17,8 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.StudentBuilder;
@@ -102,6 +104,8 @@ public class UniqueStudentListTest {
         UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
         expectedUniqueStudentList.add(AMY);
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(DANIEL));
+        assertTrue(uniqueStudentList.contains(AMY));
     }
 
     @Test
@@ -121,12 +125,20 @@ public class UniqueStudentListTest {
         assertThrows(PersonNotFoundException.class, () -> uniqueStudentList.remove(DANIEL));
     }
 
+    @Test
+    public void remove_studentWithSameIdentityDifferentFields_throwsStudentNotFoundException() {
+        uniqueStudentList.add(DANIEL);
+        Student editedDaniel = new StudentBuilder(DANIEL).withGender(VALID_GENDER_AMY).build();
+        assertThrows(PersonNotFoundException.class, () -> uniqueStudentList.remove(editedDaniel));
+    }
+
     @Test
     public void remove_existingStudent_removesStudent() {
         uniqueStudentList.add(DANIEL);
         uniqueStudentList.remove(DANIEL);
         UniqueStudentList expectedUniqueStudentList = new UniqueStudentList();
         assertEquals(expectedUniqueStudentList, uniqueStudentList);
+        assertFalse(uniqueStudentList.contains(DANIEL));
     }
 
     @Test
@@ -164,6 +176,53 @@ public class UniqueStudentListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueStudentList.setStudents(listWithDuplicateStudents));
     }
 
+    @Test
+    public void setStudents_listWithDuplicateStudents_reportsEveryDuplicatePhone() {
+        List<Student> listWithDuplicateStudents = Arrays.asList(DANIEL, AMY, AMY, DANIEL);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(AMY.getPhone(), DANIEL.getPhone()))
+                .getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniqueStudentList.setStudents(listWithDuplicateStudents));
+        assertEquals(new UniqueStudentList(), uniqueStudentList);
+    }
+
+    @Test
+    public void setStudents_largeListWithDuplicates_reportsDuplicatePhones() {
+        List<Student> largeStudents = generateStudents(10000);
+        largeStudents.add(largeStudents.get(0));
+        largeStudents.add(largeStudents.get(9999));
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(largeStudents.get(0).getPhone(),
+                largeStudents.get(9999).getPhone())).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniqueStudentList.setStudents(largeStudents));
+    }
+
+    private static List<Student> generateStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            students.add(new StudentBuilder(DANIEL).withPhone(String.format("%08d", i)).build());
+        }
+        return students;
+    }
+
+    @Test
+    public void endBatch_manyChanges_publishedAsSingleChange() {
+        uniqueStudentList.add(DANIEL);
+        List<Integer> changeCounts = new ArrayList<>();
+        uniqueStudentList.asUnmodifiableObservableList().addListener((ListChangeListener<Student>) change ->
+                changeCounts.add(1));
+
+        uniqueStudentList.beginBatch();
+        uniqueStudentList.add(AMY);
+        uniqueStudentList.remove(DANIEL);
+        assertTrue(uniqueStudentList.contains(AMY));
+        assertEquals(Collections.singletonList(DANIEL), uniqueStudentList.asUnmodifiableObservableList());
+
+        uniqueStudentList.endBatch();
+        assertEquals(Collections.singletonList(AMY), uniqueStudentList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(1), changeCounts);
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -8,11 +8,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_GENDER_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_PM;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
-import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
-import static seedu.address.testutil.TypicalPersons.ELLE;
-import static seedu.address.testutil.TypicalPersons.GEORGE;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -21,9 +18,10 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
-import seedu.address.model.tag.Tag;
 import seedu.address.testutil.TutorBuilder;
 import seedu.address.testutil.TypicalPersons;
 
@@ -107,29 +105,8 @@ public class UniqueTutorListTest {
         UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
         expectedUniqueTutorList.add(BOB);
         assertEquals(expectedUniqueTutorList, uniqueTutorList);
-    }
-
-    @Test
-    public void sortTutor_validInputModifyTutorList_success() {
-        TypicalPersons.getTypicalTutors().forEach(uniqueTutorList::add);
-        List<Tag> studentTagList = new ArrayList<>(ELLE.getTags());
-        UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
-        expectedUniqueTutorList.add(BENSON);
-        expectedUniqueTutorList.add(ALICE);
-        expectedUniqueTutorList.add(CARL);
-        uniqueTutorList.sortTutors(studentTagList);
-        assertEquals(expectedUniqueTutorList, uniqueTutorList);
-    }
-
-    @Test
-    public void sortTutor_validInputNoModification_success() {
-        TypicalPersons.getTypicalTutors().forEach(uniqueTutorList::add);
-        // Student chosen has no matching tags with any tutor
-        List<Tag> studentTagList = new ArrayList<>(GEORGE.getTags());
-        UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
-        uniqueTutorList.forEach(expectedUniqueTutorList::add);
-        uniqueTutorList.sortTutors(studentTagList);
-        assertEquals(expectedUniqueTutorList, uniqueTutorList);
+        assertFalse(uniqueTutorList.contains(ALICE));
+        assertTrue(uniqueTutorList.contains(BOB));
     }
 
     @Test
@@ -149,12 +126,20 @@ public class UniqueTutorListTest {
         assertThrows(PersonNotFoundException.class, () -> uniqueTutorList.remove(ALICE));
     }
 
+    @Test
+    public void remove_tutorWithSameIdentityDifferentFields_throwsTutorNotFoundException() {
+        uniqueTutorList.add(ALICE);
+        Tutor editedAlice = new TutorBuilder(ALICE).withGender(VALID_GENDER_BOB).build();
+        assertThrows(PersonNotFoundException.class, () -> uniqueTutorList.remove(editedAlice));
+    }
+
     @Test
     public void remove_existingTutor_removesTutor() {
         uniqueTutorList.add(ALICE);
         uniqueTutorList.remove(ALICE);
         UniqueTutorList expectedUniqueTutorList = new UniqueTutorList();
         assertEquals(expectedUniqueTutorList, uniqueTutorList);
+        assertFalse(uniqueTutorList.contains(ALICE));
     }
 
     @Test
@@ -193,14 +178,93 @@ public class UniqueTutorListTest {
     }
 
     @Test
-    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
-        assertThrows(UnsupportedOperationException.class, ()
-            -> uniqueTutorList.asUnmodifiableObservableList().remove(0));
+    public void setTutors_listWithDuplicateTutors_reportsEveryDuplicatePhone() {
+        List<Tutor> listWithDuplicateTutors = Arrays.asList(ALICE, BOB, ALICE, CARL, BOB);
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(ALICE.getPhone(), BOB.getPhone()))
+                .getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniqueTutorList.setTutors(listWithDuplicateTutors));
+        assertEquals(new UniqueTutorList(), uniqueTutorList);
+    }
+
+    @Test
+    public void setTutors_largeListWithDuplicates_reportsDuplicatePhones() {
+        List<Tutor> largeTutors = generateTutors(10000);
+        largeTutors.add(largeTutors.get(0));
+        largeTutors.add(largeTutors.get(9999));
+        String expectedMessage = new DuplicatePersonException(Arrays.asList(largeTutors.get(0).getPhone(),
+                largeTutors.get(9999).getPhone())).getMessage();
+        assertThrows(DuplicatePersonException.class, expectedMessage, () ->
+                uniqueTutorList.setTutors(largeTutors));
+    }
+
+    private static List<Tutor> generateTutors(int count) {
+        List<Tutor> tutors = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tutors.add(new TutorBuilder(ALICE).withPhone(String.format("%08d", i)).build());
+        }
+        return tutors;
     }
 
     @Test
-    public void sortTutor_nullInput_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> uniqueTutorList.sortTutors(null));
+    public void endBatch_manyChanges_publishedAsSingleChange() {
+        uniqueTutorList.add(ALICE);
+        List<Integer> changeCounts = new ArrayList<>();
+        uniqueTutorList.asUnmodifiableObservableList().addListener((ListChangeListener<Tutor>) change ->
+                changeCounts.add(1));
+
+        uniqueTutorList.beginBatch();
+        uniqueTutorList.add(BOB);
+        uniqueTutorList.add(CARL);
+        uniqueTutorList.remove(ALICE);
+
+        // identity checks see the changes straight away, but the observable list does not
+        assertTrue(uniqueTutorList.contains(CARL));
+        assertFalse(uniqueTutorList.contains(ALICE));
+        assertEquals(Collections.singletonList(ALICE), uniqueTutorList.asUnmodifiableObservableList());
+        assertEquals(Collections.emptyList(), changeCounts);
+
+        uniqueTutorList.endBatch();
+        assertEquals(Arrays.asList(BOB, CARL), uniqueTutorList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(1), changeCounts);
+    }
+
+    @Test
+    public void endBatch_nestedBatches_publishedWhenOutermostBatchEnds() {
+        List<Integer> changeCounts = new ArrayList<>();
+        uniqueTutorList.asUnmodifiableObservableList().addListener((ListChangeListener<Tutor>) change ->
+                changeCounts.add(1));
+
+        uniqueTutorList.beginBatch();
+        uniqueTutorList.beginBatch();
+        uniqueTutorList.add(ALICE);
+        uniqueTutorList.endBatch();
+        assertEquals(Collections.emptyList(), uniqueTutorList.asUnmodifiableObservableList());
+
+        uniqueTutorList.setTutors(Arrays.asList(BOB, CARL));
+        uniqueTutorList.endBatch();
+        assertEquals(Arrays.asList(BOB, CARL), uniqueTutorList.asUnmodifiableObservableList());
+        assertEquals(Collections.singletonList(1), changeCounts);
+    }
+
+    @Test
+    public void endBatch_noChanges_nothingPublished() {
+        uniqueTutorList.add(ALICE);
+        List<Integer> changeCounts = new ArrayList<>();
+        uniqueTutorList.asUnmodifiableObservableList().addListener((ListChangeListener<Tutor>) change ->
+                changeCounts.add(1));
+
+        uniqueTutorList.beginBatch();
+        uniqueTutorList.add(BOB);
+        uniqueTutorList.remove(BOB);
+        uniqueTutorList.endBatch();
+        assertEquals(Collections.emptyList(), changeCounts);
+    }
+
+    @Test
+    public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniqueTutorList.asUnmodifiableObservableList().remove(0));
     }
 
     @Test
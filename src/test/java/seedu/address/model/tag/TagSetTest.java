@@ -0,0 +1,94 @@
+package seedu.address.model.tag;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TagSetTest {
+    private static final Tag PM = Tag.of("PM");
+    private static final Tag SC = Tag.of("SC");
+    private static final Tag TP = Tag.of("TP");
+
+    private final TagSet mathAndScience = TagSet.of(Arrays.asList(SC, PM));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> TagSet.of(null));
+    }
+
+    @Test
+    public void ofMask_maskOfTagSet_equalTagSet() {
+        assertEquals(mathAndScience, TagSet.ofMask(mathAndScience.getMask()));
+        assertSame(TagSet.EMPTY, TagSet.ofMask(0));
+    }
+
+    @Test
+    public void ofMask_bitsForNoTag_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, TagSet.MESSAGE_INVALID_MASK, () -> TagSet.ofMask(1 << 31));
+        assertThrows(IllegalArgumentException.class, TagSet.MESSAGE_INVALID_MASK, () ->
+                TagSet.ofMask(1 << LevelSubjectCode.INVALID.ordinal()));
+    }
+
+    @Test
+    public void of_noTags_returnsEmpty() {
+        assertSame(TagSet.EMPTY, TagSet.of(new HashSet<>()));
+        assertTrue(TagSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    public void contains() {
+        assertTrue(mathAndScience.contains(PM));
+        assertTrue(mathAndScience.contains(Tag.of("sc")));
+        assertFalse(mathAndScience.contains(TP));
+        assertFalse(mathAndScience.contains("PM"));
+        assertEquals(2, mathAndScience.size());
+    }
+
+    @Test
+    public void iterator_tagsInLevelSubjectCodeOrder() {
+        assertEquals(Arrays.asList(PM, SC), Arrays.asList(mathAndScience.toArray()));
+    }
+
+    @Test
+    public void containsAnyAndCountCommon() {
+        TagSet scienceAndPhysics = TagSet.of(Arrays.asList(SC, TP));
+        assertTrue(mathAndScience.containsAny(scienceAndPhysics));
+        assertEquals(1, mathAndScience.countCommon(scienceAndPhysics));
+        assertFalse(mathAndScience.containsAny(TagSet.of(Arrays.asList(TP))));
+        assertEquals(0, mathAndScience.countCommon(TagSet.EMPTY));
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> mathAndScience.add(TP));
+        assertThrows(UnsupportedOperationException.class, () -> mathAndScience.remove(TP));
+        assertThrows(UnsupportedOperationException.class, () -> mathAndScience.clear());
+    }
+
+    @Test
+    public void equals() {
+        Set<Tag> hashSet = new HashSet<>(Arrays.asList(PM, SC));
+
+        // same tags -> returns true
+        assertTrue(mathAndScience.equals(TagSet.of(Arrays.asList(PM, SC))));
+
+        // same tags in another set -> returns true, with the same hash code
+        assertTrue(mathAndScience.equals(hashSet));
+        assertTrue(hashSet.equals(mathAndScience));
+        assertEquals(hashSet.hashCode(), mathAndScience.hashCode());
+
+        // different tags -> returns false
+        assertFalse(mathAndScience.equals(TagSet.of(Arrays.asList(PM, TP))));
+
+        // null -> returns false
+        assertFalse(mathAndScience.equals(null));
+    }
+}
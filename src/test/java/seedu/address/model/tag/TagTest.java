@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_PM;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_TP;
@@ -10,14 +11,19 @@ import org.junit.jupiter.api.Test;
 
 public class TagTest {
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameTagNameIgnoringCase_returnsSameInstance() {
+        assertSame(Tag.of(VALID_TAG_PM), Tag.of(VALID_TAG_PM.toLowerCase()));
     }
 
     @Test
@@ -28,9 +34,9 @@ public class TagTest {
 
     @Test
     public void equals() {
-        Tag tag = new Tag(VALID_TAG_PM);
-        Tag tagCopy = new Tag(VALID_TAG_PM);
-        Tag differentTag = new Tag(VALID_TAG_TP);
+        Tag tag = Tag.of(VALID_TAG_PM);
+        Tag tagCopy = Tag.of(VALID_TAG_PM);
+        Tag differentTag = Tag.of(VALID_TAG_TP);
 
         // same object -> return true
         assertTrue(tag.equals(tag));
@@ -0,0 +1,77 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.CliTutors;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+
+public class SyntheticDataGeneratorTest {
+    private static final long SEED = 42;
+
+    @Test
+    public void generateCliTutors_sameSeed_sameData() {
+        CliTutors first = new SyntheticDataGenerator(SEED).generateCliTutors(500, 500);
+        CliTutors second = new SyntheticDataGenerator(SEED).generateCliTutors(500, 500);
+        assertEquals(first, second);
+        assertEquals(500, first.getTutorList().size());
+        assertEquals(500, first.getStudentList().size());
+        assertTrue(first.getUnsavedChanges().isEmpty());
+    }
+
+    @Test
+    public void generateCliTutors_differentSeed_differentData() {
+        assertNotEquals(new SyntheticDataGenerator(SEED).generateCliTutors(100, 100),
+                new SyntheticDataGenerator(SEED + 1).generateCliTutors(100, 100));
+    }
+
+    @Test
+    public void generateCliTutors_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(SEED).generateCliTutors(-1, 0));
+    }
+
+    @Test
+    public void streams_sameAsGenerateCliTutors() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        List<Tutor> tutors = generator.tutors(300).collect(Collectors.toList());
+        CliTutors generated = new SyntheticDataGenerator(SEED).generateCliTutors(300, 200);
+
+        assertEquals(generated.getTutorList(), tutors);
+        assertEquals(generated.getStudentList(), generator.students(200).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void nextTutor_manyPersons_uniqueValidPhones() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        Set<Phone> phones = new HashSet<>();
+        for (int i = 0; i < 50_000; i++) {
+            Phone phone = (i % 2 == 0 ? generator.nextTutor() : generator.nextStudent()).getPhone();
+            assertTrue(Phone.isValidPhone(phone.value));
+            assertTrue(phones.add(phone));
+        }
+    }
+
+    @Test
+    public void nextTutor_manyTutors_popularTagsMoreCommon() {
+        List<Tutor> tutors = new SyntheticDataGenerator(SEED).tutors(10_000).collect(Collectors.toList());
+        long primaryMath = tutors.stream().filter(tutor -> tutor.getTags().contains(Tag.of("PM"))).count();
+        long tertiaryHistory = tutors.stream().filter(tutor -> tutor.getTags().contains(Tag.of("TH"))).count();
+        long moeTrained = tutors.stream().filter(tutor -> tutor.getQualification().index.equals("3")).count();
+        long university = tutors.stream().filter(tutor -> tutor.getQualification().index.equals("1")).count();
+
+        assertTrue(primaryMath > 5 * tertiaryHistory);
+        assertTrue(tertiaryHistory > 0);
+        assertTrue(university > 2 * moeTrained);
+    }
+}
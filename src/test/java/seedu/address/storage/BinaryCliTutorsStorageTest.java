@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalCliTutors;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.CliTutors;
+import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.testutil.TutorBuilder;
+
+public class BinaryCliTutorsStorageTest {
+    private static final Path JSON_TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonCliTutorsStorageTest");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readCliTutors_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryCliTutorsStorage(null).readCliTutors(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryCliTutorsStorage(testFolder.resolve("NonExistentFile.bin")).readCliTutors().isPresent());
+    }
+
+    @Test
+    public void read_jsonFile_exceptionThrown() {
+        Path jsonFilePath = JSON_TEST_DATA_FOLDER.resolve("notJsonFormatCliTutors.json");
+        assertThrows(DataConversionException.class, () -> new BinaryCliTutorsStorage(jsonFilePath).readCliTutors());
+    }
+
+    @Test
+    public void read_truncatedFile_exceptionThrown() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.bin");
+        new BinaryCliTutorsStorage(filePath).saveCliTutors(getTypicalCliTutors());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length - 3));
+
+        assertThrows(DataConversionException.class, () -> new BinaryCliTutorsStorage(filePath).readCliTutors());
+    }
+
+    @Test
+    public void readAndSaveCliTutors_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.bin");
+        CliTutors original = getTypicalCliTutors();
+        BinaryCliTutorsStorage binaryCliTutorsStorage = new BinaryCliTutorsStorage(filePath);
+
+        // Save in new file and read back
+        binaryCliTutorsStorage.saveCliTutors(original, filePath);
+        ReadOnlyCliTutors readBack = binaryCliTutorsStorage.readCliTutors(filePath).get();
+        assertEquals(original, new CliTutors(readBack));
+
+        // Modify data, overwrite exiting file, and read back
+        original.addTutor(HOON);
+        original.removeTutor(ALICE);
+        binaryCliTutorsStorage.saveCliTutors(original, filePath);
+        readBack = binaryCliTutorsStorage.readCliTutors(filePath).get();
+        assertEquals(original, new CliTutors(readBack));
+
+        // Save changes and read without specifying file path
+        original.addStudent(IDA);
+        binaryCliTutorsStorage.saveCliTutorsChanges(original, original.getUnsavedChanges());
+        readBack = binaryCliTutorsStorage.readCliTutors().get();
+        assertEquals(original, new CliTutors(readBack));
+        assertTrue(BinaryCliTutorsStorage.isBinarySnapshot(filePath));
+    }
+
+    @Test
+    public void saveCliTutors_nullCliTutors_throwsNullPointerException() {
+        BinaryCliTutorsStorage binaryCliTutorsStorage = new BinaryCliTutorsStorage(testFolder.resolve("a.bin"));
+        assertThrows(NullPointerException.class, () -> binaryCliTutorsStorage.saveCliTutors(null));
+    }
+
+    @Test
+    public void convertFromJson_inPlace_sameDataWithoutJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        jsonCliTutorsStorage.saveCliTutors(getTypicalCliTutors());
+        CliTutors cliTutors = new CliTutors(jsonCliTutorsStorage.readCliTutors().get());
+        cliTutors.setTutor(ALICE, new TutorBuilder(ALICE).withTags("SC").build());
+        cliTutors.removeStudent(DANIEL);
+        jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        long jsonSize = Files.size(filePath);
+
+        BinaryCliTutorsStorage.convertFromJson(filePath, filePath);
+
+        assertTrue(BinaryCliTutorsStorage.isBinarySnapshot(filePath));
+        assertTrue(Files.size(filePath) < jsonSize);
+        assertFalse(Files.exists(new JsonCliTutorsJournal(filePath).getJournalPath()));
+        assertEquals(cliTutors, new CliTutors(new BinaryCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void getSnapshotFilePath() {
+        assertEquals(Paths.get("data", "clitutors.bin"),
+                BinaryCliTutorsStorage.getSnapshotFilePath(Paths.get("data", "clitutors.json")));
+        assertEquals(Paths.get("data", "clitutors.bin"),
+                BinaryCliTutorsStorage.getSnapshotFilePath(Paths.get("data", "clitutors")));
+    }
+
+    @Test
+    public void convertToJson_staleJsonWithJournal_replacedBySnapshotData() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempCliTutors.json");
+        Path snapshotFilePath = BinaryCliTutorsStorage.getSnapshotFilePath(jsonFilePath);
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(jsonFilePath);
+        jsonCliTutorsStorage.saveCliTutors(getTypicalCliTutors());
+        CliTutors staleData = new CliTutors(jsonCliTutorsStorage.readCliTutors().get());
+        staleData.removeStudent(DANIEL);
+        jsonCliTutorsStorage.saveCliTutorsChanges(staleData, staleData.getUnsavedChanges());
+        BinaryCliTutorsStorage.convertFromJson(jsonFilePath, snapshotFilePath);
+
+        CliTutors latestData = new CliTutors(new BinaryCliTutorsStorage(snapshotFilePath).readCliTutors().get());
+        latestData.addTutor(HOON);
+        new BinaryCliTutorsStorage(snapshotFilePath).saveCliTutors(latestData);
+        BinaryCliTutorsStorage.convertToJson(snapshotFilePath, jsonFilePath);
+
+        assertFalse(BinaryCliTutorsStorage.isBinarySnapshot(jsonFilePath));
+        assertFalse(Files.exists(new JsonCliTutorsJournal(jsonFilePath).getJournalPath()));
+        assertEquals(latestData, new CliTutors(new JsonCliTutorsStorage(jsonFilePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void convertFromJson_invalidJson_jsonFileKept() throws Exception {
+        Path filePath = testFolder.resolve("invalidPersonCliTutors.json");
+        Files.copy(JSON_TEST_DATA_FOLDER.resolve("invalidPersonCliTutors.json"), filePath);
+        byte[] json = Files.readAllBytes(filePath);
+
+        assertThrows(DataConversionException.class, () -> BinaryCliTutorsStorage.convertFromJson(filePath, filePath));
+        assertTrue(Arrays.equals(json, Files.readAllBytes(filePath)));
+    }
+}
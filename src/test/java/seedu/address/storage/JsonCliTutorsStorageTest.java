@@ -2,22 +2,33 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalCliTutors;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.ReadOnlyCliTutors;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.TutorBuilder;
 
 public class JsonCliTutorsStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonCliTutorsStorageTest");
@@ -85,6 +96,162 @@ public class JsonCliTutorsStorageTest {
         assertEquals(original, new CliTutors(readBack));
     }
 
+    @Test
+    public void saveCliTutors_generatedStreams_sameAsGeneratedCliTutors() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        jsonCliTutorsStorage.saveCliTutors(generator.tutors(1000), generator.students(1000));
+
+        CliTutors expected = new SyntheticDataGenerator(7).generateCliTutors(1000, 1000);
+        assertEquals(expected, new CliTutors(jsonCliTutorsStorage.readCliTutors().get()));
+    }
+
+    @Test
+    public void saveCliTutorsChanges_afterRead_appendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        jsonCliTutorsStorage.saveCliTutors(getTypicalCliTutors());
+        String snapshot = FileUtil.readFromFile(filePath);
+
+        CliTutors cliTutors = new CliTutors(jsonCliTutorsStorage.readCliTutors().get());
+        cliTutors.addTutor(HOON);
+        cliTutors.setTutor(ALICE, new TutorBuilder(ALICE).withTags("SC").build());
+        cliTutors.removeStudent(DANIEL);
+        jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+
+        // the json file is left as it is, and the journal is replayed on top of it
+        assertEquals(snapshot, FileUtil.readFromFile(filePath));
+        assertTrue(Files.exists(new JsonCliTutorsJournal(filePath).getJournalPath()));
+        assertEquals(cliTutors, new CliTutors(jsonCliTutorsStorage.readCliTutors().get()));
+    }
+
+    @Test
+    public void saveCliTutorsChanges_reset_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        jsonCliTutorsStorage.saveCliTutors(getTypicalCliTutors());
+
+        CliTutors cliTutors = getTypicalCliTutors();
+        cliTutors.addTutor(HOON);
+        jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors, Collections.singletonList(CliTutorsChange.add(HOON)));
+        cliTutors.setStudents(Collections.emptyList());
+        jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+
+        assertFalse(Files.exists(new JsonCliTutorsJournal(filePath).getJournalPath()));
+        assertEquals(cliTutors, new CliTutors(new JsonCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void saveCliTutorsChanges_pastCompactionThreshold_compactsJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        CliTutors cliTutors = new CliTutors();
+        jsonCliTutorsStorage.saveCliTutors(cliTutors);
+
+        for (int i = 0; i <= JsonCliTutorsStorage.JOURNAL_COMPACTION_THRESHOLD; i++) {
+            Tutor tutor = new TutorBuilder(ALICE).withPhone(String.format("%08d", i)).build();
+            cliTutors.addTutor(tutor);
+            jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors,
+                    Collections.singletonList(CliTutorsChange.add(tutor)));
+        }
+
+        assertFalse(Files.exists(new JsonCliTutorsJournal(filePath).getJournalPath()));
+        assertEquals(cliTutors, new CliTutors(jsonCliTutorsStorage.readCliTutors().get()));
+    }
+
+    @Test
+    public void compactCliTutors_journalHoldsChanges_journalCompacted() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        jsonCliTutorsStorage.saveCliTutors(getTypicalCliTutors());
+        CliTutors cliTutors = getTypicalCliTutors();
+        cliTutors.addTutor(HOON);
+        jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors, Collections.singletonList(CliTutorsChange.add(HOON)));
+
+        jsonCliTutorsStorage.compactCliTutors(cliTutors);
+
+        assertFalse(Files.exists(new JsonCliTutorsJournal(filePath).getJournalPath()));
+        assertEquals(cliTutors, new CliTutors(new JsonCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void compactCliTutors_dataFileNotRead_dataFileLeftAsItIs() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        FileUtil.writeToFile(filePath, "not json");
+
+        new JsonCliTutorsStorage(filePath).compactCliTutors(new CliTutors());
+
+        assertEquals("not json", FileUtil.readFromFile(filePath));
+    }
+
+    @Test
+    public void readCliTutors_staleJournal_journalIgnored() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        CliTutors original = getTypicalCliTutors();
+        jsonCliTutorsStorage.saveCliTutors(original);
+        jsonCliTutorsStorage.saveCliTutorsChanges(original, Collections.singletonList(CliTutorsChange.add(HOON)));
+
+        // the json file is rewritten behind the journal's back
+        FileUtil.writeToFile(filePath, JsonUtil.toJsonString(new JsonSerializableCliTutors(original)) + " ");
+
+        assertEquals(original, new CliTutors(jsonCliTutorsStorage.readCliTutors().get()));
+    }
+
+    @Test
+    public void readCliTutors_journalNotApplicable_journalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        jsonCliTutorsStorage.saveCliTutors(new CliTutors());
+        jsonCliTutorsStorage.saveCliTutorsChanges(new CliTutors(),
+                Arrays.asList(CliTutorsChange.add(HOON), CliTutorsChange.delete(ALICE)));
+        Path journalPath = new JsonCliTutorsJournal(filePath).getJournalPath();
+        String journal = FileUtil.readFromFile(journalPath);
+
+        // the json file is read without any of the changes, and the journal is kept next to it
+        assertEquals(new CliTutors(), new CliTutors(jsonCliTutorsStorage.readCliTutors().get()));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(journal, FileUtil.readFromFile(journalPath.resolveSibling(journalPath.getFileName()
+                + JsonCliTutorsJournal.DAMAGED_JOURNAL_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void readCliTutors_journalDamaged_journalSetAside() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        CliTutors original = getTypicalCliTutors();
+        jsonCliTutorsStorage.saveCliTutors(original);
+        jsonCliTutorsStorage.saveCliTutorsChanges(original,
+                Arrays.asList(CliTutorsChange.add(HOON), CliTutorsChange.add(IDA)));
+        Path journalPath = new JsonCliTutorsJournal(filePath).getJournalPath();
+        FileUtil.writeToFile(journalPath, FileUtil.readFromFile(journalPath).replaceFirst("\\{\"type", "{"));
+
+        assertEquals(original, new CliTutors(jsonCliTutorsStorage.readCliTutors().get()));
+        assertFalse(Files.exists(journalPath));
+
+        // changes saved afterwards start a new journal
+        CliTutors cliTutors = new CliTutors(original);
+        cliTutors.addTutor(HOON);
+        jsonCliTutorsStorage.saveCliTutorsChanges(cliTutors, Collections.singletonList(CliTutorsChange.add(HOON)));
+        assertEquals(cliTutors, new CliTutors(new JsonCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void readCliTutors_savedFileEdited_editedDataValidated() throws Exception {
+        Path filePath = testFolder.resolve("TempCliTutors.json");
+        JsonCliTutorsStorage jsonCliTutorsStorage = new JsonCliTutorsStorage(filePath);
+        jsonCliTutorsStorage.saveCliTutors(getTypicalCliTutors());
+        String json = FileUtil.readFromFile(filePath);
+
+        FileUtil.writeToFile(filePath, json.replace(ALICE.getName().fullName, "Alice Tan"));
+        assertEquals(new TutorBuilder(ALICE).withName("Alice Tan").build(),
+                jsonCliTutorsStorage.readCliTutors().get().getTutorList().get(0));
+
+        FileUtil.writeToFile(filePath, json.replace(ALICE.getName().fullName, "Alice P@uline"));
+        assertThrows(DataConversionException.class, () -> jsonCliTutorsStorage.readCliTutors());
+    }
+
     @Test
     public void saveCliTutors_nullCliTutors_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveCliTutors(null, "SomeFile.json"));
@@ -3,14 +3,30 @@ package seedu.address.storage;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.CliTutors;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Tutor;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableCliTutorsTest {
@@ -21,6 +37,15 @@ public class JsonSerializableCliTutorsTest {
     private static final Path INVALID_STUDENT_FILE = TEST_DATA_FOLDER.resolve("invalidStudentCliTutors.json");
     private static final Path DUPLICATE_TUTOR_FILE = TEST_DATA_FOLDER.resolve("duplicateTutorCliTutors.json");
     private static final Path DUPLICATE_STUDENT_FILE = TEST_DATA_FOLDER.resolve("duplicateStudentCliTutors.json");
+    private static final String DUPLICATE_TUTOR_MESSAGE = String.format(
+            JsonSerializableCliTutors.MESSAGE_DUPLICATE_TUTOR,
+            String.format(JsonSerializableCliTutors.MESSAGE_DUPLICATE_RECORD, 1, "94351253", 0));
+    private static final String DUPLICATE_STUDENT_MESSAGE = String.format(
+            JsonSerializableCliTutors.MESSAGE_DUPLICATE_STUDENT,
+            String.format(JsonSerializableCliTutors.MESSAGE_DUPLICATE_RECORD, 1, "87652533", 0));
+    /** Enough persons to be converted in more than one batch */
+    private static final int LARGE_BOOK_SIZE = 10_000;
+    private static final int INVALID_INDEX = 9_000;
 
     @Test
     public void toModelType_typicalPersonsFile_success() throws Exception {
@@ -49,16 +74,180 @@ public class JsonSerializableCliTutorsTest {
     public void toModelType_duplicateTutors_throwsIllegalValueException() throws Exception {
         JsonSerializableCliTutors dataFromFile = JsonUtil.readJsonFile(DUPLICATE_TUTOR_FILE,
                 JsonSerializableCliTutors.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableCliTutors.MESSAGE_DUPLICATE_TUTOR,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, DUPLICATE_TUTOR_MESSAGE, dataFromFile::toModelType);
     }
 
     @Test
     public void toModelType_duplicateStudents_throwsIllegalValueException() throws Exception {
         JsonSerializableCliTutors dataFromFile = JsonUtil.readJsonFile(DUPLICATE_STUDENT_FILE,
                 JsonSerializableCliTutors.class).get();
-        assertThrows(IllegalValueException.class, JsonSerializableCliTutors.MESSAGE_DUPLICATE_STUDENT,
-                dataFromFile::toModelType);
+        assertThrows(IllegalValueException.class, DUPLICATE_STUDENT_MESSAGE, dataFromFile::toModelType);
+    }
+
+    @Test
+    public void readFrom_typicalPersonsFile_success() throws Exception {
+        try (InputStream in = Files.newInputStream(TYPICAL_PERSONS_FILE);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            assertEquals(TypicalPersons.getTypicalCliTutors(), JsonSerializableCliTutors.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void readFrom_invalidTutorFile_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_TUTOR_FILE);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            assertThrows(IllegalValueException.class, () -> JsonSerializableCliTutors.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void readFrom_duplicateStudents_throwsIllegalValueException() throws Exception {
+        try (InputStream in = Files.newInputStream(DUPLICATE_STUDENT_FILE);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            assertThrows(IllegalValueException.class, DUPLICATE_STUDENT_MESSAGE, () ->
+                    JsonSerializableCliTutors.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void readFrom_notJsonObject_throwsIoException() throws Exception {
+        assertThrows(IOException.class, () -> readFrom("[]"));
+        assertThrows(IOException.class, () -> readFrom("{\"tutors\": {}}"));
+        assertThrows(IOException.class, () -> readFrom("{\"tutors\": ["));
+    }
+
+    @Test
+    public void readFrom_missingOrNullLists_emptyCliTutors() throws Exception {
+        assertEquals(new CliTutors(), readFrom("{}"));
+        assertEquals(new CliTutors(), readFrom("{\"tutors\": null, \"students\": [], \"unknown\": [1]}"));
+    }
+
+    @Test
+    public void writeTo_typicalPersons_sameAsTreeSerialization() throws Exception {
+        CliTutors cliTutors = TypicalPersons.getTypicalCliTutors();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JsonUtil.createGenerator(out)) {
+            JsonSerializableCliTutors.writeTo(cliTutors, generator);
+        }
+
+        String json = out.toString(StandardCharsets.UTF_8);
+        assertEquals(JsonUtil.toJsonString(new JsonSerializableCliTutors(cliTutors)), json);
+        assertEquals(cliTutors, readFrom(json));
+    }
+
+    @Test
+    public void toModelType_largeBook_success() throws Exception {
+        CliTutors cliTutors = new SyntheticDataGenerator(1).generateCliTutors(LARGE_BOOK_SIZE, LARGE_BOOK_SIZE);
+        assertEquals(cliTutors, new JsonSerializableCliTutors(cliTutors).toModelType());
+    }
+
+    @Test
+    public void readFrom_largeBook_success() throws Exception {
+        CliTutors cliTutors = new SyntheticDataGenerator(1).generateCliTutors(LARGE_BOOK_SIZE, LARGE_BOOK_SIZE);
+        assertEquals(cliTutors, readFrom(JsonUtil.toJsonString(new JsonSerializableCliTutors(cliTutors))));
+    }
+
+    @Test
+    public void toModelType_invalidTutorInLargeBook_throwsIllegalValueExceptionWithIndex() throws Exception {
+        CliTutors cliTutors = new SyntheticDataGenerator(1).generateCliTutors(LARGE_BOOK_SIZE, 0);
+        String json = withInvalidPhone(cliTutors, cliTutors.getTutorList().get(INVALID_INDEX));
+        String expectedMessage = String.format(JsonSerializableCliTutors.MESSAGE_INVALID_RECORD, "tutor",
+                INVALID_INDEX, Phone.MESSAGE_CONSTRAINTS);
+
+        JsonSerializableCliTutors data = JsonUtil.fromJsonString(json, JsonSerializableCliTutors.class);
+        assertThrows(IllegalValueException.class, expectedMessage, data::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> readFrom(json));
     }
 
+    @Test
+    public void toModelType_duplicateTutorInLargeBook_throwsIllegalValueExceptionWithIndexes() throws Exception {
+        CliTutors cliTutors = new SyntheticDataGenerator(1).generateCliTutors(LARGE_BOOK_SIZE, 0);
+        Phone duplicatePhone = cliTutors.getTutorList().get(1).getPhone();
+        String json = JsonUtil.toJsonString(new JsonSerializableCliTutors(cliTutors)).replace(
+                "\"" + cliTutors.getTutorList().get(INVALID_INDEX).getPhone().value + "\"",
+                "\"" + duplicatePhone.value + "\"");
+        String expectedMessage = String.format(JsonSerializableCliTutors.MESSAGE_DUPLICATE_TUTOR,
+                String.format(JsonSerializableCliTutors.MESSAGE_DUPLICATE_RECORD, INVALID_INDEX, duplicatePhone, 1));
+
+        JsonSerializableCliTutors data = JsonUtil.fromJsonString(json, JsonSerializableCliTutors.class);
+        assertThrows(IllegalValueException.class, expectedMessage, data::toModelType);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> readFrom(json));
+    }
+
+    @Test
+    public void readFrom_invalidStudentFile_throwsIllegalValueExceptionWithIndex() throws Exception {
+        try (InputStream in = Files.newInputStream(INVALID_STUDENT_FILE);
+                JsonParser parser = JsonUtil.createParser(in)) {
+            assertThrows(IllegalValueException.class, String.format(JsonSerializableCliTutors.MESSAGE_INVALID_RECORD,
+                    "student", 0, Tag.MESSAGE_CONSTRAINTS), () -> JsonSerializableCliTutors.readFrom(parser));
+        }
+    }
+
+    @Test
+    public void readTrustedFrom_savedData_success() throws Exception {
+        CliTutors cliTutors = TypicalPersons.getTypicalCliTutors();
+        String json = JsonUtil.toJsonString(new JsonSerializableCliTutors(cliTutors));
+        assertEquals(Optional.of(cliTutors), readTrustedFrom(json));
+    }
+
+    @Test
+    public void readTrustedFrom_noSchemaVersion_empty() throws Exception {
+        assertEquals(Optional.empty(), readTrustedFrom(FileUtil.readFromFile(TYPICAL_PERSONS_FILE)));
+    }
+
+    @Test
+    public void readTrustedFrom_otherSchemaVersion_empty() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableCliTutors(TypicalPersons.getTypicalCliTutors()));
+        String otherVersionJson = json.replace("\"schemaVersion\" : " + JsonSerializableCliTutors.SCHEMA_VERSION,
+                "\"schemaVersion\" : " + (JsonSerializableCliTutors.SCHEMA_VERSION + 1));
+        assertEquals(Optional.empty(), readTrustedFrom(otherVersionJson));
+    }
+
+    @Test
+    public void readTrustedFrom_editedData_empty() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableCliTutors(TypicalPersons.getTypicalCliTutors()));
+        String validName = TypicalPersons.ALICE.getName().fullName;
+
+        // edited to another valid value, which is read as it is once validated
+        String editedJson = json.replace(validName, "Alice Tan");
+        assertEquals(Optional.empty(), readTrustedFrom(editedJson));
+        assertEquals(new Name("Alice Tan"), readFrom(editedJson).getTutorList().get(0).getName());
+
+        // edited to an invalid value, which fails validation
+        String invalidJson = json.replace(validName, "Alice P@uline");
+        assertEquals(Optional.empty(), readTrustedFrom(invalidJson));
+        assertThrows(IllegalValueException.class, () -> readFrom(invalidJson));
+    }
+
+    @Test
+    public void toModelType_editedData_validated() throws Exception {
+        String json = JsonUtil.toJsonString(new JsonSerializableCliTutors(TypicalPersons.getTypicalCliTutors()));
+        String invalidJson = json.replace(TypicalPersons.ALICE.getName().fullName, "Alice P@uline");
+        JsonSerializableCliTutors data = JsonUtil.fromJsonString(invalidJson, JsonSerializableCliTutors.class);
+        assertThrows(IllegalValueException.class, data::toModelType);
+    }
+
+    /**
+     * Returns {@code cliTutors} in JSON, with an invalid phone for {@code tutor}.
+     */
+    private static String withInvalidPhone(CliTutors cliTutors, Tutor tutor) throws IOException {
+        String json = JsonUtil.toJsonString(new JsonSerializableCliTutors(cliTutors));
+        String phone = "\"" + tutor.getPhone().value + "\"";
+        assertEquals(json.indexOf(phone), json.lastIndexOf(phone));
+        return json.replace(phone, "\"9x\"");
+    }
+
+    private static Optional<CliTutors> readTrustedFrom(String json) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            return JsonSerializableCliTutors.readTrustedFrom(parser);
+        }
+    }
+
+    private static CliTutors readFrom(String json) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(
+                new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)))) {
+            return JsonSerializableCliTutors.readFrom(parser);
+        }
+    }
 }
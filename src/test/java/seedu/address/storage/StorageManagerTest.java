@@ -1,10 +1,21 @@
 package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalCliTutors;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +23,10 @@ import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.CliTutors;
+import seedu.address.model.CliTutorsChange;
 import seedu.address.model.ReadOnlyCliTutors;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TutorBuilder;
 
 public class StorageManagerTest {
     @TempDir
@@ -59,6 +72,94 @@ public class StorageManagerTest {
         assertEquals(original, new CliTutors(retrieved));
     }
 
+    @Test
+    public void saveCliTutorsChanges_writeBehind_savedByFlush() throws Exception {
+        Path filePath = getTempFilePath("writeBehind");
+        StorageManager writeBehindStorage = new StorageManager(new JsonCliTutorsStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        writeBehindStorage.saveCliTutors(getTypicalCliTutors());
+
+        CliTutors cliTutors = new CliTutors(writeBehindStorage.readCliTutors().get());
+        cliTutors.addTutor(HOON);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        cliTutors.markSaved();
+        cliTutors.setTutor(ALICE, new TutorBuilder(ALICE).withTags("SC").build());
+        cliTutors.removeStudent(DANIEL);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        cliTutors.markSaved();
+        CliTutors expected = new CliTutors(cliTutors);
+
+        // changes made after the last save are not saved
+        cliTutors.addStudent(IDA);
+
+        writeBehindStorage.flush();
+        assertEquals(expected, new CliTutors(new JsonCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void compactCliTutors_writeBehind_changesSavedInDataFile() throws Exception {
+        Path filePath = getTempFilePath("compact");
+        StorageManager writeBehindStorage = new StorageManager(new JsonCliTutorsStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        writeBehindStorage.saveCliTutors(getTypicalCliTutors());
+
+        CliTutors cliTutors = new CliTutors(writeBehindStorage.readCliTutors().get());
+        cliTutors.addTutor(HOON);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        cliTutors.markSaved();
+        writeBehindStorage.compactCliTutors(cliTutors);
+
+        assertFalse(Files.exists(new JsonCliTutorsJournal(filePath).getJournalPath()));
+        assertEquals(cliTutors, new CliTutors(new JsonCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void saveCliTutorsChanges_writeBehindReset_savedFromNewSnapshot() throws Exception {
+        Path filePath = getTempFilePath("writeBehindReset");
+        StorageManager writeBehindStorage = new StorageManager(new JsonCliTutorsStorage(filePath),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        CliTutors cliTutors = getTypicalCliTutors();
+        cliTutors.addTutor(HOON);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        cliTutors.markSaved();
+
+        cliTutors.setStudents(Collections.singletonList(IDA));
+        cliTutors.removeTutor(ALICE);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        cliTutors.markSaved();
+        cliTutors.removeTutor(HOON);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+        cliTutors.markSaved();
+
+        writeBehindStorage.flush();
+        assertEquals(cliTutors, new CliTutors(new JsonCliTutorsStorage(filePath).readCliTutors().get()));
+    }
+
+    @Test
+    public void saveCliTutorsChanges_writeBehindFails_errorReportedAndFlushThrows() throws Exception {
+        IOException dummyIoException = new IOException("dummy exception");
+        CliTutorsStorage failingStorage = new JsonCliTutorsStorage(getTempFilePath("failing")) {
+            @Override
+            public void saveCliTutorsChanges(ReadOnlyCliTutors cliTutors, List<CliTutorsChange> changes)
+                    throws IOException {
+                throw dummyIoException;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<IOException> reportedErrors = Collections.synchronizedList(new ArrayList<>());
+        writeBehindStorage.setSaveErrorHandler(reportedErrors::add);
+
+        CliTutors cliTutors = getTypicalCliTutors();
+        cliTutors.addTutor(HOON);
+        writeBehindStorage.saveCliTutorsChanges(cliTutors, cliTutors.getUnsavedChanges());
+
+        // the failed changes are kept, so flush tries them again
+        assertThrows(IOException.class, writeBehindStorage::flush);
+        assertEquals(Collections.singletonList(dummyIoException), reportedErrors);
+        assertThrows(IOException.class, writeBehindStorage::flush);
+    }
+
     @Test
     public void getCliTutorsFilePath() {
         assertNotNull(storageManager.getCliTutorsFilePath());
@@ -75,7 +75,7 @@ public class EditStudentDescriptorBuilder {
      * that we are building.
      */
     public EditStudentDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }
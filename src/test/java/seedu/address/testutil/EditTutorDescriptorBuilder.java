@@ -84,7 +84,7 @@ public class EditTutorDescriptorBuilder {
      * that we are building.
      */
     public EditTutorDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }
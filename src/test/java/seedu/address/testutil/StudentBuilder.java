@@ -35,7 +35,7 @@ public class StudentBuilder {
         gender = new Gender(DEFAULT_GENDER);
         remark = new Remark();
         tags = new HashSet<>();
-        tags.add(new Tag(DEFAULT_TAG));
+        tags.add(Tag.of(DEFAULT_TAG));
     }
 
     /**
@@ -39,7 +39,7 @@ public class TutorBuilder {
         qualification = new Qualification(DEFAULT_QUALIFICATION);
         remark = new Remark();
         tags = new HashSet<>();
-        tags.add(new Tag(DEFAULT_TAG));
+        tags.add(Tag.of(DEFAULT_TAG));
     }
 
     /**